@@ -208,6 +208,14 @@ public interface BinanceApiAsyncRestClient {
    */
   void getOpenOrders(OrderRequest orderRequest, BinanceApiCallback<List<Order>> callback);
 
+  /**
+   * Cancel all active orders on a symbol, including those of order lists (asynchronous).
+   *
+   * @param orderRequest order request parameters
+   * @param callback the callback that handles the response
+   */
+  void cancelOpenOrders(OrderRequest orderRequest, BinanceApiCallback<List<CancelOrderResponse>> callback);
+
   /**
    * Get all account orders; active, canceled, or filled.
    *
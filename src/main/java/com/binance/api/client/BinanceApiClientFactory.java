@@ -2,12 +2,44 @@ package com.binance.api.client;
 
 import com.binance.api.client.impl.*;
 import com.binance.api.client.config.BinanceApiConfig;
+import com.binance.api.client.config.RequestLane;
+import com.binance.api.client.ratelimit.BackoffInterceptor;
+import com.binance.api.client.ratelimit.RateLimitInterceptor;
+import com.binance.api.client.ratelimit.RateLimiter;
+import com.binance.api.client.security.PrivateKeySigner;
+import com.binance.api.client.security.RequestSigner;
+import com.binance.api.client.security.TimestampInterceptor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+import java.io.Closeable;
+import java.net.Proxy;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.binance.api.client.impl.BinanceApiServiceGenerator.createSignedService;
+import static com.binance.api.client.impl.BinanceApiServiceGenerator.newSigner;
 import static com.binance.api.client.impl.BinanceApiServiceGenerator.getSharedClient;
 
 /**
  * A factory for creating BinanceApi client objects.
+ * <p>
+ * Every factory has its own endpoints and HTTP client, so that factories with different settings can be used in the
+ * same process. Factories created through {@link #builder()} own their connection pool and dispatcher, while those
+ * created through <code>newInstance</code> share the default HTTP client.
  */
-public class BinanceApiClientFactory {
+public class BinanceApiClientFactory implements Closeable {
 
   /**
    * API Key
@@ -15,9 +47,54 @@ public class BinanceApiClientFactory {
   private String apiKey;
 
   /**
-   * Secret.
+   * Signer of requests, with the secret or private key of the API key.
+   */
+  private final RequestSigner signer;
+
+  /**
+   * HTTP client shared by all clients of this factory.
+   */
+  private final OkHttpClient httpClient;
+
+  /**
+   * REST API base URL.
+   */
+  private final String apiBaseUrl;
+
+  /**
+   * Streaming API base URL.
+   */
+  private final String streamApiBaseUrl;
+
+  /**
+   * Combined streaming API base URL.
+   */
+  private final String combinedStreamApiBaseUrl;
+
+  /**
+   * WebSocket API URL.
+   */
+  private final String webSocketApiUrl;
+
+  /**
+   * HTTP clients of the lanes with their own transport, by lane.
    */
-  private String secret;
+  private final Map<RequestLane, OkHttpClient> laneClients;
+
+  /**
+   * Lanes by service method name, overriding the {@link com.binance.api.client.config.Lane} annotations.
+   */
+  private final Map<String, RequestLane> laneAssignments;
+
+  /**
+   * Executor completing the futures of the completable clients, unless one is given.
+   */
+  private final Executor executor;
+
+  /**
+   * Estimate of the server time signed requests are stamped with, if the clock is synchronized.
+   */
+  private final ServerClock serverClock;
 
   /**
    * Instantiates a new binance api client factory.
@@ -26,10 +103,7 @@ public class BinanceApiClientFactory {
    * @param secret the Secret
    */
   private BinanceApiClientFactory(String apiKey, String secret) {
-    this.apiKey = apiKey;
-    this.secret = secret;
-    BinanceApiConfig.useTestnet = false;
-    BinanceApiConfig.useTestnetStreaming = false;
+    this(apiKey, secret, false, false);
   }
 
   /**
@@ -41,10 +115,25 @@ public class BinanceApiClientFactory {
    * @param useTestnetStreaming true for spot test network websocket streaming; false for no streaming.
    */
   private BinanceApiClientFactory(String apiKey, String secret, boolean useTestnet, boolean useTestnetStreaming) {
-      this(apiKey, secret);
-      if (useTestnet) {
-        BinanceApiConfig.useTestnet = true;
-        BinanceApiConfig.useTestnetStreaming = useTestnetStreaming; }
+    this(apiKey, newSigner(secret), useTestnet, useTestnetStreaming, getSharedClient(), Collections.emptyMap(),
+        Collections.emptyMap(), ForkJoinPool.commonPool(), null);
+  }
+
+  private BinanceApiClientFactory(String apiKey, RequestSigner signer, boolean useTestnet, boolean useTestnetStreaming, OkHttpClient httpClient,
+                                  Map<RequestLane, OkHttpClient> laneClients, Map<String, RequestLane> laneAssignments,
+                                  Executor executor, ServerClock serverClock) {
+    this.apiKey = apiKey;
+    this.signer = signer;
+    this.httpClient = httpClient;
+    this.laneClients = laneClients;
+    this.laneAssignments = laneAssignments;
+    this.executor = executor;
+    this.serverClock = serverClock;
+    this.apiBaseUrl = useTestnet ? BinanceApiConfig.getTestNetBaseUrl() : BinanceApiConfig.getApiBaseUrl();
+    boolean testnetStreaming = useTestnet && useTestnetStreaming;
+    this.streamApiBaseUrl = testnetStreaming ? BinanceApiConfig.getStreamTestNetBaseUrl() : BinanceApiConfig.getStreamApiBaseUrl();
+    this.combinedStreamApiBaseUrl = testnetStreaming ? BinanceApiConfig.getCombinedStreamTestNetBaseUrl() : BinanceApiConfig.getCombinedStreamApiBaseUrl();
+    this.webSocketApiUrl = useTestnet ? BinanceApiConfig.getWebSocketApiTestNetUrl() : BinanceApiConfig.getWebSocketApiUrl();
   }
 
   /**
@@ -94,45 +183,605 @@ public class BinanceApiClientFactory {
     return new BinanceApiClientFactory(null, null, useTestnet, useTestnetStreaming);
   }
 
+  /**
+   * New builder, to configure the credentials, endpoints and HTTP transport of a factory.
+   *
+   * @return the builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
   /**
    * Creates a new synchronous/blocking REST client.
    */
   public BinanceApiRestClient newRestClient() {
-    return new BinanceApiRestClientImpl(apiKey, secret);
+    return new BinanceApiRestClientImpl(newService());
   }
 
   /**
    * Creates a new asynchronous/non-blocking REST client.
    */
   public BinanceApiAsyncRestClient newAsyncRestClient() {
-    return new BinanceApiAsyncRestClientImpl(apiKey, secret);
+    return new BinanceApiAsyncRestClientImpl(newService());
   }
 
   /**
    * Creates a new asynchronous/non-blocking Margin REST client.
    */
   public BinanceApiAsyncMarginRestClient newAsyncMarginRestClient() {
-    return new BinanceApiAsyncMarginRestClientImpl(apiKey, secret);
+    return new BinanceApiAsyncMarginRestClientImpl(newService());
   }
 
   /**
    * Creates a new synchronous/blocking Margin REST client.
    */
   public BinanceApiMarginRestClient newMarginRestClient() {
-    return new BinanceApiMarginRestClientImpl(apiKey, secret);
+    return new BinanceApiMarginRestClientImpl(newService());
   }
 
   /**
    * Creates a new web socket client used for handling data streams.
    */
   public BinanceApiWebSocketClient newWebSocketClient() {
-    return new BinanceApiWebSocketClientImpl(getSharedClient());
+    return new BinanceApiWebSocketClientImpl(httpClient, streamApiBaseUrl, combinedStreamApiBaseUrl);
+  }
+
+  /**
+   * Creates a new WebSocket API trading client, opening its web socket. Requests are stamped with the server clock of
+   * the factory, if synchronized, and their futures completed on the executor of the factory (by default the common
+   * fork/join pool).
+   */
+  public BinanceApiWebSocketTradingClient newWebSocketTradingClient() {
+    return new BinanceApiWebSocketTradingClientImpl(httpClient, webSocketApiUrl, apiKey, signer,
+        serverClock != null ? serverClock::currentTimeMillis : System::currentTimeMillis, executor);
   }
 
   /**
    * Creates a new synchronous/blocking Swap REST client.
    */
   public BinanceApiSwapRestClient newSwapRestClient() {
-    return new BinanceApiSwapRestClientImpl(apiKey, secret);
+    return new BinanceApiSwapRestClientImpl(newService());
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking REST client returning futures, completed on the executor of the factory
+   * (by default the common fork/join pool).
+   */
+  public BinanceApiCompletableRestClient newCompletableRestClient() {
+    return newCompletableRestClient(executor);
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking REST client returning futures.
+   *
+   * @param executor the executor completing the futures, and thus running the stages chained on them
+   */
+  public BinanceApiCompletableRestClient newCompletableRestClient(Executor executor) {
+    return new BinanceApiCompletableRestClientImpl(newService(), executor);
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking Margin REST client returning futures, completed on the executor of the
+   * factory (by default the common fork/join pool).
+   */
+  public BinanceApiCompletableMarginRestClient newCompletableMarginRestClient() {
+    return newCompletableMarginRestClient(executor);
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking Margin REST client returning futures.
+   *
+   * @param executor the executor completing the futures, and thus running the stages chained on them
+   */
+  public BinanceApiCompletableMarginRestClient newCompletableMarginRestClient(Executor executor) {
+    return new BinanceApiCompletableMarginRestClientImpl(newService(), executor);
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking Swap REST client returning futures, completed on the executor of the
+   * factory (by default the common fork/join pool).
+   */
+  public BinanceApiCompletableSwapRestClient newCompletableSwapRestClient() {
+    return newCompletableSwapRestClient(executor);
+  }
+
+  /**
+   * Creates a new asynchronous/non-blocking Swap REST client returning futures.
+   *
+   * @param executor the executor completing the futures, and thus running the stages chained on them
+   */
+  public BinanceApiCompletableSwapRestClient newCompletableSwapRestClient(Executor executor) {
+    return new BinanceApiCompletableSwapRestClientImpl(newService(), executor);
+  }
+
+  /**
+   * @return the HTTP client shared by all clients of this factory.
+   */
+  public OkHttpClient getHttpClient() {
+    return httpClient;
+  }
+
+  /**
+   * @return the HTTP client of a lane.
+   */
+  public OkHttpClient getHttpClient(RequestLane lane) {
+    return laneClients.getOrDefault(lane, httpClient);
+  }
+
+  /**
+   * Open pooled connections of a lane now, and keep them open with periodic pings, so that requests do not wait for a
+   * connection handshake. The connection pool of the lane must keep at least as many idle connections, and the
+   * interval must be shorter than its keep-alive, see {@link Builder#lane(RequestLane, int, int, long, TimeUnit)}.
+   *
+   * @param lane the lane whose connections to keep open
+   * @param connections the number of connections to keep open
+   * @param interval the interval between two rounds of pings
+   * @param timeUnit the unit of the interval
+   * @return the started warmer, to be closed to stop pinging
+   */
+  public ConnectionWarmer warmUp(RequestLane lane, int connections, long interval, TimeUnit timeUnit) {
+    return new ConnectionWarmer(getHttpClient(lane), apiBaseUrl, connections, interval, timeUnit).start();
+  }
+
+  /**
+   * @return the estimate of the server time signed requests are stamped with, or null if the clock is not
+   * synchronized, see {@link Builder#clockSync(long, TimeUnit)}.
+   */
+  public ServerClock getServerClock() {
+    return serverClock;
+  }
+
+  /**
+   * Stop synchronizing the server clock, if any. Clients of this factory keep stamping requests with the latest
+   * estimate of the server time.
+   */
+  @Override
+  public void close() {
+    if (serverClock != null) {
+      serverClock.close();
+    }
+  }
+
+  /**
+   * @return the REST API base URL of this factory.
+   */
+  public String getApiBaseUrl() {
+    return apiBaseUrl;
+  }
+
+  private BinanceApiService newService() {
+    if (laneClients.isEmpty()) {
+      return createSignedService(BinanceApiService.class, apiKey, signer, httpClient, apiBaseUrl);
+    }
+    Map<RequestLane, OkHttpClient> clients = new EnumMap<>(RequestLane.class);
+    for (RequestLane lane : RequestLane.values()) {
+      clients.put(lane, getHttpClient(lane));
+    }
+    return createSignedService(BinanceApiService.class, apiKey, signer, clients, apiBaseUrl, laneAssignments);
+  }
+
+  /**
+   * Builder of a {@link BinanceApiClientFactory} with its own HTTP transport.
+   * <p>
+   * Unless a base {@link OkHttpClient} is given, the factory gets a new connection pool and dispatcher, with at most
+   * {@value BinanceApiServiceGenerator#DEFAULT_MAX_REQUESTS} concurrent requests and web socket pings every
+   * {@value BinanceApiServiceGenerator#DEFAULT_PING_INTERVAL_SECONDS} seconds. Settings left unset keep the OkHttp
+   * defaults (or those of the base client).
+   */
+  public static class Builder {
+
+    private String apiKey;
+
+    private String secret;
+
+    private RequestSigner signer;
+
+    private boolean useTestnet;
+
+    private boolean useTestnetStreaming;
+
+    private OkHttpClient baseClient;
+
+    private ConnectionPool connectionPool;
+
+    private long keepAliveMillis = TimeUnit.MINUTES.toMillis(BinanceApiServiceGenerator.DEFAULT_KEEP_ALIVE_MINUTES);
+
+    private Integer maxRequests;
+
+    private Integer maxRequestsPerHost;
+
+    private Long connectTimeoutMillis;
+
+    private Long readTimeoutMillis;
+
+    private Long writeTimeoutMillis;
+
+    private Long pingIntervalMillis;
+
+    private Dns dns;
+
+    private Proxy proxy;
+
+    private List<Protocol> protocols;
+
+    private EventListener.Factory eventListenerFactory;
+
+    private RateLimiter rateLimiter;
+
+    private Integer backoffMaxRetries;
+
+    private Long backoffMaxWaitMillis;
+
+    private ExecutorService executor;
+
+    private Long clockSyncIntervalMillis;
+
+    private Long recvWindowMillis;
+
+    private final Map<RequestLane, long[]> lanes = new EnumMap<>(RequestLane.class);
+
+    private final Map<String, RequestLane> laneAssignments = new HashMap<>();
+
+    private Builder() {
+    }
+
+    /**
+     * @param apiKey the API key
+     * @param secret the Secret
+     */
+    public Builder credentials(String apiKey, String secret) {
+      this.apiKey = apiKey;
+      this.secret = secret;
+      this.signer = null;
+      return this;
+    }
+
+    /**
+     * Sign requests with an Ed25519 or RSA API key, rather than with the secret of an HMAC one.
+     *
+     * @param apiKey the API key
+     * @param signer the signer with the private key registered for the API key, e.g.
+     *               {@link PrivateKeySigner#ed25519(String)}
+     */
+    public Builder credentials(String apiKey, RequestSigner signer) {
+      this.apiKey = apiKey;
+      this.secret = null;
+      this.signer = signer;
+      return this;
+    }
+
+    /**
+     * @param useTestnet true if endpoint is spot test network URL; false if endpoint is production spot API URL.
+     */
+    public Builder useTestnet(boolean useTestnet) {
+      this.useTestnet = useTestnet;
+      return this;
+    }
+
+    /**
+     * @param useTestnetStreaming true for spot test network websocket streaming, when using the test network.
+     */
+    public Builder useTestnetStreaming(boolean useTestnetStreaming) {
+      this.useTestnetStreaming = useTestnetStreaming;
+      return this;
+    }
+
+    /**
+     * Start from the settings of an existing client, sharing its connection pool and dispatcher unless they are
+     * configured here.
+     */
+    public Builder httpClient(OkHttpClient baseClient) {
+      this.baseClient = baseClient;
+      return this;
+    }
+
+    /**
+     * @param maxIdleConnections the maximum number of idle connections kept open
+     * @param keepAliveDuration how long an idle connection is kept open
+     * @param timeUnit the unit of the keep-alive duration
+     */
+    public Builder connectionPool(int maxIdleConnections, long keepAliveDuration, TimeUnit timeUnit) {
+      this.connectionPool = new ConnectionPool(maxIdleConnections, keepAliveDuration, timeUnit);
+      this.keepAliveMillis = timeUnit.toMillis(keepAliveDuration);
+      return this;
+    }
+
+    /**
+     * @param maxRequests the maximum number of concurrent asynchronous requests
+     */
+    public Builder maxRequests(int maxRequests) {
+      this.maxRequests = maxRequests;
+      return this;
+    }
+
+    /**
+     * @param maxRequestsPerHost the maximum number of concurrent asynchronous requests to a host
+     */
+    public Builder maxRequestsPerHost(int maxRequestsPerHost) {
+      this.maxRequestsPerHost = maxRequestsPerHost;
+      return this;
+    }
+
+    public Builder connectTimeout(long timeout, TimeUnit timeUnit) {
+      this.connectTimeoutMillis = timeUnit.toMillis(timeout);
+      return this;
+    }
+
+    public Builder readTimeout(long timeout, TimeUnit timeUnit) {
+      this.readTimeoutMillis = timeUnit.toMillis(timeout);
+      return this;
+    }
+
+    public Builder writeTimeout(long timeout, TimeUnit timeUnit) {
+      this.writeTimeoutMillis = timeUnit.toMillis(timeout);
+      return this;
+    }
+
+    /**
+     * @param interval the interval of web socket pings, 0 to disable them
+     * @param timeUnit the unit of the interval
+     */
+    public Builder pingInterval(long interval, TimeUnit timeUnit) {
+      this.pingIntervalMillis = timeUnit.toMillis(interval);
+      return this;
+    }
+
+    public Builder dns(Dns dns) {
+      this.dns = dns;
+      return this;
+    }
+
+    public Builder proxy(Proxy proxy) {
+      this.proxy = proxy;
+      return this;
+    }
+
+    /**
+     * @param protocols the protocols to negotiate, e.g. only {@link Protocol#HTTP_1_1} to spread requests over
+     *                  several connections rather than multiplexing them on one HTTP/2 connection
+     */
+    public Builder protocols(List<Protocol> protocols) {
+      this.protocols = protocols;
+      return this;
+    }
+
+    /**
+     * @param eventListenerFactory the factory of listeners of the timings of every call (DNS, connect, TLS, ...)
+     */
+    public Builder eventListenerFactory(EventListener.Factory eventListenerFactory) {
+      this.eventListenerFactory = eventListenerFactory;
+      return this;
+    }
+
+    /**
+     * Hold requests back until the rate limits of the exchange leave room for them, rather than having them rejected.
+     * The limiter should be shared by all factories sending requests from the same IP address and account.
+     *
+     * @param rateLimiter the limiter, e.g. {@link RateLimiter#fromExchangeInfo}
+     */
+    public Builder rateLimiter(RateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * Back off when the exchange rejects requests for exceeding rate limits (HTTP 429) or bans the IP address (HTTP
+     * 418): every lane is paused for the advertised time, and its GET requests are retried, unlike order placements.
+     *
+     * @param maxRetries the number of retries of a rejected GET request
+     * @param maxWait the longest time a GET request waits for a pause to end
+     * @param timeUnit the unit of the longest wait
+     * @see BackoffInterceptor
+     */
+    public Builder backoff(int maxRetries, long maxWait, TimeUnit timeUnit) {
+      this.backoffMaxRetries = maxRetries;
+      this.backoffMaxWaitMillis = timeUnit.toMillis(maxWait);
+      return this;
+    }
+
+    /**
+     * Keep an estimate of the server time by sampling it in the background, and stamp signed requests with it when
+     * they are sent, rather than with the local time their request object was created at.
+     * <p>
+     * The first round of samples is taken by {@link #build()}, which blocks on
+     * {@value ServerClock#DEFAULT_SAMPLES_PER_ROUND} server time requests, subject to the rate limits of the factory
+     * client. The sampling thread runs until the factory is closed.
+     *
+     * @param interval the interval between two rounds of samples
+     * @param timeUnit the unit of the interval
+     * @see ServerClock
+     */
+    public Builder clockSync(long interval, TimeUnit timeUnit) {
+      this.clockSyncIntervalMillis = timeUnit.toMillis(interval);
+      return this;
+    }
+
+    /**
+     * Send signed requests with a receiving window, overriding that of every request, after which the exchange rejects
+     * them. Signed requests are then stamped when they are sent, so the window only has to cover the network latency
+     * and the clock offset, which {@link #clockSync} removes.
+     *
+     * @param recvWindow the receiving window, at most 60 seconds
+     * @param timeUnit the unit of the receiving window
+     */
+    public Builder recvWindow(long recvWindow, TimeUnit timeUnit) {
+      this.recvWindowMillis = timeUnit.toMillis(recvWindow);
+      return this;
+    }
+
+    /**
+     * Run asynchronous calls, and complete the futures of the completable clients, on an executor rather than on the
+     * thread pool of the OkHttp dispatcher.
+     *
+     * @param executor the executor, e.g. {@link VirtualThreads#newVirtualThreadPerTaskExecutor()}
+     */
+    public Builder executor(ExecutorService executor) {
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Run asynchronous calls, and complete the futures of the completable clients, on virtual threads. Synchronous
+     * calls run on the calling thread, so the blocking clients should be called from virtual threads too.
+     * <p>
+     * Calls then no longer take a platform thread each, and the maximum number of concurrent requests, which still
+     * applies, may be raised accordingly. Virtual threads are pinned to their carrier while writing HTTP/2 frames, so
+     * {@link Protocol#HTTP_1_1} spreads blocking calls better.
+     *
+     * @throws UnsupportedOperationException if the running JDK has no virtual threads (JDK 21 or later)
+     */
+    public Builder virtualThreads() {
+      return executor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Give a lane its own dispatcher and connection pool, on the settings of the factory client. Requests of other
+     * lanes then no longer queue ahead of its requests, nor take its connections. Idle connections of the lane are
+     * kept open as long as those of the factory client, see {@link #connectionPool(int, long, TimeUnit)}.
+     *
+     * @param lane the lane
+     * @param maxRequests the maximum number of concurrent asynchronous requests of the lane
+     * @param maxIdleConnections the maximum number of idle connections kept open for the lane
+     */
+    public Builder lane(RequestLane lane, int maxRequests, int maxIdleConnections) {
+      lanes.put(lane, new long[]{maxRequests, maxIdleConnections, -1L});
+      return this;
+    }
+
+    /**
+     * Give a lane its own dispatcher and connection pool, on the settings of the factory client but for the
+     * keep-alive of its idle connections, which should outlast the interval of a {@link ConnectionWarmer}.
+     *
+     * @param lane the lane
+     * @param maxRequests the maximum number of concurrent asynchronous requests of the lane
+     * @param maxIdleConnections the maximum number of idle connections kept open for the lane
+     * @param keepAliveDuration how long an idle connection of the lane is kept open
+     * @param timeUnit the unit of the keep-alive duration
+     */
+    public Builder lane(RequestLane lane, int maxRequests, int maxIdleConnections, long keepAliveDuration, TimeUnit timeUnit) {
+      lanes.put(lane, new long[]{maxRequests, maxIdleConnections, timeUnit.toMillis(keepAliveDuration)});
+      return this;
+    }
+
+    /**
+     * Send the requests of a service method through a lane, rather than the lane of its
+     * {@link com.binance.api.client.config.Lane} annotation.
+     *
+     * @param methodName the name of a {@link BinanceApiService} method, e.g. <code>getAllOrders</code>
+     * @param lane the lane
+     */
+    public Builder assignLane(String methodName, RequestLane lane) {
+      laneAssignments.put(methodName, lane);
+      return this;
+    }
+
+    /**
+     * Build the factory, sampling the server time first if the clock is synchronized, in which case this blocks until
+     * the first round of samples is over, and the factory should be closed once done with.
+     */
+    public BinanceApiClientFactory build() {
+      OkHttpClient client = buildHttpClient();
+      ServerClock serverClock = null;
+      if (clockSyncIntervalMillis != null) {
+        String apiBaseUrl = useTestnet ? BinanceApiConfig.getTestNetBaseUrl() : BinanceApiConfig.getApiBaseUrl();
+        serverClock = new ServerClock(client, apiBaseUrl, clockSyncIntervalMillis, TimeUnit.MILLISECONDS).start();
+      }
+      TimestampInterceptor timestamps = serverClock != null || recvWindowMillis != null
+          ? new TimestampInterceptor(serverClock != null ? serverClock::currentTimeMillis : System::currentTimeMillis, recvWindowMillis)
+          : null;
+      Map<RequestLane, OkHttpClient> laneClients = new EnumMap<>(RequestLane.class);
+      lanes.forEach((lane, settings) -> {
+        Dispatcher dispatcher = newDispatcher();
+        dispatcher.setMaxRequests((int) settings[0]);
+        dispatcher.setMaxRequestsPerHost((int) settings[0]);
+        long laneKeepAliveMillis = settings[2] >= 0 ? settings[2] : keepAliveMillis;
+        laneClients.put(lane, withLaneInterceptors(client.newBuilder(), timestamps)
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool((int) settings[1], laneKeepAliveMillis, TimeUnit.MILLISECONDS))
+            .build());
+      });
+      OkHttpClient httpClient = backoffMaxRetries != null || timestamps != null
+          ? withLaneInterceptors(client.newBuilder(), timestamps).build() : client;
+      return new BinanceApiClientFactory(apiKey, signer != null ? signer : newSigner(secret), useTestnet, useTestnetStreaming, httpClient,
+          laneClients, new HashMap<>(laneAssignments), executor != null ? executor : ForkJoinPool.commonPool(), serverClock);
+    }
+
+    private Dispatcher newDispatcher() {
+      return executor != null ? new Dispatcher(executor) : new Dispatcher();
+    }
+
+    /**
+     * Give a client its own backoff, so that a pause only holds back its lane. The backoff comes first, so that
+     * retries are rate limited too, and timestamps last, so that requests are stamped once they are let through.
+     */
+    private OkHttpClient.Builder withLaneInterceptors(OkHttpClient.Builder builder, TimestampInterceptor timestamps) {
+      if (backoffMaxRetries != null) {
+        builder.interceptors().add(0, new BackoffInterceptor(backoffMaxRetries, backoffMaxWaitMillis));
+      }
+      if (timestamps != null) {
+        builder.addInterceptor(timestamps);
+      }
+      return builder;
+    }
+
+    private OkHttpClient buildHttpClient() {
+      OkHttpClient.Builder builder;
+      Dispatcher dispatcher;
+      if (baseClient != null) {
+        builder = baseClient.newBuilder();
+        dispatcher = baseClient.dispatcher();
+        if (maxRequests != null || maxRequestsPerHost != null || executor != null) {
+          Dispatcher baseDispatcher = dispatcher;
+          dispatcher = newDispatcher();
+          dispatcher.setMaxRequests(baseDispatcher.getMaxRequests());
+          dispatcher.setMaxRequestsPerHost(baseDispatcher.getMaxRequestsPerHost());
+        }
+      } else {
+        builder = new OkHttpClient.Builder()
+            .pingInterval(BinanceApiServiceGenerator.DEFAULT_PING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        dispatcher = newDispatcher();
+        dispatcher.setMaxRequests(BinanceApiServiceGenerator.DEFAULT_MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(BinanceApiServiceGenerator.DEFAULT_MAX_REQUESTS);
+      }
+      if (maxRequests != null) {
+        dispatcher.setMaxRequests(maxRequests);
+      }
+      if (maxRequestsPerHost != null) {
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+      }
+      builder.dispatcher(dispatcher);
+      if (connectionPool != null) {
+        builder.connectionPool(connectionPool);
+      }
+      if (connectTimeoutMillis != null) {
+        builder.connectTimeout(connectTimeoutMillis, TimeUnit.MILLISECONDS);
+      }
+      if (readTimeoutMillis != null) {
+        builder.readTimeout(readTimeoutMillis, TimeUnit.MILLISECONDS);
+      }
+      if (writeTimeoutMillis != null) {
+        builder.writeTimeout(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+      }
+      if (pingIntervalMillis != null) {
+        builder.pingInterval(pingIntervalMillis, TimeUnit.MILLISECONDS);
+      }
+      if (dns != null) {
+        builder.dns(dns);
+      }
+      if (proxy != null) {
+        builder.proxy(proxy);
+      }
+      if (protocols != null) {
+        builder.protocols(protocols);
+      }
+      if (eventListenerFactory != null) {
+        builder.eventListenerFactory(eventListenerFactory);
+      }
+      if (rateLimiter != null) {
+        builder.addInterceptor(new RateLimitInterceptor(rateLimiter));
+      }
+      return builder.build();
+    }
   }
 }
@@ -0,0 +1,111 @@
+package com.binance.api.client;
+
+import com.binance.api.client.domain.TransferType;
+import com.binance.api.client.domain.account.*;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderRequest;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.domain.event.ListenKey;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Binance API façade, supporting asynchronous/non-blocking access Binance's Margin REST API, every method returning a
+ * future of the response. The futures are completed on the executor given to
+ * {@link BinanceApiClientFactory#newCompletableMarginRestClient(java.util.concurrent.Executor)}.
+ */
+public interface BinanceApiCompletableMarginRestClient {
+
+  // Account endpoints
+
+  /**
+   * Get current margin account information (async).
+   */
+  CompletableFuture<MarginAccount> getAccount(Long recvWindow, Long timestamp);
+
+  /**
+   * Get current margin account information using default parameters (async).
+   */
+  CompletableFuture<MarginAccount> getAccount();
+
+  /**
+   * Get all open orders on margin account for a symbol (async).
+   *
+   * @param orderRequest order request parameters
+   */
+  CompletableFuture<List<Order>> getOpenOrders(OrderRequest orderRequest);
+
+  /**
+   * Send in a new margin order (async).
+   *
+   * @param order the new order to submit.
+   * @return a response containing details about the newly placed order.
+   */
+  CompletableFuture<MarginNewOrderResponse> newOrder(MarginNewOrder order);
+
+  /**
+   * Cancel an active margin order (async).
+   *
+   * @param cancelOrderRequest order status request parameters
+   */
+  CompletableFuture<CancelOrderResponse> cancelOrder(CancelOrderRequest cancelOrderRequest);
+
+  /**
+   * Check margin order's status (async).
+   *
+   * @param orderStatusRequest order status request options/filters
+   * @return an order
+   */
+  CompletableFuture<Order> getOrderStatus(OrderStatusRequest orderStatusRequest);
+
+  /**
+   * Get margin trades for a specific symbol (async).
+   *
+   * @param symbol symbol to get trades from
+   * @return a list of trades
+   */
+  CompletableFuture<List<Trade>> getMyTrades(String symbol);
+
+  // User stream endpoints
+
+  /**
+   * Start a new user data stream (async).
+   *
+   * @return a listen key that can be used with data streams
+   */
+  CompletableFuture<ListenKey> startUserDataStream();
+
+  /**
+   * PING a user data stream to prevent a time out (async).
+   *
+   * @param listenKey listen key that identifies a data stream
+   */
+  CompletableFuture<Void> keepAliveUserDataStream(String listenKey);
+
+  /**
+   * Execute transfer between spot account and margin account
+   * @param asset asset to repay
+   * @param amount amount to repay
+   * @return transaction id
+   */
+  CompletableFuture<MarginTransaction> transfer(String asset, String amount, TransferType type);
+
+  /**
+   * Apply for a loan
+   * @param asset asset to repay
+   * @param amount amount to repay
+   * @return transaction id
+   */
+  CompletableFuture<MarginTransaction> borrow(String asset, String amount);
+
+  /**
+   * Repay loan for margin account
+   * @param asset asset to repay
+   * @param amount amount to repay
+   * @return transaction id
+   */
+  CompletableFuture<MarginTransaction> repay(String asset, String amount);
+
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.binance.api.client;
+
+import com.binance.api.client.domain.SwapRemoveType;
+import com.binance.api.client.domain.account.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Binance API façade, supporting asynchronous/non-blocking access Binance's Swap REST API, every method returning a
+ * future of the response. The futures are completed on the executor given to
+ * {@link BinanceApiClientFactory#newCompletableSwapRestClient(java.util.concurrent.Executor)}.
+ */
+public interface BinanceApiCompletableSwapRestClient {
+
+    /**
+     * Get metadata about all swap pools.
+     */
+    CompletableFuture<List<Pool>> listAllSwapPools();
+
+    /**
+     * Get liquidity information and user share of a pool.
+     *
+     * @param poolId
+     */
+    CompletableFuture<Liquidity> getPoolLiquidityInfo(String poolId);
+
+    /**
+     * Add liquidity to a pool.
+     *
+     * @param poolId
+     * @param asset
+     * @param quantity
+     */
+    CompletableFuture<LiquidityOperationRecord> addLiquidity(String poolId,
+                                                             String asset,
+                                                             String quantity);
+
+    /**
+     * Remove liquidity from a pool, type include SINGLE and COMBINATION, asset is mandatory for single asset removal
+     *
+     * @param poolId
+     * @param type
+     * @param asset
+     * @param shareAmount
+     */
+    CompletableFuture<LiquidityOperationRecord> removeLiquidity(String poolId, SwapRemoveType type, List<String> asset, String shareAmount);
+
+    /**
+     * Get liquidity operation (add/remove) records of a pool
+     *
+     * @param poolId
+     * @param limit
+     */
+    CompletableFuture<List<LiquidityOperationRecord>> getPoolLiquidityOperationRecords(
+            String poolId,
+            Integer limit);
+
+    /**
+     * Get liquidity operation (add/remove) record.
+     *
+     * @param operationId
+     */
+    CompletableFuture<LiquidityOperationRecord> getLiquidityOperationRecord(String operationId);
+
+    /**
+     * Request a quote for swap quote asset (selling asset) for base asset (buying asset), essentially price/exchange rates.
+     *
+     * @param quoteAsset
+     * @param baseAsset
+     * @param quoteQty
+     */
+    CompletableFuture<SwapQuote> requestQuote(String quoteAsset,
+                                              String baseAsset,
+                                              String quoteQty);
+
+    /**
+     * Swap quoteAsset for baseAsset
+     *
+     * @param quoteAsset
+     * @param baseAsset
+     * @param quoteQty
+     */
+    CompletableFuture<SwapRecord> swap(String quoteAsset,
+                                       String baseAsset,
+                                       String quoteQty);
+
+    CompletableFuture<SwapHistory> getSwapHistory(String swapId);
+}
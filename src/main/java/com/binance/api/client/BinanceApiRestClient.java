@@ -181,6 +181,14 @@ public interface BinanceApiRestClient {
    */
   List<Order> getOpenOrders(OrderRequest orderRequest);
 
+  /**
+   * Cancel all active orders on a symbol, including those of order lists.
+   *
+   * @param orderRequest order request parameters
+   * @return the cancelled orders.
+   */
+  List<CancelOrderResponse> cancelOpenOrders(OrderRequest orderRequest);
+
   /**
    * Get all account orders; active, canceled, or filled.
    *
@@ -0,0 +1,18 @@
+package com.binance.api.client;
+
+/**
+ * Callback of a stream delivered over a reconnecting connection, which is told when events may have been missed.
+ *
+ * @param <T> the type of the stream events
+ */
+@FunctionalInterface
+public interface BinanceApiStreamCallback<T> extends BinanceApiCallback<T> {
+
+    /**
+     * Called when the connection carrying the stream failed, so that events may have been missed until it is
+     * reestablished. State built from the stream (e.g. a local order book) should be resynchronized.
+     *
+     * @param stream the name of the stream
+     */
+    default void onGap(String stream) {}
+}
@@ -1,5 +1,7 @@
 package com.binance.api.client;
 
+import com.binance.api.client.dispatch.BufferedEventPublisher;
+import com.binance.api.client.dispatch.OverflowPolicy;
 import com.binance.api.client.domain.event.*;
 import com.binance.api.client.domain.market.CandlestickInterval;
 
@@ -82,6 +84,113 @@ public interface BinanceApiWebSocketClient extends Closeable {
      */
     Closeable onAllBookTickersEvent(BinanceApiCallback<BookTickerEvent> callback);
 
+    /**
+     * Open a single web socket on the combined stream endpoint to receive the events of all given streams, each on
+     * its own callback.
+     *
+     * @param streams the streams to subscribe to and their callbacks
+     * @return a {@link Closeable} that allows the underlying web socket to be closed.
+     */
+    Closeable onCombinedStream(CombinedStream streams);
+
+    /**
+     * Open a web socket on the combined stream endpoint whose streams can then be changed through
+     * {@link BinanceApiWebSocketConnection#subscribe(CombinedStream)} and
+     * {@link BinanceApiWebSocketConnection#unsubscribe(List)}.
+     *
+     * @param streams the streams to subscribe to when connecting, possibly none
+     * @return the connection, which also allows the underlying web socket to be closed.
+     */
+    BinanceApiWebSocketConnection openCombinedStream(CombinedStream streams);
+
+    /**
+     * Open a combined stream connection which reconnects with a jittered backoff when it fails, replaces itself ahead
+     * of the server's 24 hour limit and resubscribes its streams. Callbacks implementing
+     * {@link BinanceApiStreamCallback} are told when events may have been missed.
+     *
+     * @param streams the streams to subscribe to when connecting, possibly none
+     * @return the connection, which also allows the underlying web sockets to be closed.
+     */
+    BinanceApiWebSocketConnection openReconnectingCombinedStream(CombinedStream streams);
+
+    /**
+     * Publisher of {@link DepthEvent depthEvents}, opening a web socket per subscriber and buffering the events it has
+     * not requested yet.
+     *
+     * @param symbols        market (one or coma-separated) symbol(s) to subscribe to
+     * @param capacity       the buffer capacity of every subscriber
+     * @param overflowPolicy what to do with a new event when the buffer is full, {@link OverflowPolicy#CONFLATE}
+     *                       keeping the latest event per symbol
+     * @return the publisher
+     * @see BufferedEventPublisher
+     */
+    default BufferedEventPublisher<DepthEvent> depthEventPublisher(String symbols, int capacity, OverflowPolicy overflowPolicy) {
+        return new BufferedEventPublisher<>(callback -> onDepthEvent(symbols, callback), capacity, overflowPolicy, DepthEvent::getSymbol);
+    }
+
+    /**
+     * Publisher of {@link CandlestickEvent candlestickEvents}, opening a web socket per subscriber and buffering the
+     * events it has not requested yet.
+     *
+     * @param symbols        market (one or coma-separated) symbol(s) to subscribe to
+     * @param interval       the interval of the candles tick events required
+     * @param capacity       the buffer capacity of every subscriber
+     * @param overflowPolicy what to do with a new event when the buffer is full, {@link OverflowPolicy#CONFLATE}
+     *                       keeping the latest event per symbol
+     * @return the publisher
+     * @see BufferedEventPublisher
+     */
+    default BufferedEventPublisher<CandlestickEvent> candlestickEventPublisher(String symbols, CandlestickInterval interval, int capacity,
+                                                                               OverflowPolicy overflowPolicy) {
+        return new BufferedEventPublisher<>(callback -> onCandlestickEvent(symbols, interval, callback), capacity, overflowPolicy,
+                CandlestickEvent::getSymbol);
+    }
+
+    /**
+     * Publisher of {@link AggTradeEvent aggTradeEvents}, opening a web socket per subscriber and buffering the events it
+     * has not requested yet.
+     *
+     * @param symbols        market (one or coma-separated) symbol(s) to subscribe to
+     * @param capacity       the buffer capacity of every subscriber
+     * @param overflowPolicy what to do with a new event when the buffer is full, {@link OverflowPolicy#CONFLATE}
+     *                       keeping the latest event per symbol
+     * @return the publisher
+     * @see BufferedEventPublisher
+     */
+    default BufferedEventPublisher<AggTradeEvent> aggTradeEventPublisher(String symbols, int capacity, OverflowPolicy overflowPolicy) {
+        return new BufferedEventPublisher<>(callback -> onAggTradeEvent(symbols, callback), capacity, overflowPolicy, AggTradeEvent::getSymbol);
+    }
+
+    /**
+     * Publisher of {@link TickerEvent tickerEvents}, opening a web socket per subscriber and buffering the events it has
+     * not requested yet.
+     *
+     * @param symbols        market (one or coma-separated) symbol(s) to subscribe to
+     * @param capacity       the buffer capacity of every subscriber
+     * @param overflowPolicy what to do with a new event when the buffer is full, {@link OverflowPolicy#CONFLATE}
+     *                       keeping the latest event per symbol
+     * @return the publisher
+     * @see BufferedEventPublisher
+     */
+    default BufferedEventPublisher<TickerEvent> tickerEventPublisher(String symbols, int capacity, OverflowPolicy overflowPolicy) {
+        return new BufferedEventPublisher<>(callback -> onTickerEvent(symbols, callback), capacity, overflowPolicy, TickerEvent::getSymbol);
+    }
+
+    /**
+     * Publisher of {@link BookTickerEvent bookTickerEvents}, opening a web socket per subscriber and buffering the
+     * events it has not requested yet.
+     *
+     * @param symbols        market (one or coma-separated) symbol(s) to subscribe to
+     * @param capacity       the buffer capacity of every subscriber
+     * @param overflowPolicy what to do with a new event when the buffer is full, {@link OverflowPolicy#CONFLATE}
+     *                       keeping the latest event per symbol
+     * @return the publisher
+     * @see BufferedEventPublisher
+     */
+    default BufferedEventPublisher<BookTickerEvent> bookTickerEventPublisher(String symbols, int capacity, OverflowPolicy overflowPolicy) {
+        return new BufferedEventPublisher<>(callback -> onBookTickerEvent(symbols, callback), capacity, overflowPolicy, BookTickerEvent::getSymbol);
+    }
+
     /**
      * @deprecated This method is no longer functional. Please use the returned {@link Closeable} from any of the other methods to close the web socket.
      */
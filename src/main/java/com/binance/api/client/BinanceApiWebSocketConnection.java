@@ -0,0 +1,49 @@
+package com.binance.api.client;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An open web socket connection on the combined stream endpoint, whose streams can be changed without reconnecting.
+ * <p>
+ * Every request sent on the connection is given an id, which stays pending until the server acknowledges it.
+ * Note that the server accepts a limited number of requests per second on a connection.
+ */
+public interface BinanceApiWebSocketConnection extends Closeable {
+
+    /**
+     * Subscribe to streams and attach their callbacks. Should the server reject the subscription, the streams are
+     * detached and their callbacks notified through {@link BinanceApiCallback#onFailure(Throwable)}.
+     *
+     * @param streams the streams to subscribe to and their callbacks
+     * @return the id of the request
+     */
+    long subscribe(CombinedStream streams);
+
+    /**
+     * Unsubscribe from streams and detach their callbacks.
+     *
+     * @param streams names of the streams, e.g. <code>ethbtc@depth</code>
+     * @return the id of the request
+     */
+    long unsubscribe(List<String> streams);
+
+    /**
+     * Ask the server for the streams this connection is subscribed to.
+     *
+     * @param callback the callback receiving the stream names
+     * @return the id of the request
+     */
+    long listSubscriptions(BinanceApiCallback<List<String>> callback);
+
+    /**
+     * @return the names of the streams whose callbacks are attached.
+     */
+    Set<String> getStreams();
+
+    /**
+     * @return the ids of the requests not acknowledged by the server yet.
+     */
+    Set<Long> getPendingRequestIds();
+}
@@ -0,0 +1,86 @@
+package com.binance.api.client;
+
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.Order;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Binance WebSocket API trading facade, placing, cancelling and looking up orders over a single persistent web socket
+ * rather than one HTTP request each.
+ * <p>
+ * Requests are pipelined: they are sent without waiting for the responses of the previous ones, and every response is
+ * matched with its request by id. Requests are signed one by one, unless the session is logged on, see
+ * {@link #logon()}.
+ * <p>
+ * A client is single-use: its web socket is not reopened once closed or failed. Requests then fail, and
+ * {@link #isClosed()} tells that the client must be replaced by a new one, logged on again if need be. Orders whose
+ * placement or cancellation was in flight fail with an
+ * {@link com.binance.api.client.exception.UnknownExecutionStatusException}, and should be looked up rather than sent
+ * again.
+ */
+public interface BinanceApiWebSocketTradingClient extends Closeable {
+
+  /**
+   * Authenticate the session with the API key, so that the next requests are no longer signed one by one. Only
+   * Ed25519 API keys may log on, see {@link com.binance.api.client.security.PrivateKeySigner#ed25519(String)}.
+   */
+  CompletableFuture<Void> logon();
+
+  /**
+   * @return true if the session is logged on.
+   */
+  boolean isLoggedOn();
+
+  /**
+   * @return true once the web socket was closed, or failed, after which every request fails.
+   */
+  boolean isClosed();
+
+  /**
+   * Send in a new order.
+   *
+   * @param order the new order to submit.
+   * @return a future of the response containing either a full or a partial order info depending on the
+   * <code>newOrderRespType</code> of the order.
+   */
+  CompletableFuture<NewOrderResponse> newOrder(NewOrder order);
+
+  /**
+   * Test new order creation and signature/recvWindow. Creates and validates a new order but does not send it into the
+   * matching engine.
+   *
+   * @param order the new TEST order to submit.
+   */
+  CompletableFuture<Void> newOrderTest(NewOrder order);
+
+  /**
+   * Check an order's status.
+   *
+   * @param orderStatusRequest order status request parameters
+   */
+  CompletableFuture<Order> getOrderStatus(OrderStatusRequest orderStatusRequest);
+
+  /**
+   * Cancel an active order.
+   *
+   * @param cancelOrderRequest order status request parameters
+   */
+  CompletableFuture<CancelOrderResponse> cancelOrder(CancelOrderRequest cancelOrderRequest);
+
+  /**
+   * @return the number of requests sent and not yet answered.
+   */
+  int getPendingRequestCount();
+
+  /**
+   * Close the web socket, failing the requests left unanswered.
+   */
+  @Override
+  void close();
+}
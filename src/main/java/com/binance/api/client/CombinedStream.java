@@ -0,0 +1,182 @@
+package com.binance.api.client;
+
+import com.binance.api.client.domain.event.*;
+import com.binance.api.client.domain.market.CandlestickInterval;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams to receive over a single web socket connection, through the combined stream endpoint.
+ * <p>
+ * Every stream is delivered to its own callback, e.g.
+ * <pre>
+ * client.onCombinedStream(new CombinedStream()
+ *     .onDepthEvent("ethbtc,bnbbtc", depthCallback)
+ *     .onBookTickerEvent("ethbtc", bookTickerCallback));
+ * </pre>
+ */
+public class CombinedStream {
+
+    private final Map<String, Route<?>> routes = new LinkedHashMap<>();
+
+    private Consumer<Throwable> connectionFailureHandler;
+
+    /**
+     * Receive {@link DepthEvent depthEvents} of the given (one or coma-separated) symbol(s).
+     */
+    public CombinedStream onDepthEvent(String symbols, BinanceApiCallback<DepthEvent> callback) {
+        return onSymbolStreams(symbols, "depth", DepthEvent.class, callback);
+    }
+
+    /**
+     * Receive {@link CandlestickEvent candlestickEvents} of the given (one or coma-separated) symbol(s).
+     */
+    public CombinedStream onCandlestickEvent(String symbols, CandlestickInterval interval, BinanceApiCallback<CandlestickEvent> callback) {
+        return onSymbolStreams(symbols, "kline_" + interval.getIntervalId(), CandlestickEvent.class, callback);
+    }
+
+    /**
+     * Receive {@link AggTradeEvent aggTradeEvents} of the given (one or coma-separated) symbol(s).
+     */
+    public CombinedStream onAggTradeEvent(String symbols, BinanceApiCallback<AggTradeEvent> callback) {
+        return onSymbolStreams(symbols, "aggTrade", AggTradeEvent.class, callback);
+    }
+
+    /**
+     * Receive {@link TickerEvent tickerEvents} of the given (one or coma-separated) symbol(s).
+     */
+    public CombinedStream onTickerEvent(String symbols, BinanceApiCallback<TickerEvent> callback) {
+        return onSymbolStreams(symbols, "ticker", TickerEvent.class, callback);
+    }
+
+    /**
+     * Receive {@link BookTickerEvent bookTickerEvents} of the given (one or coma-separated) symbol(s).
+     */
+    public CombinedStream onBookTickerEvent(String symbols, BinanceApiCallback<BookTickerEvent> callback) {
+        return onSymbolStreams(symbols, "bookTicker", BookTickerEvent.class, callback);
+    }
+
+    /**
+     * Receive the tickers of all markets.
+     */
+    public CombinedStream onAllMarketTickersEvent(BinanceApiCallback<List<TickerEvent>> callback) {
+        return onStream("!ticker@arr", new TypeReference<List<TickerEvent>>() {
+        }, callback);
+    }
+
+    /**
+     * Receive the book tickers of all markets.
+     */
+    public CombinedStream onAllBookTickersEvent(BinanceApiCallback<BookTickerEvent> callback) {
+        return onStream("!bookTicker", BookTickerEvent.class, callback);
+    }
+
+    /**
+     * Receive {@link UserDataUpdateEvent userDataUpdateEvents} of the given listen key.
+     */
+    public CombinedStream onUserDataUpdateEvent(String listenKey, BinanceApiCallback<UserDataUpdateEvent> callback) {
+        return onStream(listenKey, UserDataUpdateEvent.class, callback);
+    }
+
+    /**
+     * Receive the events of a raw stream name, e.g. <code>bnbbtc@depth@100ms</code>.
+     */
+    public <T> CombinedStream onStream(String stream, Class<T> eventClass, BinanceApiCallback<T> callback) {
+        return add(new Route<>(stream, TypeFactory.defaultInstance().constructType(eventClass), callback));
+    }
+
+    /**
+     * Receive the events of a raw stream name, e.g. <code>!ticker@arr</code>.
+     */
+    public <T> CombinedStream onStream(String stream, TypeReference<T> eventTypeReference, BinanceApiCallback<T> callback) {
+        return add(new Route<>(stream, TypeFactory.defaultInstance().constructType(eventTypeReference), callback));
+    }
+
+    /**
+     * Receive the events of a stream as described by a route.
+     */
+    public CombinedStream add(Route<?> route) {
+        if (routes.putIfAbsent(route.getStream(), route) != null) {
+            throw new IllegalArgumentException("Stream already added: " + route.getStream());
+        }
+        return this;
+    }
+
+    /**
+     * Be told when the connection fails, whether or not streams are attached to it. Unlike the failures of the stream
+     * callbacks, this is not called when the server rejects a subscription.
+     */
+    public CombinedStream onConnectionFailure(Consumer<Throwable> handler) {
+        this.connectionFailureHandler = handler;
+        return this;
+    }
+
+    /**
+     * @return the handler of connection failures, or null if none.
+     */
+    public Consumer<Throwable> getConnectionFailureHandler() {
+        return connectionFailureHandler;
+    }
+
+    /**
+     * @return the stream names, in the order they were added.
+     */
+    public List<String> getStreams() {
+        return Collections.unmodifiableList(new ArrayList<>(routes.keySet()));
+    }
+
+    /**
+     * @return the route of every stream, in the order they were added.
+     */
+    public Collection<Route<?>> getRoutes() {
+        return Collections.unmodifiableCollection(routes.values());
+    }
+
+    private <T> CombinedStream onSymbolStreams(String symbols, String streamType, Class<T> eventClass, BinanceApiCallback<T> callback) {
+        Arrays.stream(symbols.split(","))
+                .map(String::trim)
+                .map(s -> String.format("%s@%s", s.toLowerCase(), streamType))
+                .forEach(stream -> onStream(stream, eventClass, callback));
+        return this;
+    }
+
+    /**
+     * A stream name, the type its events are read as, and the callback they are delivered to.
+     */
+    public static class Route<T> {
+
+        private final String stream;
+
+        private final JavaType eventType;
+
+        private final BinanceApiCallback<T> callback;
+
+        public Route(String stream, JavaType eventType, BinanceApiCallback<T> callback) {
+            this.stream = stream;
+            this.eventType = eventType;
+            this.callback = callback;
+        }
+
+        public String getStream() {
+            return stream;
+        }
+
+        public JavaType getEventType() {
+            return eventType;
+        }
+
+        public BinanceApiCallback<T> getCallback() {
+            return callback;
+        }
+    }
+}
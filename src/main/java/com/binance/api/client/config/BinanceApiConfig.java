@@ -18,12 +18,14 @@ public class BinanceApiConfig {
     /**
      * Binance Spot Test Network option:
      * true if endpoint is spot test network URL; false if endpoint is production spot API URL.
+     * Only read by clients created without a {@link com.binance.api.client.BinanceApiClientFactory}.
      */
     public static boolean useTestnet;
 
     /**
      * Binance Spot Test Network option:
      * true for websocket streaming; false for no streaming.
+     * Only read by clients created without a {@link com.binance.api.client.BinanceApiClientFactory}.
      */
     public static boolean useTestnetStreaming;
 
@@ -59,6 +61,20 @@ public class BinanceApiConfig {
 		return String.format("wss://stream.%s:9443/ws", getBaseDomain());
 	}
 
+	/**
+	 * Combined streaming API base URL.
+	 */
+	public static String getCombinedStreamApiBaseUrl() {
+		return String.format("wss://stream.%s:9443/stream", getBaseDomain());
+	}
+
+	/**
+	 * WebSocket API URL.
+	 */
+	public static String getWebSocketApiUrl() {
+		return String.format("wss://ws-api.%s:443/ws-api/v3", getBaseDomain());
+	}
+
 	/**
 	 * Asset info base URL.
 	 */
@@ -79,4 +95,18 @@ public class BinanceApiConfig {
     public static String getStreamTestNetBaseUrl() {
         return String.format("wss://%s/ws", TESTNET_DOMAIN);
     }
+
+    /**
+     * Combined streaming Spot Test Network base URL.
+     */
+    public static String getCombinedStreamTestNetBaseUrl() {
+        return String.format("wss://%s/stream", TESTNET_DOMAIN);
+    }
+
+    /**
+     * WebSocket API Spot Test Network URL.
+     */
+    public static String getWebSocketApiTestNetUrl() {
+        return String.format("wss://ws-api.%s/ws-api/v3", TESTNET_DOMAIN);
+    }
 }
@@ -0,0 +1,19 @@
+package com.binance.api.client.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Assigns an endpoint of a Retrofit service to a {@link RequestLane}. Endpoints without it use
+ * {@link RequestLane#DEFAULT}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Lane {
+
+  RequestLane value();
+}
@@ -0,0 +1,25 @@
+package com.binance.api.client.config;
+
+/**
+ * Transport lanes REST requests are sent through. A lane can be given its own dispatcher and connection pool, so that
+ * a burst of heavy requests does not queue ahead of latency-sensitive ones.
+ *
+ * @see Lane
+ */
+public enum RequestLane {
+
+  /**
+   * Order placement, cancellation and status.
+   */
+  ORDER,
+
+  /**
+   * Endpoints not assigned to another lane.
+   */
+  DEFAULT,
+
+  /**
+   * Heavy or bulk downloads, such as exchange information, all-market statistics and histories.
+   */
+  BULK
+}
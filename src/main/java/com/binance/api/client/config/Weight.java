@@ -0,0 +1,37 @@
+package com.binance.api.client.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how much an endpoint of a Retrofit service counts against the exchange's rate limits. Endpoints without it
+ * weigh 1 and place no order.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Weight {
+
+  /**
+   * @return the request weight.
+   */
+  int value() default 1;
+
+  /**
+   * @return the request weight when no <code>symbol</code> is given, or -1 if it does not depend on it.
+   */
+  int withoutSymbol() default -1;
+
+  /**
+   * @return true if the weight depends on the <code>limit</code> of an order book, as for REST snapshots.
+   */
+  boolean byDepthLimit() default false;
+
+  /**
+   * @return the number of orders placed.
+   */
+  int orders() default 0;
+}
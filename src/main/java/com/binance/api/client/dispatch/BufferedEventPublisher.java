@@ -0,0 +1,286 @@
+package com.binance.api.client.dispatch;
+
+import com.binance.api.client.BinanceApiCallback;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Publisher of the events of a web socket stream, which holds the events its subscribers have not requested yet in a
+ * bounded buffer.
+ * <p>
+ * Every subscriber opens its own web socket when it subscribes, and closes it when it cancels. Events go through a
+ * multi-producer/single-consumer ring buffer, fed by the web socket thread, and are delivered on the
+ * thread receiving them or requesting them, one at a time. When the buffer is full, the {@link OverflowPolicy}
+ * decides between holding the web socket thread back, dropping the oldest event, or keeping the latest event per key.
+ * <p>
+ * A web socket failure is signalled through {@link EventFlow.Subscriber#onError(Throwable)} once the events received
+ * before it have been delivered.
+ *
+ * @param <T> the type of the stream events
+ */
+public class BufferedEventPublisher<T> implements EventFlow.Publisher<T> {
+
+  private static final long BLOCK_PARK_NANOS = 50_000L;
+
+  private final Function<BinanceApiCallback<T>, Closeable> connector;
+
+  private final int capacity;
+
+  private final OverflowPolicy overflowPolicy;
+
+  private final Function<? super T, ?> conflationKey;
+
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private final AtomicLong conflatedCount = new AtomicLong();
+
+  /**
+   * @param connector opens the web socket delivering events to a callback, e.g.
+   *                  <code>callback -> client.onDepthEvent("ethbtc", callback)</code>
+   * @param capacity the buffer capacity of every subscriber, rounded up to a power of two
+   * @param overflowPolicy what to do with a new event when the buffer is full
+   * @param conflationKey the key of an event, e.g. its symbol, only used by {@link OverflowPolicy#CONFLATE}
+   */
+  public BufferedEventPublisher(Function<BinanceApiCallback<T>, Closeable> connector, int capacity,
+                                OverflowPolicy overflowPolicy, Function<? super T, ?> conflationKey) {
+    if (overflowPolicy == OverflowPolicy.CONFLATE && conflationKey == null) {
+      throw new IllegalArgumentException("Conflation needs the key of an event");
+    }
+    this.connector = connector;
+    this.capacity = capacity;
+    this.overflowPolicy = overflowPolicy;
+    this.conflationKey = conflationKey;
+  }
+
+  @Override
+  public void subscribe(EventFlow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber, "subscriber");
+    BufferedSubscription subscription = new BufferedSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    subscription.connect();
+  }
+
+  /**
+   * @return the number of events discarded by {@link OverflowPolicy#DROP_OLDEST}, over all subscribers.
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * @return the number of events replaced by a later event of the same key with {@link OverflowPolicy#CONFLATE}, over
+   * all subscribers.
+   */
+  public long getConflatedCount() {
+    return conflatedCount.get();
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * The buffer and demand of one subscriber, and the callback of its web socket.
+   */
+  private final class BufferedSubscription implements EventFlow.Subscription, BinanceApiCallback<T> {
+
+    private final EventFlow.Subscriber<? super T> subscriber;
+
+    private final MpscRingBuffer queue = new MpscRingBuffer(capacity);
+
+    private final ConcurrentHashMap<Object, T> latestByKey;
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicBoolean socketClosed = new AtomicBoolean();
+
+    private volatile Closeable socket;
+
+    private volatile boolean cancelled;
+
+    private volatile boolean done;
+
+    private volatile boolean failFast;
+
+    private Throwable error;
+
+    private BufferedSubscription(EventFlow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+      this.latestByKey = overflowPolicy == OverflowPolicy.CONFLATE ? new ConcurrentHashMap<>() : null;
+    }
+
+    private void connect() {
+      if (cancelled || done) {
+        return;
+      }
+      try {
+        socket = connector.apply(this);
+      } catch (RuntimeException e) {
+        onFailure(e);
+        return;
+      }
+      if (cancelled || done) {
+        closeSocket();
+      }
+    }
+
+    @Override
+    public void onResponse(T event) {
+      if (cancelled || done) {
+        return;
+      }
+      Object element = event;
+      if (latestByKey != null) {
+        final Object key = conflationKey.apply(event);
+        if (latestByKey.put(key, event) != null) {
+          conflatedCount.incrementAndGet();
+          return;
+        }
+        element = new Conflated(key);
+      }
+      while (!queue.offer(element)) {
+        if (cancelled) {
+          return;
+        }
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+          if (queue.dropOldest()) {
+            droppedCount.incrementAndGet();
+          }
+        } else {
+          drain();
+          LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+      }
+      drain();
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+      terminate(cause, false);
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        terminate(new IllegalArgumentException("Non-positive number of events requested: " + n), true);
+        return;
+      }
+      requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      closeSocket();
+    }
+
+    private void terminate(Throwable cause, boolean immediately) {
+      if (done || cancelled) {
+        return;
+      }
+      error = cause;
+      failFast = immediately;
+      done = true;
+      closeSocket();
+      drain();
+    }
+
+    private void closeSocket() {
+      Closeable closeable = socket;
+      if (closeable != null && socketClosed.compareAndSet(false, true)) {
+        try {
+          closeable.close();
+        } catch (IOException e) {
+          // the web socket is given up either way
+        }
+      }
+    }
+
+    /**
+     * Deliver the buffered events the subscriber requested, on one thread at a time.
+     */
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      for (;;) {
+        final long demand = requested.get();
+        long delivered = 0;
+        while (delivered != demand && !cancelled && !failFast) {
+          T event = next();
+          if (event == null) {
+            if (queue.isEmpty()) {
+              break;
+            }
+            continue;
+          }
+          deliver(event);
+          delivered++;
+        }
+        if (cancelled) {
+          return;
+        }
+        if (done && (failFast || queue.isEmpty())) {
+          cancelled = true;
+          if (error != null) {
+            subscriber.onError(error);
+          } else {
+            subscriber.onComplete();
+          }
+          return;
+        }
+        if (delivered != 0 && demand != Long.MAX_VALUE) {
+          requested.addAndGet(-delivered);
+        }
+        missed = wip.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+
+    /**
+     * @return the next buffered event, or null if there is none, or if it was conflated into one already delivered
+     */
+    @SuppressWarnings("unchecked")
+    private T next() {
+      Object element = queue.poll();
+      if (element instanceof Conflated) {
+        return latestByKey.remove(((Conflated) element).key);
+      }
+      return (T) element;
+    }
+
+    private void deliver(T event) {
+      try {
+        subscriber.onNext(event);
+      } catch (RuntimeException e) {
+        // a subscriber must not throw, so it cannot be relied upon anymore
+        cancel();
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+    }
+  }
+
+  private static final class Conflated {
+
+    private final Object key;
+
+    private Conflated(Object key) {
+      this.key = key;
+    }
+  }
+}
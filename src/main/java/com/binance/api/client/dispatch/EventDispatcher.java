@@ -0,0 +1,427 @@
+package com.binance.api.client.dispatch;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiStreamCallback;
+import com.binance.api.client.domain.event.BookTickerEvent;
+import com.binance.api.client.domain.event.TickerEvent;
+import com.binance.api.client.exception.BinanceApiException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Callback which queues the events of a stream and delivers them to another callback on a separate thread, so that a
+ * slow consumer does not stall the web socket reader thread.
+ * <p>
+ * Events go through a bounded multi-producer/single-consumer ring buffer, since events, failures and gaps may come
+ * from several threads, e.g. the web socket threads of a reconnecting connection. When the buffer is full, the
+ * {@link OverflowPolicy} decides between waiting, dropping the oldest event, or keeping the latest event per key.
+ * Failures and gaps are queued too, so they reach the callback after the events preceding them; they are never
+ * discarded, the producer rather waits for them to be delivered.
+ * <p>
+ * The web socket listeners hand a dispatcher created with {@link #deferParsing()} the raw message rather than the
+ * event, so that parsing also runs on the consumer thread.
+ *
+ * @param <T> the type of the stream events
+ */
+public class EventDispatcher<T> implements BinanceApiStreamCallback<T>, Closeable {
+
+  /**
+   * Default queue capacity.
+   */
+  public static final int DEFAULT_CAPACITY = 4096;
+
+  private static final int DRAIN_BATCH_SIZE = 256;
+
+  private static final long BLOCK_PARK_NANOS = 50_000L;
+
+  private final BinanceApiCallback<T> callback;
+
+  private final Executor executor;
+
+  private final ExecutorService ownedExecutor;
+
+  private final OverflowPolicy overflowPolicy;
+
+  private final Function<? super T, ?> conflationKey;
+
+  private final ConcurrentHashMap<Object, T> latestByKey;
+
+  private final MpscRingBuffer queue;
+
+  private final AtomicBoolean draining = new AtomicBoolean();
+
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private final AtomicLong conflatedCount = new AtomicLong();
+
+  private volatile int maxQueueDepth;
+
+  private volatile boolean parsingDeferred;
+
+  private volatile boolean closed;
+
+  private EventDispatcher(BinanceApiCallback<T> callback, Executor executor, int capacity, OverflowPolicy overflowPolicy,
+                          Function<? super T, ?> conflationKey) {
+    this.callback = callback;
+    if (executor == null) {
+      this.ownedExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "binance-event-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+      });
+      this.executor = ownedExecutor;
+    } else {
+      this.ownedExecutor = null;
+      this.executor = executor;
+    }
+    this.overflowPolicy = overflowPolicy;
+    this.conflationKey = conflationKey;
+    this.latestByKey = conflationKey != null ? new ConcurrentHashMap<>() : null;
+    this.queue = new MpscRingBuffer(capacity);
+  }
+
+  /**
+   * Dispatcher which makes the producer wait while the queue is full.
+   *
+   * @param callback the callback to deliver events to
+   * @param executor the executor running deliveries, or null for a dedicated thread
+   * @param capacity the queue capacity, rounded up to a power of two
+   */
+  public static <T> EventDispatcher<T> blocking(BinanceApiCallback<T> callback, Executor executor, int capacity) {
+    return new EventDispatcher<>(callback, executor, capacity, OverflowPolicy.BLOCK, null);
+  }
+
+  /**
+   * Dispatcher which discards the oldest queued event while the queue is full.
+   *
+   * @param callback the callback to deliver events to
+   * @param executor the executor running deliveries, or null for a dedicated thread
+   * @param capacity the queue capacity, rounded up to a power of two
+   */
+  public static <T> EventDispatcher<T> droppingOldest(BinanceApiCallback<T> callback, Executor executor, int capacity) {
+    return new EventDispatcher<>(callback, executor, capacity, OverflowPolicy.DROP_OLDEST, null);
+  }
+
+  /**
+   * Dispatcher which keeps only the latest undelivered event per key. The producer only waits if more keys than the
+   * capacity have undelivered events.
+   *
+   * @param callback the callback to deliver events to
+   * @param executor the executor running deliveries, or null for a dedicated thread
+   * @param capacity the queue capacity, rounded up to a power of two
+   * @param conflationKey the key of an event, e.g. its symbol
+   */
+  public static <T> EventDispatcher<T> conflating(BinanceApiCallback<T> callback, Executor executor, int capacity,
+                                                  Function<? super T, ?> conflationKey) {
+    return new EventDispatcher<>(callback, executor, capacity, OverflowPolicy.CONFLATE, conflationKey);
+  }
+
+  /**
+   * Dispatcher of the tickers of all markets keeping only the latest undelivered ticker per symbol, so that a slow
+   * consumer skips stale updates. Feed it through {@link #forLists()}.
+   *
+   * @param callback the callback to deliver tickers to
+   * @param executor the executor running deliveries, or null for a dedicated thread
+   */
+  public static EventDispatcher<TickerEvent> latestTickers(BinanceApiCallback<TickerEvent> callback, Executor executor) {
+    return conflating(callback, executor, DEFAULT_CAPACITY, TickerEvent::getSymbol);
+  }
+
+  /**
+   * Dispatcher of the book tickers of all markets keeping only the latest undelivered book ticker per symbol.
+   *
+   * @param callback the callback to deliver book tickers to
+   * @param executor the executor running deliveries, or null for a dedicated thread
+   */
+  public static EventDispatcher<BookTickerEvent> latestBookTickers(BinanceApiCallback<BookTickerEvent> callback, Executor executor) {
+    return conflating(callback, executor, DEFAULT_CAPACITY, BookTickerEvent::getSymbol);
+  }
+
+  /**
+   * @return a callback queueing every event of a list, as delivered by
+   * {@link com.binance.api.client.BinanceApiWebSocketClient#onAllMarketTickersEvent(BinanceApiCallback)}
+   */
+  public BinanceApiCallback<List<T>> forLists() {
+    return new BinanceApiCallback<List<T>>() {
+      @Override
+      public void onResponse(List<T> events) {
+        events.forEach(EventDispatcher.this::onResponse);
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        EventDispatcher.this.onFailure(cause);
+      }
+    };
+  }
+
+  /**
+   * Have the web socket listeners queue raw messages, parsed on the consumer thread. Not available when conflating,
+   * which needs the event to find its key.
+   *
+   * @return this dispatcher
+   */
+  public EventDispatcher<T> deferParsing() {
+    if (overflowPolicy == OverflowPolicy.CONFLATE) {
+      throw new IllegalStateException("Conflation needs events to be parsed before they are queued");
+    }
+    this.parsingDeferred = true;
+    return this;
+  }
+
+  /**
+   * @return true if messages should be handed over unparsed, through {@link #onMessage(Parser)}
+   */
+  public boolean isParsingDeferred() {
+    return parsingDeferred;
+  }
+
+  @Override
+  public void onResponse(T event) {
+    if (latestByKey != null) {
+      final Object key = conflationKey.apply(event);
+      if (latestByKey.put(key, event) != null) {
+        conflatedCount.incrementAndGet();
+        return;
+      }
+      enqueue(new Conflated(key));
+    } else {
+      enqueue(event);
+    }
+  }
+
+  /**
+   * Queue a message to be parsed and delivered on the consumer thread.
+   */
+  public void onMessage(Parser<T> parser) {
+    enqueue(new Deferred<>(parser));
+  }
+
+  @Override
+  public void onFailure(Throwable cause) {
+    enqueue(new Failure(cause));
+  }
+
+  @Override
+  public void onGap(String stream) {
+    enqueue(new Gap(stream));
+  }
+
+  private void enqueue(Object element) {
+    while (!queue.offer(element)) {
+      if (closed) {
+        return;
+      }
+      if (overflowPolicy == OverflowPolicy.DROP_OLDEST && !isControl(element)
+          && queue.dropOldest(oldest -> !isControl(oldest))) {
+        droppedCount.incrementAndGet();
+      } else {
+        scheduleDrain();
+        LockSupport.parkNanos(BLOCK_PARK_NANOS);
+      }
+    }
+    int depth = queue.size();
+    if (depth > maxQueueDepth) {
+      maxQueueDepth = depth;
+    }
+    scheduleDrain();
+  }
+
+  /**
+   * @return true for the failures and gaps, which must reach the callback even when events are dropped
+   */
+  private static boolean isControl(Object element) {
+    return element instanceof Failure || element instanceof Gap;
+  }
+
+  private void scheduleDrain() {
+    if (!closed && draining.compareAndSet(false, true)) {
+      executor.execute(this::drain);
+    }
+  }
+
+  private void drain() {
+    for (;;) {
+      for (int delivered = 0; delivered < DRAIN_BATCH_SIZE; delivered++) {
+        Object element = queue.poll();
+        if (element == null) {
+          break;
+        }
+        deliver(element);
+      }
+      if (!queue.isEmpty() && !closed) {
+        // give other dispatchers sharing the executor a turn
+        executor.execute(this::drain);
+        return;
+      }
+      draining.set(false);
+      if (queue.isEmpty() || closed || !draining.compareAndSet(false, true)) {
+        return;
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void deliver(Object element) {
+    try {
+      if (element instanceof Signal) {
+        ((Signal) element).deliver(this);
+      } else {
+        callback.onResponse((T) element);
+      }
+    } catch (RuntimeException e) {
+      Thread thread = Thread.currentThread();
+      thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+    }
+  }
+
+  /**
+   * @return the number of events waiting to be delivered.
+   */
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  /**
+   * @return the highest number of events that were waiting to be delivered at once.
+   */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth;
+  }
+
+  /**
+   * @return the capacity of the queue.
+   */
+  public int getCapacity() {
+    return queue.capacity();
+  }
+
+  /**
+   * @return the number of events discarded by {@link OverflowPolicy#DROP_OLDEST}.
+   */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * @return the number of events replaced by a later event of the same key with {@link OverflowPolicy#CONFLATE}.
+   */
+  public long getConflatedCount() {
+    return conflatedCount.get();
+  }
+
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Stop delivering events, and stop the dedicated thread if any.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    if (ownedExecutor != null) {
+      ownedExecutor.shutdownNow();
+    }
+  }
+
+  /**
+   * Parses a message into an event.
+   */
+  @FunctionalInterface
+  public interface Parser<T> {
+
+    T parse() throws IOException;
+  }
+
+  /**
+   * A queued element which is not an event as such.
+   */
+  private interface Signal {
+
+    void deliver(EventDispatcher<?> dispatcher);
+  }
+
+  private static final class Deferred<T> implements Signal {
+
+    private final Parser<T> parser;
+
+    private Deferred(Parser<T> parser) {
+      this.parser = parser;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void deliver(EventDispatcher<?> dispatcher) {
+      final T event;
+      try {
+        event = parser.parse();
+      } catch (IOException e) {
+        dispatcher.callback.onFailure(new BinanceApiException(e));
+        return;
+      }
+      ((EventDispatcher<T>) dispatcher).callback.onResponse(event);
+    }
+  }
+
+  private static final class Conflated implements Signal {
+
+    private final Object key;
+
+    private Conflated(Object key) {
+      this.key = key;
+    }
+
+    @Override
+    public void deliver(EventDispatcher<?> dispatcher) {
+      deliverLatest(dispatcher, key);
+    }
+
+    private static <T> void deliverLatest(EventDispatcher<T> dispatcher, Object key) {
+      T event = dispatcher.latestByKey.remove(key);
+      if (event != null) {
+        dispatcher.callback.onResponse(event);
+      }
+    }
+  }
+
+  private static final class Failure implements Signal {
+
+    private final Throwable cause;
+
+    private Failure(Throwable cause) {
+      this.cause = cause;
+    }
+
+    @Override
+    public void deliver(EventDispatcher<?> dispatcher) {
+      dispatcher.callback.onFailure(cause);
+    }
+  }
+
+  private static final class Gap implements Signal {
+
+    private final String stream;
+
+    private Gap(String stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public void deliver(EventDispatcher<?> dispatcher) {
+      if (dispatcher.callback instanceof BinanceApiStreamCallback) {
+        ((BinanceApiStreamCallback<?>) dispatcher.callback).onGap(stream);
+      }
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package com.binance.api.client.dispatch;
+
+/**
+ * The interfaces of flow-controlled streams of events, in which subscribers receive no more events than they request.
+ * <p>
+ * They mirror {@link java.util.concurrent.Flow} of JDK 9 and later, and the Reactive Streams interfaces, with the same
+ * rules, while the library targets Java 8. Adapting them to either is thus a matter of forwarding each method.
+ */
+public final class EventFlow {
+
+  private EventFlow() {
+  }
+
+  /**
+   * A producer of events, delivered to each subscriber as it requests them.
+   *
+   * @param <T> the type of the events
+   */
+  @FunctionalInterface
+  public interface Publisher<T> {
+
+    /**
+     * Add a subscriber, which is first given its subscription through {@link Subscriber#onSubscribe(Subscription)}.
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+  }
+
+  /**
+   * A receiver of events. Its methods are called one at a time, in order.
+   *
+   * @param <T> the type of the events
+   */
+  public interface Subscriber<T> {
+
+    /**
+     * Called before any other method, with the subscription to request events through.
+     */
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Called with the next event, no more times than requested.
+     */
+    void onNext(T event);
+
+    /**
+     * Called when the stream failed, after which no method is called anymore.
+     */
+    void onError(Throwable cause);
+
+    /**
+     * Called when the stream ended, after which no method is called anymore.
+     */
+    void onComplete();
+  }
+
+  /**
+   * The link between a publisher and one of its subscribers.
+   */
+  public interface Subscription {
+
+    /**
+     * Ask for up to <code>n</code> more events. A non-positive <code>n</code> fails the subscription with an
+     * {@link IllegalArgumentException}.
+     */
+    void request(long n);
+
+    /**
+     * Stop receiving events. Events may still arrive until the cancellation is seen.
+     */
+    void cancel();
+  }
+}
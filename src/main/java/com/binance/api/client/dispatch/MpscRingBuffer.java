@@ -0,0 +1,140 @@
+package com.binance.api.client.dispatch;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded ring buffer with any number of producers and a single consumer.
+ * <p>
+ * Producers claim a position by moving the tail with a compare-and-set, then publish their element in its slot. They
+ * may also discard the oldest element, so the consumer claims elements by moving the head with a compare-and-set, and
+ * retries if a producer got there first. Each slot carries the position it is ready for: the position itself once it
+ * may be written, the next one once its element is published, and the same position a lap later once it was claimed
+ * and cleared. This way an element is only claimed after being published for that very position, and a slot is only
+ * reused once the element of the previous lap is gone, so that the buffer does not keep delivered events reachable.
+ */
+class MpscRingBuffer {
+
+  private final AtomicReferenceArray<Object> buffer;
+
+  private final AtomicLongArray sequences;
+
+  private final int mask;
+
+  private final AtomicLong head = new AtomicLong();
+
+  private final AtomicLong tail = new AtomicLong();
+
+  MpscRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+    this.buffer = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+    this.mask = size - 1;
+  }
+
+  int capacity() {
+    return buffer.length();
+  }
+
+  int size() {
+    return (int) (tail.get() - head.get());
+  }
+
+  boolean isEmpty() {
+    return tail.get() == head.get();
+  }
+
+  /**
+   * Producer side: append an element unless the buffer is full.
+   */
+  boolean offer(Object element) {
+    for (;;) {
+      final long t = tail.get();
+      final int index = (int) t & mask;
+      final long sequence = sequences.get(index);
+      if (sequence == t) {
+        if (tail.compareAndSet(t, t + 1)) {
+          buffer.lazySet(index, element);
+          sequences.set(index, t + 1);
+          return true;
+        }
+      } else if (sequence < t) {
+        if (t - head.get() >= buffer.length()) {
+          return false;
+        }
+        // the element of the previous lap was claimed but its slot is not cleared yet
+        Thread.yield();
+      }
+    }
+  }
+
+  /**
+   * Producer side: discard the oldest element.
+   *
+   * @return true if an element was discarded
+   */
+  boolean dropOldest() {
+    return dropOldest(element -> true);
+  }
+
+  /**
+   * Producer side: discard the oldest element, provided it may be discarded.
+   *
+   * @param droppable whether the oldest element may be discarded
+   * @return true if an element was discarded
+   */
+  boolean dropOldest(Predicate<Object> droppable) {
+    final long h = head.get();
+    final int index = (int) h & mask;
+    if (sequences.get(index) != h + 1) {
+      // empty, or the oldest element is not published yet
+      return false;
+    }
+    final Object element = buffer.get(index);
+    if (!droppable.test(element) || !head.compareAndSet(h, h + 1)) {
+      return false;
+    }
+    release(index, h);
+    return true;
+  }
+
+  /**
+   * Consumer side: take the oldest element.
+   *
+   * @return the element, or null if the buffer is empty
+   */
+  Object poll() {
+    for (;;) {
+      final long h = head.get();
+      if (h == tail.get()) {
+        return null;
+      }
+      final int index = (int) h & mask;
+      if (sequences.get(index) != h + 1) {
+        if (head.get() == h) {
+          // the position is claimed but its element not published yet
+          Thread.yield();
+        }
+        continue;
+      }
+      final Object element = buffer.get(index);
+      if (head.compareAndSet(h, h + 1)) {
+        release(index, h);
+        return element;
+      }
+    }
+  }
+
+  /**
+   * Clear the slot of a claimed position and hand it over to the producer of the next lap.
+   */
+  private void release(int index, long position) {
+    buffer.lazySet(index, null);
+    sequences.set(index, position + buffer.length());
+  }
+}
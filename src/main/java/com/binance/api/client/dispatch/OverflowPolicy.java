@@ -0,0 +1,22 @@
+package com.binance.api.client.dispatch;
+
+/**
+ * What an {@link EventDispatcher} or a {@link BufferedEventPublisher} does with a new event when its queue is full.
+ */
+public enum OverflowPolicy {
+
+  /**
+   * Wait for the consumer to make room. Back pressure reaches the socket, which the server may end up closing.
+   */
+  BLOCK,
+
+  /**
+   * Discard the oldest queued event to make room for the new one.
+   */
+  DROP_OLDEST,
+
+  /**
+   * Keep only the latest event per key (e.g. per symbol), so the queue never holds more entries than keys.
+   */
+  CONFLATE
+}
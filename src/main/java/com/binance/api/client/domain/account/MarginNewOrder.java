@@ -79,9 +79,9 @@ public class MarginNewOrder {
     private Long recvWindow;
 
     /**
-     * Order timestamp.
+     * Order timestamp, or null to stamp the order when it is sent.
      */
-    private long timestamp;
+    private Long timestamp;
 
     /**
      * Creates a new order with all required parameters.
@@ -93,7 +93,6 @@ public class MarginNewOrder {
         this.timeInForce = timeInForce;
         this.quantity = quantity;
         this.newOrderRespType = NewOrderResponseType.RESULT;
-        this.timestamp = System.currentTimeMillis();
         this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
     }
 
@@ -222,11 +221,11 @@ public class MarginNewOrder {
         return this;
     }
 
-    public long getTimestamp() {
+    public Long getTimestamp() {
         return timestamp;
     }
 
-    public MarginNewOrder timestamp(long timestamp) {
+    public MarginNewOrder timestamp(Long timestamp) {
         this.timestamp = timestamp;
         return this;
     }
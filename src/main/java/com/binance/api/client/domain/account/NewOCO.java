@@ -81,9 +81,9 @@ public class NewOCO {
     private Long recvWindow;
 
     /**
-     * Order timestamp.
+     * Order timestamp, or null to stamp the order when it is sent.
      */
-    private long timestamp;
+    private Long timestamp;
 
     /**
      * Creates a new OCO with all required parameters.
@@ -94,7 +94,6 @@ public class NewOCO {
         this.quantity = quantity;
         this.price = price;
         this.stopPrice = stopPrice;
-        this.timestamp = System.currentTimeMillis();
         this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
     }
 
@@ -210,11 +209,11 @@ public class NewOCO {
         this.recvWindow = recvWindow;
     }
 
-    public long getTimestamp() {
+    public Long getTimestamp() {
         return timestamp;
     }
 
-    public void setTimestamp(long timestamp) {
+    public void setTimestamp(Long timestamp) {
         this.timestamp = timestamp;
     }
 
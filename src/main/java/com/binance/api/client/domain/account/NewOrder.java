@@ -79,9 +79,9 @@ public class NewOrder {
   private Long recvWindow;
 
   /**
-   * Order timestamp.
+   * Order timestamp, or null to stamp the order when it is sent.
    */
-  private long timestamp;
+  private Long timestamp;
 
   /**
    * Creates a new order with all required parameters.
@@ -93,7 +93,6 @@ public class NewOrder {
     this.timeInForce = timeInForce;
     this.quantity = quantity;
     this.newOrderRespType = NewOrderResponseType.RESULT;
-    this.timestamp = System.currentTimeMillis();
     this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
   }
 
@@ -222,11 +221,11 @@ public class NewOrder {
     return this;
   }
 
-  public long getTimestamp() {
+  public Long getTimestamp() {
     return timestamp;
   }
 
-  public NewOrder timestamp(long timestamp) {
+  public NewOrder timestamp(Long timestamp) {
     this.timestamp = timestamp;
     return this;
   }
@@ -22,7 +22,6 @@ public class AllOrderListRequest {
 
     public AllOrderListRequest() {
         this.limit = DEFAULT_LIMIT;
-        this.timestamp = System.currentTimeMillis();
         this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
     }
 
@@ -23,7 +23,6 @@ public class CancelOrderListRequest {
 
     public CancelOrderListRequest(String symbol) {
         this.symbol = symbol;
-        this.timestamp = System.currentTimeMillis();
         this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
     }
 
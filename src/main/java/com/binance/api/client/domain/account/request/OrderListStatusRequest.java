@@ -16,7 +16,6 @@ public class OrderListStatusRequest {
 
     public OrderListStatusRequest(Long orderListId) {
         this.orderListId = orderListId;
-        this.timestamp = System.currentTimeMillis();
         this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
     }
 
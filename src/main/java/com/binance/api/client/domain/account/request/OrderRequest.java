@@ -18,7 +18,6 @@ public class OrderRequest {
 
   public OrderRequest(String symbol) {
     this.symbol = symbol;
-    this.timestamp = System.currentTimeMillis();
     this.recvWindow = BinanceApiConstants.DEFAULT_RECEIVING_WINDOW;
   }
 
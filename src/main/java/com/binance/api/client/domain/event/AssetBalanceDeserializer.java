@@ -2,10 +2,9 @@ package com.binance.api.client.domain.event;
 
 import com.binance.api.client.domain.account.AssetBalance;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
 
@@ -17,16 +16,22 @@ public class AssetBalanceDeserializer extends JsonDeserializer<AssetBalance> {
 
   @Override
   public AssetBalance deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
-    ObjectCodec oc = jp.getCodec();
-    JsonNode node = oc.readTree(jp);
-    final String asset = node.get("a").asText();
-    final String free = node.get("f").asText();
-    final String locked = node.get("l").asText();
-
     AssetBalance assetBalance = new AssetBalance();
-    assetBalance.setAsset(asset);
-    assetBalance.setFree(free);
-    assetBalance.setLocked(locked);
+
+    JsonToken token = jp.getCurrentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      final String field = jp.getCurrentName();
+      jp.nextToken();
+      switch (field) {
+        case "a": assetBalance.setAsset(jp.getText()); break;
+        case "f": assetBalance.setFree(jp.getText()); break;
+        case "l": assetBalance.setLocked(jp.getText()); break;
+        default: jp.skipChildren();
+      }
+    }
     return assetBalance;
   }
-}
\ No newline at end of file
+}
@@ -1,6 +1,8 @@
 package com.binance.api.client.domain.event;
 
 import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.market.FixedDecimal;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -19,16 +21,16 @@ public class BookTickerEvent {
     private String symbol;
 
     @JsonProperty("b")
-    private String bidPrice;
+    private FixedDecimal bidPrice;
 
     @JsonProperty("B")
-    private String bidQuantity;
+    private FixedDecimal bidQuantity;
 
     @JsonProperty("a")
-    private String askPrice;
+    private FixedDecimal askPrice;
 
     @JsonProperty("A")
-    private String askQuantity;
+    private FixedDecimal askQuantity;
 
     public BookTickerEvent() {
         super();
@@ -39,19 +41,19 @@ public class BookTickerEvent {
         super();
         this.updateId = updateId;
         this.symbol = symbol;
-        this.bidPrice = bidPrice;
-        this.bidQuantity = bidQuantity;
-        this.askPrice = askPrice;
-        this.askQuantity = askQuantity;
+        this.bidPrice = bidPrice == null ? null : FixedDecimal.parse(bidPrice);
+        this.bidQuantity = bidQuantity == null ? null : FixedDecimal.parse(bidQuantity);
+        this.askPrice = askPrice == null ? null : FixedDecimal.parse(askPrice);
+        this.askQuantity = askQuantity == null ? null : FixedDecimal.parse(askQuantity);
     }
 
     public BookTickerEvent(String symbol, String bidPrice, String bidQuantity, String askPrice, String askQuantity) {
         super();
         this.symbol = symbol;
-        this.bidPrice = bidPrice;
-        this.bidQuantity = bidQuantity;
-        this.askPrice = askPrice;
-        this.askQuantity = askQuantity;
+        this.bidPrice = bidPrice == null ? null : FixedDecimal.parse(bidPrice);
+        this.bidQuantity = bidQuantity == null ? null : FixedDecimal.parse(bidQuantity);
+        this.askPrice = askPrice == null ? null : FixedDecimal.parse(askPrice);
+        this.askQuantity = askQuantity == null ? null : FixedDecimal.parse(askQuantity);
     }
 
     public long getUpdateId() {
@@ -71,34 +73,74 @@ public class BookTickerEvent {
     }
 
     public String getBidPrice() {
-        return bidPrice;
+        return bidPrice == null ? null : bidPrice.toString();
     }
 
+    @JsonIgnore
     public void setBidPrice(String bidPrice) {
+        this.bidPrice = bidPrice == null ? null : FixedDecimal.parse(bidPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBidPriceValue() {
+        return bidPrice;
+    }
+
+    public void setBidPriceValue(FixedDecimal bidPrice) {
         this.bidPrice = bidPrice;
     }
 
     public String getBidQuantity() {
-        return bidQuantity;
+        return bidQuantity == null ? null : bidQuantity.toString();
     }
 
+    @JsonIgnore
     public void setBidQuantity(String bidQuantity) {
+        this.bidQuantity = bidQuantity == null ? null : FixedDecimal.parse(bidQuantity);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBidQuantityValue() {
+        return bidQuantity;
+    }
+
+    public void setBidQuantityValue(FixedDecimal bidQuantity) {
         this.bidQuantity = bidQuantity;
     }
 
     public String getAskPrice() {
-        return askPrice;
+        return askPrice == null ? null : askPrice.toString();
     }
 
+    @JsonIgnore
     public void setAskPrice(String askPrice) {
+        this.askPrice = askPrice == null ? null : FixedDecimal.parse(askPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getAskPriceValue() {
+        return askPrice;
+    }
+
+    public void setAskPriceValue(FixedDecimal askPrice) {
         this.askPrice = askPrice;
     }
 
     public String getAskQuantity() {
-        return askQuantity;
+        return askQuantity == null ? null : askQuantity.toString();
     }
 
+    @JsonIgnore
     public void setAskQuantity(String askQuantity) {
+        this.askQuantity = askQuantity == null ? null : FixedDecimal.parse(askQuantity);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getAskQuantityValue() {
+        return askQuantity;
+    }
+
+    public void setAskQuantityValue(FixedDecimal askQuantity) {
         this.askQuantity = askQuantity;
     }
 
@@ -2,27 +2,35 @@ package com.binance.api.client.domain.event;
 
 import com.binance.api.client.domain.account.OrderReport;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
 
-
+/**
+ * Custom deserializer for the order entries of a list status event, which come in the format {"s":"symbol","i":orderId,"c":"clientOrderId"}.
+ */
 public class OrderReportDeserializer extends JsonDeserializer<OrderReport> {
 
     @Override
     public OrderReport deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
-        ObjectCodec oc = jp.getCodec();
-        JsonNode node = oc.readTree(jp);
-        final String symbol = node.get("s").asText();
-        final Long orderId = node.get("i").asLong();
-        final String clientOrderId = node.get("c").asText();
         OrderReport report = new OrderReport();
-        report.setSymbol(symbol);
-        report.setOrderId(orderId);
-        report.setClientOrderId(clientOrderId);
+
+        JsonToken token = jp.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jp.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            final String field = jp.getCurrentName();
+            jp.nextToken();
+            switch (field) {
+                case "s": report.setSymbol(jp.getText()); break;
+                case "i": report.setOrderId(jp.getValueAsLong()); break;
+                case "c": report.setClientOrderId(jp.getText()); break;
+                default: jp.skipChildren();
+            }
+        }
         return report;
     }
 }
@@ -1,6 +1,8 @@
 package com.binance.api.client.domain.event;
 
 import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.market.FixedDecimal;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -21,43 +23,43 @@ public class TickerEvent {
     private String symbol;
 
     @JsonProperty("p")
-    private String priceChange;
+    private FixedDecimal priceChange;
 
     @JsonProperty("P")
     private String priceChangePercent;
 
     @JsonProperty("w")
-    private String weightedAveragePrice;
+    private FixedDecimal weightedAveragePrice;
 
     @JsonProperty("x")
-    private String previousDaysClosePrice;
+    private FixedDecimal previousDaysClosePrice;
 
     @JsonProperty("c")
-    private String currentDaysClosePrice;
+    private FixedDecimal currentDaysClosePrice;
 
     @JsonProperty("Q")
-    private String closeTradesQuantity;
+    private FixedDecimal closeTradesQuantity;
 
     @JsonProperty("b")
-    private String bestBidPrice;
+    private FixedDecimal bestBidPrice;
 
     @JsonProperty("B")
-    private String bestBidQuantity;
+    private FixedDecimal bestBidQuantity;
 
     @JsonProperty("a")
-    private String bestAskPrice;
+    private FixedDecimal bestAskPrice;
 
     @JsonProperty("A")
-    private String bestAskQuantity;
+    private FixedDecimal bestAskQuantity;
 
     @JsonProperty("o")
-    private String openPrice;
+    private FixedDecimal openPrice;
 
     @JsonProperty("h")
-    private String highPrice;
+    private FixedDecimal highPrice;
 
     @JsonProperty("l")
-    private String lowPrice;
+    private FixedDecimal lowPrice;
 
     @JsonProperty("v")
     private String totalTradedBaseAssetVolume;
@@ -105,10 +107,20 @@ public class TickerEvent {
     }
 
     public String getPriceChange() {
-        return priceChange;
+        return priceChange == null ? null : priceChange.toString();
     }
 
+    @JsonIgnore
     public void setPriceChange(String priceChange) {
+        this.priceChange = priceChange == null ? null : FixedDecimal.parse(priceChange);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getPriceChangeValue() {
+        return priceChange;
+    }
+
+    public void setPriceChangeValue(FixedDecimal priceChange) {
         this.priceChange = priceChange;
     }
 
@@ -121,90 +133,200 @@ public class TickerEvent {
     }
 
     public String getWeightedAveragePrice() {
-        return weightedAveragePrice;
+        return weightedAveragePrice == null ? null : weightedAveragePrice.toString();
     }
 
+    @JsonIgnore
     public void setWeightedAveragePrice(String weightedAveragePrice) {
+        this.weightedAveragePrice = weightedAveragePrice == null ? null : FixedDecimal.parse(weightedAveragePrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getWeightedAveragePriceValue() {
+        return weightedAveragePrice;
+    }
+
+    public void setWeightedAveragePriceValue(FixedDecimal weightedAveragePrice) {
         this.weightedAveragePrice = weightedAveragePrice;
     }
 
     public String getPreviousDaysClosePrice() {
-        return previousDaysClosePrice;
+        return previousDaysClosePrice == null ? null : previousDaysClosePrice.toString();
     }
 
+    @JsonIgnore
     public void setPreviousDaysClosePrice(String previousDaysClosePrice) {
+        this.previousDaysClosePrice = previousDaysClosePrice == null ? null : FixedDecimal.parse(previousDaysClosePrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getPreviousDaysClosePriceValue() {
+        return previousDaysClosePrice;
+    }
+
+    public void setPreviousDaysClosePriceValue(FixedDecimal previousDaysClosePrice) {
         this.previousDaysClosePrice = previousDaysClosePrice;
     }
 
     public String getCurrentDaysClosePrice() {
-        return currentDaysClosePrice;
+        return currentDaysClosePrice == null ? null : currentDaysClosePrice.toString();
     }
 
+    @JsonIgnore
     public void setCurrentDaysClosePrice(String currentDaysClosePrice) {
+        this.currentDaysClosePrice = currentDaysClosePrice == null ? null : FixedDecimal.parse(currentDaysClosePrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getCurrentDaysClosePriceValue() {
+        return currentDaysClosePrice;
+    }
+
+    public void setCurrentDaysClosePriceValue(FixedDecimal currentDaysClosePrice) {
         this.currentDaysClosePrice = currentDaysClosePrice;
     }
 
     public String getCloseTradesQuantity() {
-        return closeTradesQuantity;
+        return closeTradesQuantity == null ? null : closeTradesQuantity.toString();
     }
 
+    @JsonIgnore
     public void setCloseTradesQuantity(String closeTradesQuantity) {
+        this.closeTradesQuantity = closeTradesQuantity == null ? null : FixedDecimal.parse(closeTradesQuantity);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getCloseTradesQuantityValue() {
+        return closeTradesQuantity;
+    }
+
+    public void setCloseTradesQuantityValue(FixedDecimal closeTradesQuantity) {
         this.closeTradesQuantity = closeTradesQuantity;
     }
 
     public String getBestBidPrice() {
-        return bestBidPrice;
+        return bestBidPrice == null ? null : bestBidPrice.toString();
     }
 
+    @JsonIgnore
     public void setBestBidPrice(String bestBidPrice) {
+        this.bestBidPrice = bestBidPrice == null ? null : FixedDecimal.parse(bestBidPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBestBidPriceValue() {
+        return bestBidPrice;
+    }
+
+    public void setBestBidPriceValue(FixedDecimal bestBidPrice) {
         this.bestBidPrice = bestBidPrice;
     }
 
     public String getBestBidQuantity() {
-        return bestBidQuantity;
+        return bestBidQuantity == null ? null : bestBidQuantity.toString();
     }
 
+    @JsonIgnore
     public void setBestBidQuantity(String bestBidQuantity) {
+        this.bestBidQuantity = bestBidQuantity == null ? null : FixedDecimal.parse(bestBidQuantity);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBestBidQuantityValue() {
+        return bestBidQuantity;
+    }
+
+    public void setBestBidQuantityValue(FixedDecimal bestBidQuantity) {
         this.bestBidQuantity = bestBidQuantity;
     }
 
     public String getBestAskPrice() {
-        return bestAskPrice;
+        return bestAskPrice == null ? null : bestAskPrice.toString();
     }
 
+    @JsonIgnore
     public void setBestAskPrice(String bestAskPrice) {
+        this.bestAskPrice = bestAskPrice == null ? null : FixedDecimal.parse(bestAskPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBestAskPriceValue() {
+        return bestAskPrice;
+    }
+
+    public void setBestAskPriceValue(FixedDecimal bestAskPrice) {
         this.bestAskPrice = bestAskPrice;
     }
 
     public String getBestAskQuantity() {
-        return bestAskQuantity;
+        return bestAskQuantity == null ? null : bestAskQuantity.toString();
     }
 
+    @JsonIgnore
     public void setBestAskQuantity(String bestAskQuantity) {
+        this.bestAskQuantity = bestAskQuantity == null ? null : FixedDecimal.parse(bestAskQuantity);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getBestAskQuantityValue() {
+        return bestAskQuantity;
+    }
+
+    public void setBestAskQuantityValue(FixedDecimal bestAskQuantity) {
         this.bestAskQuantity = bestAskQuantity;
     }
 
     public String getOpenPrice() {
-        return openPrice;
+        return openPrice == null ? null : openPrice.toString();
     }
 
+    @JsonIgnore
     public void setOpenPrice(String openPrice) {
+        this.openPrice = openPrice == null ? null : FixedDecimal.parse(openPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getOpenPriceValue() {
+        return openPrice;
+    }
+
+    public void setOpenPriceValue(FixedDecimal openPrice) {
         this.openPrice = openPrice;
     }
 
     public String getHighPrice() {
-        return highPrice;
+        return highPrice == null ? null : highPrice.toString();
     }
 
+    @JsonIgnore
     public void setHighPrice(String highPrice) {
+        this.highPrice = highPrice == null ? null : FixedDecimal.parse(highPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getHighPriceValue() {
+        return highPrice;
+    }
+
+    public void setHighPriceValue(FixedDecimal highPrice) {
         this.highPrice = highPrice;
     }
 
     public String getLowPrice() {
-        return lowPrice;
+        return lowPrice == null ? null : lowPrice.toString();
     }
 
+    @JsonIgnore
     public void setLowPrice(String lowPrice) {
+        this.lowPrice = lowPrice == null ? null : FixedDecimal.parse(lowPrice);
+    }
+
+    @JsonIgnore
+    public FixedDecimal getLowPriceValue() {
+        return lowPrice;
+    }
+
+    public void setLowPriceValue(FixedDecimal lowPrice) {
         this.lowPrice = lowPrice;
     }
 
@@ -3,59 +3,113 @@ package com.binance.api.client.domain.event;
 import com.binance.api.client.domain.event.UserDataUpdateEvent.UserDataUpdateEventType;
 import com.binance.api.client.exception.BinanceApiException;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 import java.io.IOException;
 
 /**
  * Custom deserializer for a User Data stream event, since the API can return four different responses in this stream.
+ * <p>
+ * The event is parsed in a single pass: the header fields ("e" and "E", which Binance sends first) are buffered until the
+ * event type is known, after which the buffered tokens and the rest of the stream are handed to the deserializer of the
+ * matching event detail type.
  *
  * @see UserDataUpdateEvent
  */
-public class UserDataUpdateEventDeserializer extends JsonDeserializer<UserDataUpdateEvent> {
+public class UserDataUpdateEventDeserializer extends JsonDeserializer<UserDataUpdateEvent> implements ResolvableDeserializer {
 
-  private ObjectMapper mapper;
+  private JsonDeserializer<Object> accountUpdateEventDeserializer;
+
+  private JsonDeserializer<Object> balanceUpdateEventDeserializer;
+
+  private JsonDeserializer<Object> orderTradeUpdateEventDeserializer;
+
+  private JsonDeserializer<Object> listStatusUpdateEventDeserializer;
+
+  @Override
+  public void resolve(DeserializationContext ctx) throws JsonMappingException {
+    accountUpdateEventDeserializer = ctx.findRootValueDeserializer(ctx.constructType(AccountUpdateEvent.class));
+    balanceUpdateEventDeserializer = ctx.findRootValueDeserializer(ctx.constructType(BalanceUpdateEvent.class));
+    orderTradeUpdateEventDeserializer = ctx.findRootValueDeserializer(ctx.constructType(OrderTradeUpdateEvent.class));
+    listStatusUpdateEventDeserializer = ctx.findRootValueDeserializer(ctx.constructType(ListStatusUpdateEvent.class));
+  }
 
   @Override
   public UserDataUpdateEvent deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+    // Buffer the header until both the event type and time have been seen
+    TokenBuffer header = new TokenBuffer(jp, ctx);
+    header.writeStartObject();
 
-    if (mapper == null) {
-      mapper = new ObjectMapper();
-    }
+    String eventTypeId = null;
+    long eventTime = 0L;
+    boolean eventTimeSeen = false;
 
-    ObjectCodec oc = jp.getCodec();
-    JsonNode node = oc.readTree(jp);
-    String json = node.toString();
+    JsonToken token = jp.getCurrentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = jp.nextToken();
+    }
+    for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+      final String field = jp.getCurrentName();
+      jp.nextToken();
+      if ("e".equals(field)) {
+        eventTypeId = jp.getText();
+      } else if ("E".equals(field)) {
+        eventTime = jp.getValueAsLong();
+        eventTimeSeen = true;
+      }
+      header.writeFieldName(field);
+      header.copyCurrentStructure(jp);
+      if (eventTypeId != null && eventTimeSeen) {
+        break;
+      }
+    }
 
-    final String eventTypeId = node.get("e").asText();
-    final Long eventTime = node.get("E").asLong();
     UserDataUpdateEventType userDataUpdateEventType = UserDataUpdateEventType.fromEventTypeId(eventTypeId);
 
+    // Replay the buffered header followed by the remainder of the object
+    JsonParser detailParser;
+    if (token == JsonToken.FIELD_NAME) {
+      jp.clearCurrentToken();
+      detailParser = JsonParserSequence.createFlattened(false, header.asParser(jp), jp);
+    } else {
+      header.writeEndObject();
+      detailParser = header.asParser(jp);
+    }
+    detailParser.nextToken();
+
     UserDataUpdateEvent userDataUpdateEvent = new UserDataUpdateEvent();
     userDataUpdateEvent.setEventType(userDataUpdateEventType);
     userDataUpdateEvent.setEventTime(eventTime);
 
     if (userDataUpdateEventType == UserDataUpdateEventType.ACCOUNT_POSITION_UPDATE) {
-      AccountUpdateEvent accountUpdateEvent = getUserDataUpdateEventDetail(json, AccountUpdateEvent.class, mapper);
+      AccountUpdateEvent accountUpdateEvent = (AccountUpdateEvent) accountUpdateEventDeserializer.deserialize(detailParser, ctx);
       userDataUpdateEvent.setOutboundAccountPositionUpdateEvent(accountUpdateEvent);
     } else if (userDataUpdateEventType == UserDataUpdateEventType.BALANCE_UPDATE) {
-      BalanceUpdateEvent balanceUpdateEvent = getUserDataUpdateEventDetail(json, BalanceUpdateEvent.class, mapper);
+      BalanceUpdateEvent balanceUpdateEvent = (BalanceUpdateEvent) balanceUpdateEventDeserializer.deserialize(detailParser, ctx);
       userDataUpdateEvent.setBalanceUpdateEvent(balanceUpdateEvent);
     } else if (userDataUpdateEventType == UserDataUpdateEventType.ORDER_TRADE_UPDATE) {
-      OrderTradeUpdateEvent orderTradeUpdateEvent = getUserDataUpdateEventDetail(json, OrderTradeUpdateEvent.class, mapper);
+      OrderTradeUpdateEvent orderTradeUpdateEvent = (OrderTradeUpdateEvent) orderTradeUpdateEventDeserializer.deserialize(detailParser, ctx);
       userDataUpdateEvent.setOrderTradeUpdateEvent(orderTradeUpdateEvent);
     } else { //LIST_STATUS
-      ListStatusUpdateEvent listStatusUpdateEvent = getUserDataUpdateEventDetail(json, ListStatusUpdateEvent.class, mapper);
+      ListStatusUpdateEvent listStatusUpdateEvent = (ListStatusUpdateEvent) listStatusUpdateEventDeserializer.deserialize(detailParser, ctx);
       userDataUpdateEvent.setListStatusUpdateEvent(listStatusUpdateEvent);
     }
 
     return userDataUpdateEvent;
   }
 
+  /**
+   * @deprecated events are no longer parsed twice, read the detail with <code>mapper.readValue(json, clazz)</code> if
+   * needed.
+   */
+  @Deprecated
   public <T> T getUserDataUpdateEventDetail(String json, Class<T> clazz, ObjectMapper mapper) {
     try {
       return mapper.readValue(json, clazz);
@@ -64,4 +118,3 @@ public class UserDataUpdateEventDeserializer extends JsonDeserializer<UserDataUp
     }
   }
 }
-
@@ -14,6 +14,8 @@ public class RateLimit {
 
   private RateLimitInterval interval;
 
+  private Integer intervalNum;
+
   private Integer limit;
 
   public RateLimitType getRateLimitType() {
@@ -32,6 +34,17 @@ public class RateLimit {
     this.interval = interval;
   }
 
+  /**
+   * @return the number of intervals the limit applies to, e.g. 10 for a limit per 10 seconds.
+   */
+  public Integer getIntervalNum() {
+    return intervalNum;
+  }
+
+  public void setIntervalNum(Integer intervalNum) {
+    this.intervalNum = intervalNum;
+  }
+
   public Integer getLimit() {
     return limit;
   }
@@ -45,6 +58,7 @@ public class RateLimit {
     return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
         .append("rateLimitType", rateLimitType)
         .append("interval", interval)
+        .append("intervalNum", intervalNum)
         .append("limit", limit)
         .toString();
   }
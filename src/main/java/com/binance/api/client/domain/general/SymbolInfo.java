@@ -2,10 +2,13 @@ package com.binance.api.client.domain.general;
 
 import com.binance.api.client.constant.BinanceApiConstants;
 import com.binance.api.client.domain.OrderType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * Symbol information (base/quote).
@@ -154,6 +157,35 @@ public class SymbolInfo {
         .get();
   }
 
+  /**
+   * @return number of decimals of a price on this symbol, derived from the tick size of its PRICE_FILTER,
+   * or its quote precision if it has no price filter.
+   */
+  @JsonIgnore
+  public int getPriceScale() {
+    return getStepScale(FilterType.PRICE_FILTER, SymbolFilter::getTickSize, quotePrecision);
+  }
+
+  /**
+   * @return number of decimals of a quantity on this symbol, derived from the step size of its LOT_SIZE filter,
+   * or its base asset precision if it has no lot size filter.
+   */
+  @JsonIgnore
+  public int getQuantityScale() {
+    return getStepScale(FilterType.LOT_SIZE, SymbolFilter::getStepSize, baseAssetPrecision);
+  }
+
+  private int getStepScale(FilterType filterType, Function<SymbolFilter, String> step, Integer precision) {
+    if (filters != null) {
+      for (SymbolFilter symbolFilter : filters) {
+        if (symbolFilter.getFilterType() == filterType && step.apply(symbolFilter) != null) {
+          return Math.max(0, new BigDecimal(step.apply(symbolFilter)).stripTrailingZeros().scale());
+        }
+      }
+    }
+    return precision == null ? 0 : precision;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
@@ -1,6 +1,7 @@
 package com.binance.api.client.domain.market;
 
 import com.binance.api.client.constant.BinanceApiConstants;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -15,10 +16,10 @@ public class AggTrade {
   private long aggregatedTradeId;
 
   @JsonProperty("p")
-  private String price;
+  private FixedDecimal price;
 
   @JsonProperty("q")
-  private String quantity;
+  private FixedDecimal quantity;
 
   @JsonProperty("f")
   private long firstBreakdownTradeId;
@@ -41,18 +42,38 @@ public class AggTrade {
   }
 
   public String getPrice() {
-    return price;
+    return price == null ? null : price.toString();
   }
 
+  @JsonIgnore
   public void setPrice(String price) {
+    this.price = price == null ? null : FixedDecimal.parse(price);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getPriceValue() {
+    return price;
+  }
+
+  public void setPriceValue(FixedDecimal price) {
     this.price = price;
   }
 
   public String getQuantity() {
-    return quantity;
+    return quantity == null ? null : quantity.toString();
   }
 
+  @JsonIgnore
   public void setQuantity(String quantity) {
+    this.quantity = quantity == null ? null : FixedDecimal.parse(quantity);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getQuantityValue() {
+    return quantity;
+  }
+
+  public void setQuantityValue(FixedDecimal quantity) {
     this.quantity = quantity;
   }
 
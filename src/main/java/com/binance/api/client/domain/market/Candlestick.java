@@ -2,7 +2,9 @@ package com.binance.api.client.domain.market;
 
 import com.binance.api.client.constant.BinanceApiConstants;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
@@ -16,13 +18,17 @@ public class Candlestick {
 
   private Long openTime;
 
-  private String open;
+  @JsonProperty
+  private FixedDecimal open;
 
-  private String high;
+  @JsonProperty
+  private FixedDecimal high;
 
-  private String low;
+  @JsonProperty
+  private FixedDecimal low;
 
-  private String close;
+  @JsonProperty
+  private FixedDecimal close;
 
   private String volume;
 
@@ -45,34 +51,74 @@ public class Candlestick {
   }
 
   public String getOpen() {
-    return open;
+    return open == null ? null : open.toString();
   }
 
+  @JsonIgnore
   public void setOpen(String open) {
+    this.open = open == null ? null : FixedDecimal.parse(open);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getOpenValue() {
+    return open;
+  }
+
+  public void setOpenValue(FixedDecimal open) {
     this.open = open;
   }
 
   public String getHigh() {
-    return high;
+    return high == null ? null : high.toString();
   }
 
+  @JsonIgnore
   public void setHigh(String high) {
+    this.high = high == null ? null : FixedDecimal.parse(high);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getHighValue() {
+    return high;
+  }
+
+  public void setHighValue(FixedDecimal high) {
     this.high = high;
   }
 
   public String getLow() {
-    return low;
+    return low == null ? null : low.toString();
   }
 
+  @JsonIgnore
   public void setLow(String low) {
+    this.low = low == null ? null : FixedDecimal.parse(low);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getLowValue() {
+    return low;
+  }
+
+  public void setLowValue(FixedDecimal low) {
     this.low = low;
   }
 
   public String getClose() {
-    return close;
+    return close == null ? null : close.toString();
   }
 
+  @JsonIgnore
   public void setClose(String close) {
+    this.close = close == null ? null : FixedDecimal.parse(close);
+  }
+
+  @JsonIgnore
+  public FixedDecimal getCloseValue() {
+    return close;
+  }
+
+  public void setCloseValue(FixedDecimal close) {
     this.close = close;
   }
 
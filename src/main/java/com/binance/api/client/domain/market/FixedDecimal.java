@@ -0,0 +1,302 @@
+package com.binance.api.client.domain.market;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+
+/**
+ * An immutable fixed-point decimal number, represented by a <code>long</code> mantissa and a decimal scale, such that its value
+ * is <code>mantissa * 10^-scale</code>.
+ * <p>
+ * Used for prices and quantities in market data, which the API sends as decimal strings with the precision of the symbol.
+ * The scale of a parsed value is the number of fraction digits in its textual form, so that {@link #toString()} gives back
+ * the original text (e.g. "0.10376590"). Use {@link #withScale(int)} to align a value to the precision of a symbol, as
+ * given by {@link com.binance.api.client.domain.general.SymbolInfo#getPriceScale()} and
+ * {@link com.binance.api.client.domain.general.SymbolInfo#getQuantityScale()}.
+ * <p>
+ * Unlike {@link BigDecimal}, {@link #equals(Object)} compares numeric values, so 1.0 and 1.00 are equal.
+ */
+@JsonDeserialize(using = FixedDecimalDeserializer.class)
+@JsonSerialize(using = FixedDecimalSerializer.class)
+public final class FixedDecimal implements Comparable<FixedDecimal> {
+
+  /**
+   * Largest supported scale.
+   */
+  public static final int MAX_SCALE = 18;
+
+  public static final FixedDecimal ZERO = new FixedDecimal(0L, 0);
+
+  private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+  static {
+    POWERS_OF_TEN[0] = 1L;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10L;
+    }
+  }
+
+  private final long mantissa;
+
+  private final int scale;
+
+  /**
+   * Textual form, computed on first use.
+   */
+  private String string;
+
+  private FixedDecimal(long mantissa, int scale) {
+    this.mantissa = mantissa;
+    this.scale = scale;
+  }
+
+  /**
+   * @return a decimal with value <code>mantissa * 10^-scale</code>.
+   */
+  public static FixedDecimal of(long mantissa, int scale) {
+    checkScale(scale);
+    return new FixedDecimal(mantissa, scale);
+  }
+
+  /**
+   * Parses a decimal string, such as "0.10376590", keeping the number of fraction digits as the scale.
+   *
+   * @throws NumberFormatException if the text is not a decimal number, or it does not fit in a long mantissa
+   */
+  public static FixedDecimal parse(CharSequence text) {
+    final int length = text.length();
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = text.charAt(i);
+    }
+    return parse(chars, 0, length);
+  }
+
+  /**
+   * Parses a decimal string and aligns it to the given scale.
+   *
+   * @throws NumberFormatException if the text is not a decimal number, or it does not fit in a long mantissa
+   * @throws ArithmeticException if the value has more significant fraction digits than <code>scale</code>
+   */
+  public static FixedDecimal parse(CharSequence text, int scale) {
+    return parse(text).withScale(scale);
+  }
+
+  /**
+   * Parses a decimal number from a character buffer, without intermediate allocations.
+   *
+   * @throws NumberFormatException if the text is not a decimal number, or it does not fit in a long mantissa
+   */
+  public static FixedDecimal parse(char[] chars, int offset, int length) {
+    int i = offset;
+    final int end = offset + length;
+    boolean negative = false;
+    if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+      negative = chars[i] == '-';
+      i++;
+    }
+    long mantissa = 0L;
+    int scale = -1;
+    int digits = 0;
+    for (; i < end; i++) {
+      final char c = chars[i];
+      if (c >= '0' && c <= '9') {
+        if (mantissa > (Long.MAX_VALUE - (c - '0')) / 10L) {
+          return parseSlow(chars, offset, length);
+        }
+        mantissa = mantissa * 10L + (c - '0');
+        digits++;
+        if (scale >= 0) {
+          scale++;
+        }
+      } else if (c == '.' && scale < 0) {
+        scale = 0;
+      } else {
+        // Exponents and anything unusual go through BigDecimal, which also rejects invalid input
+        return parseSlow(chars, offset, length);
+      }
+    }
+    if (digits == 0) {
+      throw new NumberFormatException("Not a decimal number: " + new String(chars, offset, length));
+    }
+    if (scale < 0) {
+      scale = 0;
+    } else if (scale > MAX_SCALE) {
+      return parseSlow(chars, offset, length);
+    }
+    return new FixedDecimal(negative ? -mantissa : mantissa, scale);
+  }
+
+  private static FixedDecimal parseSlow(char[] chars, int offset, int length) {
+    return valueOf(new BigDecimal(chars, offset, length));
+  }
+
+  /**
+   * Converts a {@link BigDecimal}, dropping trailing fraction zeros if needed to fit.
+   *
+   * @throws NumberFormatException if the value does not fit in a long mantissa with a scale of at most {@link #MAX_SCALE}
+   */
+  public static FixedDecimal valueOf(BigDecimal value) {
+    if (value.scale() < 0) {
+      value = value.setScale(0);
+    }
+    if (value.scale() > MAX_SCALE || value.unscaledValue().bitLength() > 63) {
+      value = value.stripTrailingZeros();
+      if (value.scale() < 0) {
+        value = value.setScale(0);
+      }
+      if (value.scale() > MAX_SCALE || value.unscaledValue().bitLength() > 63) {
+        throw new NumberFormatException("Value out of fixed-point range: " + value.toPlainString());
+      }
+    }
+    return new FixedDecimal(value.unscaledValue().longValue(), value.scale());
+  }
+
+  public long getMantissa() {
+    return mantissa;
+  }
+
+  public int getScale() {
+    return scale;
+  }
+
+  /**
+   * @return the mantissa of this value at the given scale, without allocating a rescaled instance.
+   * @throws ArithmeticException if the value has more significant fraction digits than <code>targetScale</code>, or the
+   * rescaled mantissa overflows
+   */
+  public long getMantissa(int targetScale) {
+    checkScale(targetScale);
+    if (targetScale >= scale) {
+      return mantissaAt(targetScale);
+    }
+    final long divisor = POWERS_OF_TEN[scale - targetScale];
+    if (mantissa % divisor != 0) {
+      throw new ArithmeticException("Rounding necessary to rescale " + this + " to " + targetScale);
+    }
+    return mantissa / divisor;
+  }
+
+  /**
+   * @return this value with the given scale.
+   * @throws ArithmeticException if the value has more significant fraction digits than <code>newScale</code>, or the rescaled
+   * mantissa overflows
+   */
+  public FixedDecimal withScale(int newScale) {
+    return newScale == scale ? this : new FixedDecimal(getMantissa(newScale), newScale);
+  }
+
+  /**
+   * @throws ArithmeticException if the result overflows
+   */
+  public FixedDecimal add(FixedDecimal other) {
+    final int resultScale = Math.max(scale, other.scale);
+    return new FixedDecimal(Math.addExact(mantissaAt(resultScale), other.mantissaAt(resultScale)), resultScale);
+  }
+
+  /**
+   * @throws ArithmeticException if the result overflows
+   */
+  public FixedDecimal subtract(FixedDecimal other) {
+    final int resultScale = Math.max(scale, other.scale);
+    return new FixedDecimal(Math.subtractExact(mantissaAt(resultScale), other.mantissaAt(resultScale)), resultScale);
+  }
+
+  public FixedDecimal negate() {
+    return new FixedDecimal(Math.negateExact(mantissa), scale);
+  }
+
+  public int signum() {
+    return Long.signum(mantissa);
+  }
+
+  public boolean isZero() {
+    return mantissa == 0L;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(mantissa, scale);
+  }
+
+  public double doubleValue() {
+    // Both operands are exact doubles here, so the division is correctly rounded
+    if (Math.abs(mantissa) <= (1L << 53)) {
+      return mantissa / (double) POWERS_OF_TEN[scale];
+    }
+    return toBigDecimal().doubleValue();
+  }
+
+  private long mantissaAt(int targetScale) {
+    return targetScale == scale ? mantissa : Math.multiplyExact(mantissa, POWERS_OF_TEN[targetScale - scale]);
+  }
+
+  private static void checkScale(int scale) {
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("Scale must be between 0 and " + MAX_SCALE + ": " + scale);
+    }
+  }
+
+  @Override
+  public int compareTo(FixedDecimal other) {
+    if (scale == other.scale) {
+      return Long.compare(mantissa, other.mantissa);
+    }
+    final int commonScale = Math.max(scale, other.scale);
+    try {
+      return Long.compare(mantissaAt(commonScale), other.mantissaAt(commonScale));
+    } catch (ArithmeticException e) {
+      return toBigDecimal().compareTo(other.toBigDecimal());
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return this == o || (o instanceof FixedDecimal && compareTo((FixedDecimal) o) == 0);
+  }
+
+  @Override
+  public int hashCode() {
+    long m = mantissa;
+    int s = scale;
+    while (s > 0 && m % 10L == 0) {
+      m /= 10L;
+      s--;
+    }
+    return 31 * Long.hashCode(m) + s;
+  }
+
+  @Override
+  public String toString() {
+    String s = string;
+    if (s == null) {
+      s = format();
+      string = s;
+    }
+    return s;
+  }
+
+  private String format() {
+    if (scale == 0) {
+      return Long.toString(mantissa);
+    }
+    // Long.MIN_VALUE has no positive counterpart, so the sign is taken off the text rather than the value
+    final String text = Long.toString(mantissa);
+    final String digits = mantissa < 0 ? text.substring(1) : text;
+    final StringBuilder sb = new StringBuilder(digits.length() + scale + 3);
+    if (mantissa < 0) {
+      sb.append('-');
+    }
+    final int integerDigits = digits.length() - scale;
+    if (integerDigits > 0) {
+      sb.append(digits, 0, integerDigits).append('.').append(digits, integerDigits, digits.length());
+    } else {
+      sb.append("0.");
+      for (int i = integerDigits; i < 0; i++) {
+        sb.append('0');
+      }
+      sb.append(digits);
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,31 @@
+package com.binance.api.client.domain.market;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Custom deserializer for a FixedDecimal, which parses decimal strings and numbers directly from the parser's character buffer.
+ */
+public class FixedDecimalDeserializer extends JsonDeserializer<FixedDecimal> {
+
+  @Override
+  public FixedDecimal deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+    final JsonToken token = jp.getCurrentToken();
+    if (token != JsonToken.VALUE_STRING && token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+      return (FixedDecimal) ctx.handleUnexpectedToken(FixedDecimal.class, jp);
+    }
+    final int length = jp.getTextLength();
+    if (length == 0) {
+      return null;
+    }
+    try {
+      return FixedDecimal.parse(jp.getTextCharacters(), jp.getTextOffset(), length);
+    } catch (NumberFormatException e) {
+      throw ctx.weirdStringException(jp.getText(), FixedDecimal.class, e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,18 @@
+package com.binance.api.client.domain.market;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+
+/**
+ * Custom serializer for a FixedDecimal, which writes it as a decimal string, the same way the API sends it.
+ */
+public class FixedDecimalSerializer extends JsonSerializer<FixedDecimal> {
+
+  @Override
+  public void serialize(FixedDecimal fixedDecimal, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+    gen.writeString(fixedDecimal.toString());
+  }
+}
@@ -15,22 +15,38 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class OrderBookEntry {
 
-  private String price;
-  private String qty;
+  private FixedDecimal price;
+  private FixedDecimal qty;
 
   public String getPrice() {
-    return price;
+    return price == null ? null : price.toString();
   }
 
   public void setPrice(String price) {
+    this.price = price == null ? null : FixedDecimal.parse(price);
+  }
+
+  public FixedDecimal getPriceValue() {
+    return price;
+  }
+
+  public void setPriceValue(FixedDecimal price) {
     this.price = price;
   }
 
   public String getQty() {
-    return qty;
+    return qty == null ? null : qty.toString();
   }
 
   public void setQty(String qty) {
+    this.qty = qty == null ? null : FixedDecimal.parse(qty);
+  }
+
+  public FixedDecimal getQtyValue() {
+    return qty;
+  }
+
+  public void setQtyValue(FixedDecimal qty) {
     this.qty = qty;
   }
 
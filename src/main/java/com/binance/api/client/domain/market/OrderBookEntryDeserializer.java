@@ -1,29 +1,41 @@
 package com.binance.api.client.domain.market;
 
-import com.binance.api.client.domain.market.OrderBookEntry;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.IOException;
 
 /**
  * Custom deserializer for an OrderBookEntry, since the API returns an array in the format [ price, qty, [] ].
+ * <p>
+ * The entry is read straight off the token stream, without building an intermediate tree, and price and quantity are parsed
+ * directly into {@link FixedDecimal}s.
  */
 public class OrderBookEntryDeserializer extends JsonDeserializer<OrderBookEntry> {
 
+  private static final FixedDecimalDeserializer fixedDecimalDeserializer = new FixedDecimalDeserializer();
+
   @Override
   public OrderBookEntry deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
-    ObjectCodec oc = jp.getCodec();
-    JsonNode node = oc.readTree(jp);
-    final String price = node.get(0).asText();
-    final String qty = node.get(1).asText();
+    if (!jp.isExpectedStartArrayToken()) {
+      return (OrderBookEntry) ctx.handleUnexpectedToken(OrderBookEntry.class, jp);
+    }
+    jp.nextToken();
+    final FixedDecimal price = fixedDecimalDeserializer.deserialize(jp, ctx);
+    jp.nextToken();
+    final FixedDecimal qty = fixedDecimalDeserializer.deserialize(jp, ctx);
+
+    // Skip any trailing elements, e.g. the legacy empty array
+    JsonToken token;
+    while ((token = jp.nextToken()) != JsonToken.END_ARRAY && token != null) {
+      jp.skipChildren();
+    }
 
     OrderBookEntry orderBookEntry = new OrderBookEntry();
-    orderBookEntry.setPrice(price);
-    orderBookEntry.setQty(qty);
+    orderBookEntry.setPriceValue(price);
+    orderBookEntry.setQtyValue(qty);
     return orderBookEntry;
   }
 }
@@ -2,6 +2,12 @@ package com.binance.api.client.exception;
 
 import com.binance.api.client.BinanceApiError;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 /**
  * An exception which can occur while invoking methods of the Binance API.
  */
@@ -13,6 +19,16 @@ public class BinanceApiException extends RuntimeException {
    */
   private BinanceApiError error;
 
+  /**
+   * HTTP status code of the response, or -1 if no response was received.
+   */
+  private int statusCode = -1;
+
+  /**
+   * HTTP headers of the response, by lower case name.
+   */
+  private Map<String, List<String>> headers = Collections.emptyMap();
+
   /**
    * Instantiates a new binance api exception.
    *
@@ -22,6 +38,19 @@ public class BinanceApiException extends RuntimeException {
     this.error = error;
   }
 
+  /**
+   * Instantiates a new binance api exception from an error response.
+   *
+   * @param error an error response object, or null if the response carried none
+   * @param statusCode the HTTP status code
+   * @param headers the HTTP headers, by lower case name
+   */
+  public BinanceApiException(BinanceApiError error, int statusCode, Map<String, List<String>> headers) {
+    this.error = error;
+    this.statusCode = statusCode;
+    this.headers = headers;
+  }
+
   /**
    * Instantiates a new binance api exception.
    */
@@ -64,11 +93,66 @@ public class BinanceApiException extends RuntimeException {
     return error;
   }
 
+  /**
+   * @return the HTTP status code of the response, or -1 if no response was received.
+   */
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  /**
+   * @return the HTTP headers of the response, by lower case name.
+   */
+  public Map<String, List<String>> getHeaders() {
+    return headers;
+  }
+
+  /**
+   * @return the first value of an HTTP header of the response, or null if absent.
+   */
+  public String getHeader(String name) {
+    List<String> values = headers.get(name.toLowerCase(Locale.ROOT));
+    return values == null || values.isEmpty() ? null : values.get(0);
+  }
+
+  /**
+   * @return true if the request was rejected for exceeding a rate limit (HTTP 429).
+   */
+  public boolean isRateLimited() {
+    return statusCode == 429;
+  }
+
+  /**
+   * @return true if the IP address is banned for having kept exceeding rate limits (HTTP 418).
+   */
+  public boolean isBanned() {
+    return statusCode == 418;
+  }
+
+  /**
+   * @return the time to wait before sending requests again, as advertised by the <code>Retry-After</code> header, or
+   * -1 if absent.
+   */
+  public long getRetryAfterMillis() {
+    String retryAfter = getHeader("Retry-After");
+    if (retryAfter != null) {
+      try {
+        return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+      } catch (NumberFormatException e) {
+        // not a number of seconds
+      }
+    }
+    return -1L;
+  }
+
   @Override
   public String getMessage() {
     if (error != null) {
       return error.getMsg();
     }
+    if (statusCode >= 0 && super.getMessage() == null) {
+      return "HTTP " + statusCode;
+    }
     return super.getMessage();
   }
 }
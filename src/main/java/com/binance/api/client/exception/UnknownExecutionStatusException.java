@@ -0,0 +1,31 @@
+package com.binance.api.client.exception;
+
+import com.binance.api.client.BinanceApiError;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The exchange sent the request to its matching engine but did not get its outcome in time (HTTP 504). The request
+ * may or may not have been executed: an order may have been placed or cancelled, and should be looked up, e.g. with
+ * {@link com.binance.api.client.order.OrderReconciler}, rather than sent again.
+ */
+public class UnknownExecutionStatusException extends BinanceApiException {
+
+  private static final long serialVersionUID = -6029412707145542471L;
+
+  /**
+   * @param error an error response object, or null if the response carried none
+   * @param statusCode the HTTP status code
+   * @param headers the HTTP headers, by lower case name
+   */
+  public UnknownExecutionStatusException(BinanceApiError error, int statusCode, Map<String, List<String>> headers) {
+    super(error, statusCode, headers);
+  }
+
+  @Override
+  public String getMessage() {
+    String message = super.getMessage();
+    return "Unknown execution status" + (message != null ? ": " + message : "");
+  }
+}
@@ -26,6 +26,10 @@ public class BinanceApiAsyncMarginRestClientImpl implements BinanceApiAsyncMargi
         binanceApiService = createService(BinanceApiService.class, apiKey, secret);
     }
 
+    public BinanceApiAsyncMarginRestClientImpl(BinanceApiService binanceApiService) {
+        this.binanceApiService = binanceApiService;
+    }
+
     // Margin Account endpoints
 
     @Override
@@ -46,6 +46,10 @@ public class BinanceApiAsyncRestClientImpl implements BinanceApiAsyncRestClient
     binanceApiService = createService(BinanceApiService.class, apiKey, secret);
   }
 
+  public BinanceApiAsyncRestClientImpl(BinanceApiService binanceApiService) {
+    this.binanceApiService = binanceApiService;
+  }
+
   // General endpoints
 
   @Override
@@ -175,6 +179,12 @@ public class BinanceApiAsyncRestClientImpl implements BinanceApiAsyncRestClient
         orderRequest.getRecvWindow(), orderRequest.getTimestamp()).enqueue(new BinanceApiCallbackAdapter<>(callback));
   }
 
+  @Override
+  public void cancelOpenOrders(OrderRequest orderRequest, BinanceApiCallback<List<CancelOrderResponse>> callback) {
+    binanceApiService.cancelOpenOrders(orderRequest.getSymbol(),
+        orderRequest.getRecvWindow(), orderRequest.getTimestamp()).enqueue(new BinanceApiCallbackAdapter<>(callback));
+  }
+
   @Override
   public void getAllOrders(AllOrdersRequest orderRequest, BinanceApiCallback<List<Order>> callback) {
     binanceApiService.getAllOrders(orderRequest.getSymbol(),
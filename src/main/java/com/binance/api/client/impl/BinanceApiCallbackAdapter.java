@@ -1,15 +1,12 @@
 package com.binance.api.client.impl;
 
 import com.binance.api.client.BinanceApiCallback;
-import com.binance.api.client.BinanceApiError;
 import com.binance.api.client.exception.BinanceApiException;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
 
-import java.io.IOException;
-
-import static com.binance.api.client.impl.BinanceApiServiceGenerator.getBinanceApiError;
+import static com.binance.api.client.impl.BinanceApiServiceGenerator.newBinanceApiException;
 
 /**
  * An adapter/wrapper which transforms a Callback from Retrofit into a BinanceApiCallback which is exposed to the client.
@@ -26,17 +23,9 @@ public class BinanceApiCallbackAdapter<T> implements Callback<T> {
     if (response.isSuccessful()) {
       callback.onResponse(response.body());
     } else {
-      if (response.code() == 504) {
-        // HTTP 504 return code is used when the API successfully sent the message but not get a response within the timeout period.
-        // It is important to NOT treat this as a failure; the execution status is UNKNOWN and could have been a success.
-        return;
-      }
-      try {
-        BinanceApiError apiError = getBinanceApiError(response);
-        onFailure(call, new BinanceApiException(apiError));
-      } catch (IOException e) {
-        onFailure(call, new BinanceApiException(e));
-      }
+      // HTTP 504 return code is used when the API successfully sent the message but not get a response within the timeout period.
+      // It is reported as an UnknownExecutionStatusException: the execution status is UNKNOWN and could have been a success.
+      onFailure(call, newBinanceApiException(response));
     }
   }
 
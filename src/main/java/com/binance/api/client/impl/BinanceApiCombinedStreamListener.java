@@ -0,0 +1,245 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiError;
+import com.binance.api.client.CombinedStream;
+import com.binance.api.client.dispatch.EventDispatcher;
+import com.binance.api.client.exception.BinanceApiException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Binance API WebSocket listener of a combined stream connection.
+ * <p>
+ * Messages are wrapped as <code>{"stream":"&lt;name&gt;","data":&lt;event&gt;}</code>. The wrapper is read with a
+ * streaming parser and the event is handed to the reader of its stream from the same parser, so that each message is
+ * parsed exactly once. Should the payload precede the stream name, it is buffered as tokens and replayed.
+ * <p>
+ * Streams can be attached and detached while the connection is open. Responses to requests sent on the connection,
+ * <code>{"result":..,"id":..}</code> or <code>{"error":{..},"id":..}</code>, complete the callback registered for
+ * their id.
+ */
+public class BinanceApiCombinedStreamListener extends WebSocketListener {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private static final ObjectReader resultReader = mapper.readerFor(new TypeReference<List<String>>() {
+  });
+
+  private static final ObjectReader errorReader = mapper.readerFor(BinanceApiError.class);
+
+  private final Map<String, StreamHandler<?>> handlers = new ConcurrentHashMap<>();
+
+  private final Map<Long, BinanceApiCallback<List<String>>> pendingRequests = new ConcurrentHashMap<>();
+
+  private final Consumer<Throwable> connectionFailureHandler;
+
+  private boolean closing = false;
+
+  public BinanceApiCombinedStreamListener(Collection<CombinedStream.Route<?>> routes) {
+    this(routes, null);
+  }
+
+  /**
+   * @param routes the streams attached from the start
+   * @param connectionFailureHandler told when the connection fails, even without streams attached, or null
+   */
+  public BinanceApiCombinedStreamListener(Collection<CombinedStream.Route<?>> routes, Consumer<Throwable> connectionFailureHandler) {
+    this.connectionFailureHandler = connectionFailureHandler;
+    routes.forEach(this::attach);
+  }
+
+  /**
+   * Deliver the events of a stream to its route, replacing any previous route of the stream.
+   */
+  public void attach(CombinedStream.Route<?> route) {
+    handlers.put(route.getStream(), new StreamHandler<>(route));
+  }
+
+  /**
+   * Stop delivering the events of a stream.
+   *
+   * @return true if the stream was attached
+   */
+  public boolean detach(String stream) {
+    return handlers.remove(stream) != null;
+  }
+
+  /**
+   * Stop delivering the events of a stream if it is still attached to the given route.
+   *
+   * @return true if the route was attached
+   */
+  public boolean detach(CombinedStream.Route<?> route) {
+    StreamHandler<?> handler = handlers.get(route.getStream());
+    return handler != null && handler.route == route && handlers.remove(route.getStream(), handler);
+  }
+
+  /**
+   * @return the streams currently attached.
+   */
+  public Set<String> getStreams() {
+    return Collections.unmodifiableSet(handlers.keySet());
+  }
+
+  /**
+   * Register the callback completed by the response to the request with the given id.
+   */
+  public void expectResponse(long id, BinanceApiCallback<List<String>> callback) {
+    pendingRequests.put(id, callback);
+  }
+
+  /**
+   * Forget a request that will not be answered, e.g. because it could not be sent.
+   */
+  public void cancelResponse(long id) {
+    pendingRequests.remove(id);
+  }
+
+  /**
+   * @return the ids of requests not acknowledged yet.
+   */
+  public Set<Long> getPendingRequestIds() {
+    return Collections.unmodifiableSet(pendingRequests.keySet());
+  }
+
+  @Override
+  public void onMessage(WebSocket webSocket, String text) {
+    try (JsonParser parser = mapper.getFactory().createParser(text)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return;
+      }
+      String stream = null;
+      TokenBuffer data = null;
+      Long id = null;
+      List<String> result = null;
+      BinanceApiError error = null;
+      for (JsonToken token = parser.nextToken(); token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+        final String field = parser.getCurrentName();
+        parser.nextToken();
+        if ("stream".equals(field)) {
+          stream = parser.getText();
+        } else if ("data".equals(field) && stream != null) {
+          dispatch(stream, parser);
+        } else if ("data".equals(field)) {
+          data = new TokenBuffer(parser);
+          data.copyCurrentStructure(parser);
+        } else if ("id".equals(field)) {
+          id = parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+        } else if ("result".equals(field)) {
+          result = parser.getCurrentToken() == JsonToken.VALUE_NULL ? null : resultReader.readValue(parser);
+        } else if ("error".equals(field)) {
+          error = errorReader.readValue(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (data != null && stream != null) {
+        try (JsonParser dataParser = data.asParser(parser)) {
+          dataParser.nextToken();
+          dispatch(stream, dataParser);
+        }
+      }
+      if (id != null) {
+        onResponse(id, result, error);
+      }
+    } catch (IOException e) {
+      throw new BinanceApiException(e);
+    }
+  }
+
+  private void onResponse(long id, List<String> result, BinanceApiError error) {
+    BinanceApiCallback<List<String>> callback = pendingRequests.remove(id);
+    if (callback == null) {
+      return;
+    }
+    if (error != null) {
+      callback.onFailure(new BinanceApiException(error));
+    } else {
+      callback.onResponse(result);
+    }
+  }
+
+  private void dispatch(String stream, JsonParser parser) throws IOException {
+    StreamHandler<?> handler = handlers.get(stream);
+    if (handler != null) {
+      handler.onEvent(parser);
+    } else {
+      parser.skipChildren();
+    }
+  }
+
+  @Override
+  public void onClosing(final WebSocket webSocket, final int code, final String reason) {
+    closing = true;
+  }
+
+  @Override
+  public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+    if (!closing) {
+      if (connectionFailureHandler != null) {
+        connectionFailureHandler.accept(t);
+      }
+      pendingRequests.values().forEach(callback -> callback.onFailure(t));
+      pendingRequests.clear();
+      Set<BinanceApiCallback<?>> callbacks = Collections.newSetFromMap(new IdentityHashMap<>());
+      for (StreamHandler<?> handler : handlers.values()) {
+        if (callbacks.add(handler.callback)) {
+          handler.callback.onFailure(t);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads the events of one stream and delivers them to its callback.
+   */
+  private static class StreamHandler<T> {
+
+    private final CombinedStream.Route<T> route;
+
+    private final ObjectReader objectReader;
+
+    private final BinanceApiCallback<T> callback;
+
+    private StreamHandler(CombinedStream.Route<T> route) {
+      this.route = route;
+      this.objectReader = mapper.readerFor(route.getEventType());
+      this.callback = route.getCallback();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onEvent(JsonParser parser) throws IOException {
+      if (callback instanceof EventDispatcher && ((EventDispatcher<T>) callback).isParsingDeferred()) {
+        // only tokenize on the socket thread, binding happens on the consumer thread
+        final TokenBuffer data = new TokenBuffer(parser);
+        data.copyCurrentStructure(parser);
+        ((EventDispatcher<T>) callback).onMessage(() -> {
+          JsonParser dataParser = data.asParser();
+          dataParser.nextToken();
+          return objectReader.readValue(dataParser);
+        });
+        return;
+      }
+      T event = objectReader.readValue(parser);
+      callback.onResponse(event);
+    }
+  }
+}
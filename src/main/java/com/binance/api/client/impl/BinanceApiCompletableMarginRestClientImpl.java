@@ -0,0 +1,112 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCompletableMarginRestClient;
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.TransferType;
+import com.binance.api.client.domain.account.*;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderRequest;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.domain.event.ListenKey;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.binance.api.client.impl.CompletableFutureCallback.enqueue;
+
+/**
+ * Implementation of Binance's Margin REST API using Retrofit with asynchronous/non-blocking method calls
+ * returning futures.
+ */
+public class BinanceApiCompletableMarginRestClientImpl implements BinanceApiCompletableMarginRestClient {
+
+    private final BinanceApiService binanceApiService;
+
+    private final Executor executor;
+
+    /**
+     * @param binanceApiService the service sending the requests
+     * @param executor the executor completing the futures
+     */
+    public BinanceApiCompletableMarginRestClientImpl(BinanceApiService binanceApiService, Executor executor) {
+        this.binanceApiService = binanceApiService;
+        this.executor = executor;
+    }
+
+    // Margin Account endpoints
+
+    @Override
+    public CompletableFuture<MarginAccount> getAccount(Long recvWindow, Long timestamp) {
+        return enqueue(binanceApiService.getMarginAccount(recvWindow, timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<MarginAccount> getAccount() {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.getMarginAccount(BinanceApiConstants.DEFAULT_MARGIN_RECEIVING_WINDOW, timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Order>> getOpenOrders(OrderRequest orderRequest) {
+        return enqueue(binanceApiService.getOpenMarginOrders(orderRequest.getSymbol(), orderRequest.getRecvWindow(),
+                orderRequest.getTimestamp()), executor);
+    }
+
+    @Override
+    public CompletableFuture<MarginNewOrderResponse> newOrder(MarginNewOrder order) {
+        return enqueue(binanceApiService.newMarginOrder(order.getSymbol(), order.getSide(), order.getType(), order.getTimeInForce(),
+                order.getQuantity(), order.getPrice(), order.getNewClientOrderId(), order.getStopPrice(), order.getIcebergQty(),
+                order.getNewOrderRespType(), order.getSideEffectType(), order.getRecvWindow(), order.getTimestamp()), executor);
+    }
+
+    @Override
+    public CompletableFuture<CancelOrderResponse> cancelOrder(CancelOrderRequest cancelOrderRequest) {
+        return enqueue(binanceApiService.cancelMarginOrder(cancelOrderRequest.getSymbol(),
+                cancelOrderRequest.getOrderId(), cancelOrderRequest.getOrigClientOrderId(), cancelOrderRequest.getNewClientOrderId(),
+                cancelOrderRequest.getRecvWindow(), cancelOrderRequest.getTimestamp()), executor);
+    }
+
+    @Override
+    public CompletableFuture<Order> getOrderStatus(OrderStatusRequest orderStatusRequest) {
+        return enqueue(binanceApiService.getMarginOrderStatus(orderStatusRequest.getSymbol(),
+                orderStatusRequest.getOrderId(), orderStatusRequest.getOrigClientOrderId(),
+                orderStatusRequest.getRecvWindow(), orderStatusRequest.getTimestamp()), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<Trade>> getMyTrades(String symbol) {
+        return enqueue(binanceApiService.getMyTrades(symbol, null, null, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis()), executor);
+    }
+
+    // user stream endpoints
+
+    @Override
+    public CompletableFuture<ListenKey> startUserDataStream() {
+        return enqueue(binanceApiService.startMarginUserDataStream(), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> keepAliveUserDataStream(String listenKey) {
+        return enqueue(binanceApiService.keepAliveMarginUserDataStream(listenKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<MarginTransaction> transfer(String asset, String amount, TransferType type) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.transfer(asset, amount, type.getValue(), BinanceApiConstants.DEFAULT_MARGIN_RECEIVING_WINDOW, timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<MarginTransaction> borrow(String asset, String amount) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.borrow(asset, amount, BinanceApiConstants.DEFAULT_MARGIN_RECEIVING_WINDOW, timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<MarginTransaction> repay(String asset, String amount) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.repay(asset, amount, BinanceApiConstants.DEFAULT_MARGIN_RECEIVING_WINDOW, timestamp), executor);
+    }
+}
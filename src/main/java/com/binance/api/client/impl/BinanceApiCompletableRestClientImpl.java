@@ -0,0 +1,261 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCompletableRestClient;
+import com.binance.api.client.config.BinanceApiConfig;
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.account.Account;
+import com.binance.api.client.domain.account.DepositAddress;
+import com.binance.api.client.domain.account.DepositHistory;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.Order;
+import com.binance.api.client.domain.account.Trade;
+import com.binance.api.client.domain.account.TradeHistoryItem;
+import com.binance.api.client.domain.account.WithdrawHistory;
+import com.binance.api.client.domain.account.WithdrawResult;
+import com.binance.api.client.domain.account.request.AllOrdersRequest;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderRequest;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.domain.event.ListenKey;
+import com.binance.api.client.domain.general.Asset;
+import com.binance.api.client.domain.general.ExchangeInfo;
+import com.binance.api.client.domain.general.ServerTime;
+import com.binance.api.client.domain.market.AggTrade;
+import com.binance.api.client.domain.market.BookTicker;
+import com.binance.api.client.domain.market.Candlestick;
+import com.binance.api.client.domain.market.CandlestickInterval;
+import com.binance.api.client.domain.market.OrderBook;
+import com.binance.api.client.domain.market.TickerPrice;
+import com.binance.api.client.domain.market.TickerStatistics;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.binance.api.client.impl.CompletableFutureCallback.enqueue;
+
+/**
+ * Implementation of Binance's REST API using Retrofit with asynchronous/non-blocking method calls
+ * returning futures.
+ */
+public class BinanceApiCompletableRestClientImpl implements BinanceApiCompletableRestClient {
+
+  private final BinanceApiService binanceApiService;
+
+  private final Executor executor;
+
+  /**
+   * @param binanceApiService the service sending the requests
+   * @param executor the executor completing the futures
+   */
+  public BinanceApiCompletableRestClientImpl(BinanceApiService binanceApiService, Executor executor) {
+    this.binanceApiService = binanceApiService;
+    this.executor = executor;
+  }
+
+  // General endpoints
+
+  @Override
+  public CompletableFuture<Void> ping() {
+    return enqueue(binanceApiService.ping(), executor);
+  }
+
+  @Override
+  public CompletableFuture<ServerTime> getServerTime() {
+    return enqueue(binanceApiService.getServerTime(), executor);
+  }
+
+  @Override
+  public CompletableFuture<ExchangeInfo> getExchangeInfo() {
+    return enqueue(binanceApiService.getExchangeInfo(), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Asset>> getAllAssets() {
+    return enqueue(binanceApiService.getAllAssets(BinanceApiConfig.getAssetInfoApiBaseUrl() + "assetWithdraw/getAllAsset.html"), executor);
+  }
+
+  // Market Data endpoints
+
+  @Override
+  public CompletableFuture<OrderBook> getOrderBook(String symbol, Integer limit) {
+    return enqueue(binanceApiService.getOrderBook(symbol, limit), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<TradeHistoryItem>> getTrades(String symbol, Integer limit) {
+    return enqueue(binanceApiService.getTrades(symbol, limit), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<TradeHistoryItem>> getHistoricalTrades(String symbol, Integer limit, Long fromId) {
+    return enqueue(binanceApiService.getHistoricalTrades(symbol, limit, fromId), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<AggTrade>> getAggTrades(String symbol, String fromId, Integer limit, Long startTime, Long endTime) {
+    return enqueue(binanceApiService.getAggTrades(symbol, fromId, limit, startTime, endTime), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<AggTrade>> getAggTrades(String symbol) {
+    return getAggTrades(symbol, null, null, null, null);
+  }
+
+  @Override
+  public CompletableFuture<List<Candlestick>> getCandlestickBars(String symbol, CandlestickInterval interval, Integer limit, Long startTime, Long endTime) {
+    return enqueue(binanceApiService.getCandlestickBars(symbol, interval.getIntervalId(), limit, startTime, endTime), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Candlestick>> getCandlestickBars(String symbol, CandlestickInterval interval) {
+    return getCandlestickBars(symbol, interval, null, null, null);
+  }
+
+  @Override
+  public CompletableFuture<TickerStatistics> get24HrPriceStatistics(String symbol) {
+    return enqueue(binanceApiService.get24HrPriceStatistics(symbol), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<TickerStatistics>> getAll24HrPriceStatistics() {
+    return enqueue(binanceApiService.getAll24HrPriceStatistics(), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<TickerPrice>> getAllPrices() {
+    return enqueue(binanceApiService.getLatestPrices(), executor);
+  }
+
+  @Override
+  public CompletableFuture<TickerPrice> getPrice(String symbol ) {
+    return enqueue(binanceApiService.getLatestPrice(symbol), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<BookTicker>> getBookTickers() {
+    return enqueue(binanceApiService.getBookTickers(), executor);
+  }
+
+  @Override
+  public CompletableFuture<NewOrderResponse> newOrder(NewOrder order) {
+    if (order.getQuoteOrderQty() == null) {
+      return enqueue(binanceApiService.newOrder(order.getSymbol(), order.getSide(), order.getType(),
+          order.getTimeInForce(), order.getQuantity(), order.getPrice(),
+          order.getNewClientOrderId(), order.getStopPrice(), order.getIcebergQty(), order.getNewOrderRespType(),
+          order.getRecvWindow(), order.getTimestamp()), executor);
+    } else {
+      return enqueue(binanceApiService.newOrderQuoteQty(order.getSymbol(), order.getSide(), order.getType(),
+          order.getTimeInForce(), order.getQuoteOrderQty(), order.getPrice(),
+          order.getNewClientOrderId(), order.getStopPrice(), order.getIcebergQty(), order.getNewOrderRespType(),
+          order.getRecvWindow(), order.getTimestamp()), executor);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> newOrderTest(NewOrder order) {
+    return enqueue(binanceApiService.newOrderTest(order.getSymbol(), order.getSide(), order.getType(),
+        order.getTimeInForce(), order.getQuantity(), order.getPrice(), order.getNewClientOrderId(), order.getStopPrice(),
+        order.getIcebergQty(), order.getNewOrderRespType(), order.getRecvWindow(), order.getTimestamp()), executor);
+  }
+
+  // Account endpoints
+
+  @Override
+  public CompletableFuture<Order> getOrderStatus(OrderStatusRequest orderStatusRequest) {
+    return enqueue(binanceApiService.getOrderStatus(orderStatusRequest.getSymbol(),
+        orderStatusRequest.getOrderId(), orderStatusRequest.getOrigClientOrderId(),
+        orderStatusRequest.getRecvWindow(), orderStatusRequest.getTimestamp()), executor);
+  }
+
+  @Override
+  public CompletableFuture<CancelOrderResponse> cancelOrder(CancelOrderRequest cancelOrderRequest) {
+    return enqueue(binanceApiService.cancelOrder(cancelOrderRequest.getSymbol(),
+        cancelOrderRequest.getOrderId(), cancelOrderRequest.getOrigClientOrderId(), cancelOrderRequest.getNewClientOrderId(),
+        cancelOrderRequest.getRecvWindow(), cancelOrderRequest.getTimestamp()), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Order>> getOpenOrders(OrderRequest orderRequest) {
+    return enqueue(binanceApiService.getOpenOrders(orderRequest.getSymbol(),
+        orderRequest.getRecvWindow(), orderRequest.getTimestamp()), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<CancelOrderResponse>> cancelOpenOrders(OrderRequest orderRequest) {
+    return enqueue(binanceApiService.cancelOpenOrders(orderRequest.getSymbol(),
+        orderRequest.getRecvWindow(), orderRequest.getTimestamp()), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Order>> getAllOrders(AllOrdersRequest orderRequest) {
+    return enqueue(binanceApiService.getAllOrders(orderRequest.getSymbol(),
+        orderRequest.getOrderId(), orderRequest.getLimit(),
+        orderRequest.getRecvWindow(), orderRequest.getTimestamp()), executor);
+  }
+
+  @Override
+  public CompletableFuture<Account> getAccount(Long recvWindow, Long timestamp) {
+    return enqueue(binanceApiService.getAccount(recvWindow, timestamp), executor);
+  }
+
+  @Override
+  public CompletableFuture<Account> getAccount() {
+    long timestamp = System.currentTimeMillis();
+    return enqueue(binanceApiService.getAccount(BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, timestamp), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Trade>> getMyTrades(String symbol, Integer limit, Long fromId, Long recvWindow, Long timestamp) {
+    return enqueue(binanceApiService.getMyTrades(symbol, limit, fromId, recvWindow, timestamp), executor);
+  }
+
+  @Override
+  public CompletableFuture<List<Trade>> getMyTrades(String symbol, Integer limit) {
+    return getMyTrades(symbol, limit, null, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis());
+  }
+
+  @Override
+  public CompletableFuture<List<Trade>> getMyTrades(String symbol) {
+    return getMyTrades(symbol, null, null, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis());
+  }
+
+  @Override
+  public CompletableFuture<WithdrawResult> withdraw(String asset, String address, String amount, String name, String addressTag) {
+    return enqueue(binanceApiService.withdraw(asset, address, amount, name, addressTag, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis()), executor);
+  }
+
+  @Override
+  public CompletableFuture<DepositHistory> getDepositHistory(String asset) {
+    return enqueue(binanceApiService.getDepositHistory(asset, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis()), executor);
+  }
+
+  @Override
+  public CompletableFuture<WithdrawHistory> getWithdrawHistory(String asset) {
+    return enqueue(binanceApiService.getWithdrawHistory(asset, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis()), executor);
+  }
+
+  @Override
+  public CompletableFuture<DepositAddress> getDepositAddress(String asset) {
+    return enqueue(binanceApiService.getDepositAddress(asset, BinanceApiConstants.DEFAULT_RECEIVING_WINDOW, System.currentTimeMillis()), executor);
+  }
+
+  // User stream endpoints
+
+  @Override
+  public CompletableFuture<ListenKey> startUserDataStream() {
+    return enqueue(binanceApiService.startUserDataStream(), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> keepAliveUserDataStream(String listenKey) {
+    return enqueue(binanceApiService.keepAliveUserDataStream(listenKey), executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeUserDataStream(String listenKey) {
+    return enqueue(binanceApiService.closeAliveUserDataStream(listenKey), executor);
+  }
+}
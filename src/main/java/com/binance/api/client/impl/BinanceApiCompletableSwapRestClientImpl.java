@@ -0,0 +1,118 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCompletableSwapRestClient;
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.SwapRemoveType;
+import com.binance.api.client.domain.account.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static com.binance.api.client.impl.CompletableFutureCallback.enqueue;
+
+/**
+ * Implementation of Binance's SWAP REST API using Retrofit with asynchronous/non-blocking method calls
+ * returning futures.
+ */
+public class BinanceApiCompletableSwapRestClientImpl implements BinanceApiCompletableSwapRestClient {
+
+    private final BinanceApiService binanceApiService;
+
+    private final Executor executor;
+
+    /**
+     * @param binanceApiService the service sending the requests
+     * @param executor the executor completing the futures
+     */
+    public BinanceApiCompletableSwapRestClientImpl(BinanceApiService binanceApiService, Executor executor) {
+        this.binanceApiService = binanceApiService;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompletableFuture<List<Pool>> listAllSwapPools() {
+        return enqueue(binanceApiService.listAllSwapPools(), executor);
+    }
+
+    @Override
+    public CompletableFuture<Liquidity> getPoolLiquidityInfo(String poolId) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.getPoolLiquidityInfo(poolId,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor)
+                .thenApply(BinanceApiCompletableSwapRestClientImpl::first);
+    }
+
+    @Override
+    public CompletableFuture<LiquidityOperationRecord> addLiquidity(String poolId, String asset, String quantity) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.addLiquidity(poolId,
+                asset,
+                quantity,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<LiquidityOperationRecord> removeLiquidity(String poolId, SwapRemoveType type, List<String> asset, String shareAmount) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.removeLiquidity(poolId,
+                type,
+                asset,
+                shareAmount,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<LiquidityOperationRecord>> getPoolLiquidityOperationRecords(String poolId, Integer limit) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.getPoolLiquidityOperationRecords(
+                poolId,
+                limit,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<LiquidityOperationRecord> getLiquidityOperationRecord(String operationId) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.getLiquidityOperationRecord(
+                operationId,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor)
+                .thenApply(BinanceApiCompletableSwapRestClientImpl::first);
+    }
+
+    @Override
+    public CompletableFuture<SwapQuote> requestQuote(String quoteAsset,
+                                                     String baseAsset,
+                                                     String quoteQty) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.requestQuote(quoteAsset, baseAsset, quoteQty,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<SwapRecord> swap(String quoteAsset, String baseAsset, String quoteQty) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.swap(quoteAsset, baseAsset, quoteQty,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor);
+    }
+
+    @Override
+    public CompletableFuture<SwapHistory> getSwapHistory(String swapId) {
+        long timestamp = System.currentTimeMillis();
+        return enqueue(binanceApiService.getSwapHistory(swapId,
+                BinanceApiConstants.DEFAULT_RECEIVING_WINDOW,
+                timestamp), executor)
+                .thenApply(BinanceApiCompletableSwapRestClientImpl::first);
+    }
+
+    private static <T> T first(List<T> items) {
+        return items != null && !items.isEmpty() ? items.get(0) : null;
+    }
+}
@@ -25,6 +25,10 @@ public class BinanceApiMarginRestClientImpl implements BinanceApiMarginRestClien
         binanceApiService = createService(BinanceApiService.class, apiKey, secret);
     }
 
+    public BinanceApiMarginRestClientImpl(BinanceApiService binanceApiService) {
+        this.binanceApiService = binanceApiService;
+    }
+
     @Override
     public MarginAccount getAccount() {
         long timestamp = System.currentTimeMillis();
@@ -27,6 +27,10 @@ public class BinanceApiRestClientImpl implements BinanceApiRestClient {
 		binanceApiService = createService(BinanceApiService.class, apiKey, secret);
 	}
 
+	public BinanceApiRestClientImpl(BinanceApiService binanceApiService) {
+		this.binanceApiService = binanceApiService;
+	}
+
 	// General endpoints
 
 	@Override
@@ -162,6 +166,12 @@ public class BinanceApiRestClientImpl implements BinanceApiRestClient {
 				orderRequest.getTimestamp()));
 	}
 
+	@Override
+	public List<CancelOrderResponse> cancelOpenOrders(OrderRequest orderRequest) {
+		return executeSync(binanceApiService.cancelOpenOrders(orderRequest.getSymbol(), orderRequest.getRecvWindow(),
+				orderRequest.getTimestamp()));
+	}
+
 	@Override
 	public List<Order> getAllOrders(AllOrdersRequest orderRequest) {
 		return executeSync(binanceApiService.getAllOrders(orderRequest.getSymbol(), orderRequest.getOrderId(),
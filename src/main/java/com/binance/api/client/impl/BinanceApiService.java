@@ -1,5 +1,8 @@
 package com.binance.api.client.impl;
 
+import com.binance.api.client.config.Lane;
+import com.binance.api.client.config.RequestLane;
+import com.binance.api.client.config.Weight;
 import com.binance.api.client.constant.BinanceApiConstants;
 import com.binance.api.client.domain.OrderSide;
 import com.binance.api.client.domain.OrderType;
@@ -31,50 +34,71 @@ public interface BinanceApiService {
     @GET("/api/v1/time")
     Call<ServerTime> getServerTime();
 
+    @Lane(RequestLane.BULK)
+    @Weight(20)
     @GET("/api/v3/exchangeInfo")
     Call<ExchangeInfo> getExchangeInfo();
 
+    @Lane(RequestLane.BULK)
     @GET
     Call<List<Asset>> getAllAssets(@Url String url);
 
     // Market data endpoints
 
+    @Weight(byDepthLimit = true)
     @GET("/api/v1/depth")
     Call<OrderBook> getOrderBook(@Query("symbol") String symbol, @Query("limit") Integer limit);
 
+    @Weight(25)
     @GET("/api/v1/trades")
     Call<List<TradeHistoryItem>> getTrades(@Query("symbol") String symbol, @Query("limit") Integer limit);
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER)
+    @Weight(25)
     @GET("/api/v1/historicalTrades")
     Call<List<TradeHistoryItem>> getHistoricalTrades(@Query("symbol") String symbol, @Query("limit") Integer limit, @Query("fromId") Long fromId);
 
+    @Lane(RequestLane.BULK)
+    @Weight(2)
     @GET("/api/v1/aggTrades")
     Call<List<AggTrade>> getAggTrades(@Query("symbol") String symbol, @Query("fromId") String fromId, @Query("limit") Integer limit,
                                       @Query("startTime") Long startTime, @Query("endTime") Long endTime);
 
+    @Lane(RequestLane.BULK)
+    @Weight(2)
     @GET("/api/v1/klines")
     Call<List<Candlestick>> getCandlestickBars(@Query("symbol") String symbol, @Query("interval") String interval, @Query("limit") Integer limit,
                                                @Query("startTime") Long startTime, @Query("endTime") Long endTime);
 
+    @Weight(value = 2, withoutSymbol = 80)
     @GET("/api/v1/ticker/24hr")
     Call<TickerStatistics> get24HrPriceStatistics(@Query("symbol") String symbol);
 
+    @Lane(RequestLane.BULK)
+    @Weight(value = 2, withoutSymbol = 80)
     @GET("/api/v1/ticker/24hr")
     Call<List<TickerStatistics>> getAll24HrPriceStatistics();
 
+    @Lane(RequestLane.BULK)
+    @Weight(value = 2, withoutSymbol = 4)
     @GET("/api/v1/ticker/allPrices")
     Call<List<TickerPrice>> getLatestPrices();
 
+    @Weight(value = 2, withoutSymbol = 4)
     @GET("/api/v3/ticker/price")
     Call<TickerPrice> getLatestPrice(@Query("symbol") String symbol);
 
+    @Lane(RequestLane.BULK)
+    @Weight(value = 2, withoutSymbol = 4)
     @GET("/api/v1/ticker/allBookTickers")
     Call<List<BookTicker>> getBookTickers();
 
     // Account endpoints
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(orders = 1)
     @POST("/api/v3/order")
     Call<NewOrderResponse> newOrder(@Query("symbol") String symbol, @Query("side") OrderSide side, @Query("type") OrderType type,
                                     @Query("timeInForce") TimeInForce timeInForce, @Query("quantity") String quantity, @Query("price") String price,
@@ -82,7 +106,9 @@ public interface BinanceApiService {
                                     @Query("icebergQty") String icebergQty, @Query("newOrderRespType") NewOrderResponseType newOrderRespType,
                                     @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(orders = 1)
     @POST("/api/v3/order")
     Call<NewOrderResponse> newOrderQuoteQty(@Query("symbol") String symbol, @Query("side") OrderSide side, @Query("type") OrderType type,
                                             @Query("timeInForce") TimeInForce timeInForce, @Query("quoteOrderQty") String quoteOrderQty, @Query("price") String price,
@@ -98,12 +124,15 @@ public interface BinanceApiService {
                             @Query("icebergQty") String icebergQty, @Query("newOrderRespType") NewOrderResponseType newOrderRespType,
                             @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(4)
     @GET("/api/v3/order")
     Call<Order> getOrderStatus(@Query("symbol") String symbol, @Query("orderId") Long orderId,
                                @Query("origClientOrderId") String origClientOrderId, @Query("recvWindow") Long recvWindow,
                                @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @DELETE("/api/v3/order")
     Call<CancelOrderResponse> cancelOrder(@Query("symbol") String symbol, @Query("orderId") Long orderId,
@@ -111,42 +140,59 @@ public interface BinanceApiService {
                                           @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(value = 6, withoutSymbol = 80)
     @GET("/api/v3/openOrders")
     Call<List<Order>> getOpenOrders(@Query("symbol") String symbol, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @DELETE("/api/v3/openOrders")
+    Call<List<CancelOrderResponse>> cancelOpenOrders(@Query("symbol") String symbol, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
+
+    @Lane(RequestLane.BULK)
+    @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(20)
     @GET("/api/v3/allOrders")
     Call<List<Order>> getAllOrders(@Query("symbol") String symbol, @Query("orderId") Long orderId,
                                    @Query("limit") Integer limit, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(orders = 2)
     @POST("/api/v3/order/oco")
     Call<NewOCOResponse> newOCO(@Query("symbol") String symbol, @Query("listClientOrderId") String listClientOrderId, @Query("side") OrderSide side,
                                 @Query("quantity") String quantity, @Query("limitClientOrderId") String limitClientOrderId, @Query("price") String price,
                                 @Query("limitIcebergQty") String limitIcebergQty, @Query("stopClientOrderId")String stopClientOrderId, @Query("stopPrice") String stopPrice,
                                 @Query("stopLimitPrice")String stopLimitPrice, @Query("stopIcebergQty") String stopIcebergQty, @Query("stopLimitTimeInForce") TimeInForce stopLimitTimeInForce,
-                                @Query("newOrderRespType") NewOrderResponseType newOrderRespType, @Query("recvWindow") Long recvWindow, @Query("timestamp") long timestamp);
+                                @Query("newOrderRespType") NewOrderResponseType newOrderRespType, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @DELETE("/api/v3/orderList")
     Call<CancelOrderListResponse> cancelOrderList(@Query("symbol") String symbol, @Query("orderListId") Long orderListId, @Query("listClientOrderId") String listClientOrderId,
                                                   @Query("newClientOrderId") String newClientOrderId, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(4)
     @GET("/api/v3/orderList")
     Call<OrderList> getOrderListStatus(@Query("orderListId") Long orderListId, @Query("origClientOrderId") String origClientOrderId,
                                        @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(20)
     @GET("/api/v3/allOrderList")
     Call<List<OrderList>> getAllOrderList(@Query("fromId") Long fromId, @Query("startTime") Long startTime, @Query("endTime") Long endTime,
                                           @Query("limit") Integer limit, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(20)
     @GET("/api/v3/account")
     Call<Account> getAccount(@Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
+    @Weight(20)
     @GET("/api/v3/myTrades")
     Call<List<Trade>> getMyTrades(@Query("symbol") String symbol, @Query("limit") Integer limit, @Query("fromId") Long fromId,
                                   @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
@@ -157,10 +203,12 @@ public interface BinanceApiService {
                                   @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @GET("/wapi/v3/depositHistory.html")
     Call<DepositHistory> getDepositHistory(@Query("asset") String asset, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @GET("/wapi/v3/withdrawHistory.html")
     Call<WithdrawHistory> getWithdrawHistory(@Query("asset") String asset, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
@@ -180,14 +228,17 @@ public interface BinanceApiService {
     // User stream endpoints
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER)
+    @Weight(2)
     @POST("/api/v1/userDataStream")
     Call<ListenKey> startUserDataStream();
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER)
+    @Weight(2)
     @PUT("/api/v1/userDataStream")
     Call<Void> keepAliveUserDataStream(@Query("listenKey") String listenKey);
 
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER)
+    @Weight(2)
     @DELETE("/api/v1/userDataStream")
     Call<Void> closeAliveUserDataStream(@Query("listenKey") String listenKey);
 
@@ -228,6 +279,7 @@ public interface BinanceApiService {
     @GET("/sapi/v1/margin/openOrders")
     Call<List<Order>> getOpenMarginOrders(@Query("symbol") String symbol, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @POST("/sapi/v1/margin/order")
     Call<MarginNewOrderResponse> newMarginOrder(@Query("symbol") String symbol, @Query("side") OrderSide side, @Query("type") OrderType type,
@@ -236,18 +288,21 @@ public interface BinanceApiService {
                                                 @Query("icebergQty") String icebergQty, @Query("newOrderRespType") NewOrderResponseType newOrderRespType,
                                                 @Query("sideEffectType") SideEffectType sideEffectType, @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @DELETE("/sapi/v1/margin/order")
     Call<CancelOrderResponse> cancelMarginOrder(@Query("symbol") String symbol, @Query("orderId") Long orderId,
                                                 @Query("origClientOrderId") String origClientOrderId, @Query("newClientOrderId") String newClientOrderId,
                                                 @Query("recvWindow") Long recvWindow, @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.ORDER)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @GET("/sapi/v1/margin/order")
     Call<Order> getMarginOrderStatus(@Query("symbol") String symbol, @Query("orderId") Long orderId,
                                      @Query("origClientOrderId") String origClientOrderId, @Query("recvWindow") Long recvWindow,
                                      @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER)
     @GET("/sapi/v1/margin/myTrades")
     Call<List<Trade>> getMyMarginTrades(@Query("symbol") String symbol, @Query("limit") Integer limit, @Query("fromId") Long fromId,
@@ -290,6 +345,7 @@ public interface BinanceApiService {
                                                    @Query("recvWindow") Long recvWindow,
                                                    @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers({BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER, BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER})
     @GET("/sapi/v1/bswap/liquidityOps")
     Call<List<LiquidityOperationRecord>> getPoolLiquidityOperationRecords(
@@ -323,6 +379,7 @@ public interface BinanceApiService {
             @Query("recvWindow") Long recvWindow,
             @Query("timestamp") Long timestamp);
 
+    @Lane(RequestLane.BULK)
     @Headers({BinanceApiConstants.ENDPOINT_SECURITY_TYPE_APIKEY_HEADER, BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED_HEADER})
     @GET("/sapi/v1/bswap/swap")
     Call<List<SwapHistory>> getSwapHistory(
@@ -2,8 +2,12 @@ package com.binance.api.client.impl;
 
 import com.binance.api.client.BinanceApiError;
 import com.binance.api.client.config.BinanceApiConfig;
+import com.binance.api.client.config.RequestLane;
 import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
 import com.binance.api.client.security.AuthenticationInterceptor;
+import com.binance.api.client.security.HmacSHA256Signer;
+import com.binance.api.client.security.RequestSigner;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.ResponseBody;
@@ -16,6 +20,9 @@ import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -26,13 +33,28 @@ public class BinanceApiServiceGenerator {
     private static final OkHttpClient sharedClient;
     private static final Converter.Factory converterFactory = JacksonConverterFactory.create();
 
+    /**
+     * Default maximum number of concurrent requests, overall and per host.
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 500;
+
+    /**
+     * Default interval of web socket pings, in seconds.
+     */
+    public static final long DEFAULT_PING_INTERVAL_SECONDS = 20L;
+
+    /**
+     * Default time idle pooled connections are kept open, in minutes, as in the OkHttp connection pool.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_MINUTES = 5L;
+
     static {
         Dispatcher dispatcher = new Dispatcher();
-        dispatcher.setMaxRequestsPerHost(500);
-        dispatcher.setMaxRequests(500);
+        dispatcher.setMaxRequestsPerHost(DEFAULT_MAX_REQUESTS);
+        dispatcher.setMaxRequests(DEFAULT_MAX_REQUESTS);
         sharedClient = new OkHttpClient.Builder()
                 .dispatcher(dispatcher)
-                .pingInterval(20, TimeUnit.SECONDS)
+                .pingInterval(DEFAULT_PING_INTERVAL_SECONDS, TimeUnit.SECONDS)
                 .build();
     }
 
@@ -62,17 +84,46 @@ public class BinanceApiServiceGenerator {
                 BinanceApiConfig.getStreamTestNetBaseUrl() :*/
                 BinanceApiConfig.getTestNetBaseUrl();
         }
+        return createService(serviceClass, apiKey, secret, sharedClient, baseUrl);
+    }
 
+    /**
+     * Create a Binance API service on a given HTTP client and base URL.
+     *
+     * @param serviceClass the type of service.
+     * @param apiKey Binance API key.
+     * @param secret Binance secret.
+     * @param client the HTTP client to send requests with.
+     * @param baseUrl the REST API base URL.
+     *
+     * @return a new implementation of the API endpoints for the Binance API service.
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, OkHttpClient client, String baseUrl) {
+        return createSignedService(serviceClass, apiKey, newSigner(secret), client, baseUrl);
+    }
+
+    /**
+     * Create a Binance API service on a given HTTP client and base URL, signing requests with a given signer.
+     *
+     * @param serviceClass the type of service.
+     * @param apiKey Binance API key.
+     * @param signer the signer with the key registered for the API key, or null for no authentication.
+     * @param client the HTTP client to send requests with.
+     * @param baseUrl the REST API base URL.
+     *
+     * @return a new implementation of the API endpoints for the Binance API service.
+     */
+    public static <S> S createSignedService(Class<S> serviceClass, String apiKey, RequestSigner signer, OkHttpClient client, String baseUrl) {
         Retrofit.Builder retrofitBuilder = new Retrofit.Builder()
                 .baseUrl(baseUrl)
                 .addConverterFactory(converterFactory);
 
-        if (StringUtils.isEmpty(apiKey) || StringUtils.isEmpty(secret)) {
-            retrofitBuilder.client(sharedClient);
+        if (StringUtils.isEmpty(apiKey) || signer == null) {
+            retrofitBuilder.client(client);
         } else {
             // `adaptedClient` will use its own interceptor, but share thread pool etc with the 'parent' client
-            AuthenticationInterceptor interceptor = new AuthenticationInterceptor(apiKey, secret);
-            OkHttpClient adaptedClient = sharedClient.newBuilder().addInterceptor(interceptor).build();
+            AuthenticationInterceptor interceptor = new AuthenticationInterceptor(apiKey, signer);
+            OkHttpClient adaptedClient = client.newBuilder().addInterceptor(interceptor).build();
             retrofitBuilder.client(adaptedClient);
         }
 
@@ -80,6 +131,52 @@ public class BinanceApiServiceGenerator {
         return retrofit.create(serviceClass);
     }
 
+    /**
+     * Create a Binance API service whose endpoints are sent through the HTTP client of their {@link RequestLane}.
+     *
+     * @param serviceClass the type of service.
+     * @param apiKey Binance API key.
+     * @param secret Binance secret.
+     * @param laneClients the HTTP client of every lane, lanes without one using that of {@link RequestLane#DEFAULT}.
+     * @param baseUrl the REST API base URL.
+     * @param laneAssignments lanes by service method name, overriding the {@link com.binance.api.client.config.Lane} annotations.
+     *
+     * @return a new implementation of the API endpoints for the Binance API service.
+     */
+    public static <S> S createService(Class<S> serviceClass, String apiKey, String secret, Map<RequestLane, OkHttpClient> laneClients,
+                                      String baseUrl, Map<String, RequestLane> laneAssignments) {
+        return createSignedService(serviceClass, apiKey, newSigner(secret), laneClients, baseUrl, laneAssignments);
+    }
+
+    /**
+     * Create a Binance API service whose endpoints are sent through the HTTP client of their {@link RequestLane},
+     * signing requests with a given signer.
+     *
+     * @param serviceClass the type of service.
+     * @param apiKey Binance API key.
+     * @param signer the signer with the key registered for the API key, or null for no authentication.
+     * @param laneClients the HTTP client of every lane, lanes without one using that of {@link RequestLane#DEFAULT}.
+     * @param baseUrl the REST API base URL.
+     * @param laneAssignments lanes by service method name, overriding the {@link com.binance.api.client.config.Lane} annotations.
+     *
+     * @return a new implementation of the API endpoints for the Binance API service.
+     */
+    public static <S> S createSignedService(Class<S> serviceClass, String apiKey, RequestSigner signer, Map<RequestLane, OkHttpClient> laneClients,
+                                            String baseUrl, Map<String, RequestLane> laneAssignments) {
+        Map<OkHttpClient, S> servicesByClient = new IdentityHashMap<>();
+        Map<RequestLane, S> services = new EnumMap<>(RequestLane.class);
+        laneClients.forEach((lane, client) -> services.put(lane,
+                servicesByClient.computeIfAbsent(client, c -> createSignedService(serviceClass, apiKey, signer, c, baseUrl))));
+        return LaneRouter.create(serviceClass, services, laneAssignments);
+    }
+
+    /**
+     * @return the HMAC signer of a secret, or null if there is no secret.
+     */
+    public static RequestSigner newSigner(String secret) {
+        return StringUtils.isEmpty(secret) ? null : new HmacSHA256Signer(secret);
+    }
+
     /**
      * Execute a REST call and block until the response is received.
      */
@@ -89,14 +186,32 @@ public class BinanceApiServiceGenerator {
             if (response.isSuccessful()) {
                 return response.body();
             } else {
-                BinanceApiError apiError = getBinanceApiError(response);
-                throw new BinanceApiException(apiError);
+                throw newBinanceApiException(response);
             }
         } catch (IOException e) {
             throw new BinanceApiException(e);
         }
     }
 
+    /**
+     * Creates the exception for an error response, carrying its error body, status code and headers.
+     */
+    public static BinanceApiException newBinanceApiException(Response<?> response) {
+        BinanceApiError apiError = null;
+        if (response.errorBody() != null) {
+            try {
+                apiError = getBinanceApiError(response);
+            } catch (IOException e) {
+                // not an error object, e.g. the HTML page of a gateway
+            }
+        }
+        if (response.code() == 504) {
+            // the request reached the matching engine, but its outcome is unknown
+            return new UnknownExecutionStatusException(apiError, response.code(), response.headers().toMultimap());
+        }
+        return new BinanceApiException(apiError, response.code(), response.headers().toMultimap());
+    }
+
     /**
      * Extracts and converts the response error body into an object.
      */
@@ -21,6 +21,10 @@ public class BinanceApiSwapRestClientImpl implements BinanceApiSwapRestClient {
         binanceApiService = createService(BinanceApiService.class, apiKey, secret);
     }
 
+    public BinanceApiSwapRestClientImpl(BinanceApiService binanceApiService) {
+        this.binanceApiService = binanceApiService;
+    }
+
     @Override
     public List<Pool> listAllSwapPools() {
         return executeSync(binanceApiService.listAllSwapPools());
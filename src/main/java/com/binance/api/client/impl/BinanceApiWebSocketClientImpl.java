@@ -2,6 +2,8 @@ package com.binance.api.client.impl;
 
 import com.binance.api.client.BinanceApiCallback;
 import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.BinanceApiWebSocketConnection;
+import com.binance.api.client.CombinedStream;
 import com.binance.api.client.config.BinanceApiConfig;
 import com.binance.api.client.domain.event.*;
 import com.binance.api.client.domain.market.CandlestickInterval;
@@ -22,8 +24,20 @@ public class BinanceApiWebSocketClientImpl implements BinanceApiWebSocketClient,
 
     private final OkHttpClient client;
 
+    private final String streamApiBaseUrl;
+
+    private final String combinedStreamApiBaseUrl;
+
     public BinanceApiWebSocketClientImpl(OkHttpClient client) {
+        this(client,
+                BinanceApiConfig.useTestnetStreaming ? BinanceApiConfig.getStreamTestNetBaseUrl() : BinanceApiConfig.getStreamApiBaseUrl(),
+                BinanceApiConfig.useTestnetStreaming ? BinanceApiConfig.getCombinedStreamTestNetBaseUrl() : BinanceApiConfig.getCombinedStreamApiBaseUrl());
+    }
+
+    public BinanceApiWebSocketClientImpl(OkHttpClient client, String streamApiBaseUrl, String combinedStreamApiBaseUrl) {
         this.client = client;
+        this.streamApiBaseUrl = streamApiBaseUrl;
+        this.combinedStreamApiBaseUrl = combinedStreamApiBaseUrl;
     }
 
     @Override
@@ -85,6 +99,28 @@ public class BinanceApiWebSocketClientImpl implements BinanceApiWebSocketClient,
         return createNewWebSocket(channel, new BinanceApiWebSocketListener<>(callback, BookTickerEvent.class));
     }
 
+    @Override
+    public Closeable onCombinedStream(CombinedStream streams) {
+        if (streams.getStreams().isEmpty()) {
+            throw new IllegalArgumentException("No stream to combine");
+        }
+        return openCombinedStream(streams);
+    }
+
+    @Override
+    public BinanceApiWebSocketConnection openCombinedStream(CombinedStream streams) {
+        String streamingUrl = combinedStreamApiBaseUrl;
+        if (!streams.getStreams().isEmpty()) {
+            streamingUrl = String.format("%s?streams=%s", streamingUrl, String.join("/", streams.getStreams()));
+        }
+        return new BinanceApiWebSocketConnectionImpl(client, streamingUrl, streams);
+    }
+
+    @Override
+    public BinanceApiWebSocketConnection openReconnectingCombinedStream(CombinedStream streams) {
+        return new ReconnectingWebSocketConnection(this::openCombinedStream, streams);
+    }
+
     /**
      * @deprecated This method is no longer functional. Please use the returned {@link Closeable} from any of the other methods to close the web socket.
      */
@@ -93,7 +129,7 @@ public class BinanceApiWebSocketClientImpl implements BinanceApiWebSocketClient,
     }
 
     private Closeable createNewWebSocket(String channel, BinanceApiWebSocketListener<?> listener) {
-        String streamingUrl = String.format("%s/%s", BinanceApiConfig.useTestnetStreaming?BinanceApiConfig.getStreamTestNetBaseUrl():BinanceApiConfig.getStreamApiBaseUrl(), channel);
+        String streamingUrl = String.format("%s/%s", streamApiBaseUrl, channel);
         Request request = new Request.Builder().url(streamingUrl).build();
         final WebSocket webSocket = client.newWebSocket(request, listener);
         return () -> {
@@ -0,0 +1,123 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiWebSocketConnection;
+import com.binance.api.client.CombinedStream;
+import com.binance.api.client.exception.BinanceApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Combined stream connection sending <code>SUBSCRIBE</code>, <code>UNSUBSCRIBE</code> and
+ * <code>LIST_SUBSCRIPTIONS</code> requests, using OkHttp.
+ */
+public class BinanceApiWebSocketConnectionImpl implements BinanceApiWebSocketConnection {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final BinanceApiCallback<List<String>> IGNORE_RESPONSE = response -> {
+    };
+
+    private final AtomicLong requestIds = new AtomicLong();
+
+    private final BinanceApiCombinedStreamListener listener;
+
+    private final WebSocket webSocket;
+
+    public BinanceApiWebSocketConnectionImpl(OkHttpClient client, String streamingUrl, CombinedStream streams) {
+        this.listener = new BinanceApiCombinedStreamListener(streams.getRoutes(), streams.getConnectionFailureHandler());
+        this.webSocket = client.newWebSocket(new Request.Builder().url(streamingUrl).build(), listener);
+    }
+
+    @Override
+    public long subscribe(CombinedStream streams) {
+        streams.getRoutes().forEach(listener::attach);
+        try {
+            return sendSubscribe(streams);
+        } catch (BinanceApiException e) {
+            // never sent: no events will come for the streams
+            for (CombinedStream.Route<?> route : streams.getRoutes()) {
+                listener.detach(route);
+            }
+            throw e;
+        }
+    }
+
+    private long sendSubscribe(CombinedStream streams) {
+        return send("SUBSCRIBE", streams.getStreams(), new BinanceApiCallback<List<String>>() {
+            @Override
+            public void onResponse(List<String> response) {
+            }
+
+            @Override
+            public void onFailure(Throwable cause) {
+                for (CombinedStream.Route<?> route : streams.getRoutes()) {
+                    if (listener.detach(route)) {
+                        route.getCallback().onFailure(cause);
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public long unsubscribe(List<String> streams) {
+        long id = send("UNSUBSCRIBE", streams, IGNORE_RESPONSE);
+        streams.forEach(listener::detach);
+        return id;
+    }
+
+    @Override
+    public long listSubscriptions(BinanceApiCallback<List<String>> callback) {
+        return send("LIST_SUBSCRIPTIONS", null, callback);
+    }
+
+    @Override
+    public Set<String> getStreams() {
+        return listener.getStreams();
+    }
+
+    @Override
+    public Set<Long> getPendingRequestIds() {
+        return listener.getPendingRequestIds();
+    }
+
+    private long send(String method, List<String> params, BinanceApiCallback<List<String>> callback) {
+        final long id = requestIds.incrementAndGet();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", method);
+        if (params != null) {
+            request.put("params", params);
+        }
+        request.put("id", id);
+        final String text;
+        try {
+            text = mapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new BinanceApiException(e);
+        }
+        listener.expectResponse(id, callback);
+        if (!webSocket.send(text)) {
+            listener.cancelResponse(id);
+            throw new BinanceApiException("Web socket connection is closed");
+        }
+        return id;
+    }
+
+    @Override
+    public void close() {
+        final int code = 1000;
+        listener.onClosing(webSocket, code, null);
+        webSocket.close(code, null);
+        listener.onClosed(webSocket, code, null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.binance.api.client.impl;
 
 import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.dispatch.EventDispatcher;
 import com.binance.api.client.exception.BinanceApiException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -35,7 +36,12 @@ public class BinanceApiWebSocketListener<T> extends WebSocketListener {
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public void onMessage(WebSocket webSocket, String text) {
+    if (callback instanceof EventDispatcher && ((EventDispatcher<T>) callback).isParsingDeferred()) {
+      ((EventDispatcher<T>) callback).onMessage(() -> objectReader.readValue(text));
+      return;
+    }
     try {
       T event = objectReader.readValue(text);
       callback.onResponse(event);
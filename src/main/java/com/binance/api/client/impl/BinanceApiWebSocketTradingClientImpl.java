@@ -0,0 +1,353 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiError;
+import com.binance.api.client.BinanceApiWebSocketTradingClient;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.Order;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
+import com.binance.api.client.security.RequestSigner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Binance WebSocket API trading client implementation using OkHttp.
+ * <p>
+ * Requests are written to the web socket as soon as they are made, OkHttp queueing them until the socket is open, and
+ * kept by id until answered. Their futures are completed on a given executor, so that the stages chained on them do
+ * not hold up the reader thread of the web socket.
+ */
+public class BinanceApiWebSocketTradingClientImpl implements BinanceApiWebSocketTradingClient {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final ObjectReader NEW_ORDER_RESPONSE_READER = mapper.readerFor(NewOrderResponse.class);
+
+    private static final ObjectReader ORDER_READER = mapper.readerFor(Order.class);
+
+    private static final ObjectReader CANCEL_ORDER_RESPONSE_READER = mapper.readerFor(CancelOrderResponse.class);
+
+    private final AtomicLong requestIds = new AtomicLong();
+
+    private final Map<Long, PendingRequest<?>> pendingRequests = new ConcurrentHashMap<>();
+
+    private final String apiKey;
+
+    private final RequestSigner signer;
+
+    private final LongSupplier clock;
+
+    private final Executor executor;
+
+    private final WebSocket webSocket;
+
+    private volatile boolean loggedOn;
+
+    private volatile Throwable closedCause;
+
+    private volatile boolean closing;
+
+    /**
+     * @param client the HTTP client opening the web socket
+     * @param webSocketApiUrl the WebSocket API URL
+     * @param apiKey the API key
+     * @param signer the signer with the key registered for the API key
+     * @param clock the time to stamp requests with, e.g. <code>serverClock::currentTimeMillis</code>
+     * @param executor the executor completing the futures, and thus running the stages chained on them
+     */
+    public BinanceApiWebSocketTradingClientImpl(OkHttpClient client, String webSocketApiUrl, String apiKey, RequestSigner signer,
+                                                LongSupplier clock, Executor executor) {
+        this(listener -> client.newWebSocket(new Request.Builder().url(webSocketApiUrl).build(), listener),
+                apiKey, signer, clock, executor);
+    }
+
+    BinanceApiWebSocketTradingClientImpl(Function<WebSocketListener, WebSocket> connector, String apiKey, RequestSigner signer,
+                                         LongSupplier clock, Executor executor) {
+        this.apiKey = apiKey;
+        this.signer = signer;
+        this.clock = clock;
+        this.executor = executor;
+        this.webSocket = connector.apply(new Listener());
+    }
+
+    @Override
+    public CompletableFuture<Void> logon() {
+        CompletableFuture<Void> logon = send("session.logon", new TreeMap<>(), true, false, null);
+        return logon.thenApply(result -> {
+            loggedOn = true;
+            // closed() resets the flag after setting the cause: either it runs after this, or the cause is seen here
+            if (closedCause != null) {
+                loggedOn = false;
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public boolean isLoggedOn() {
+        return loggedOn;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return closing || closedCause != null;
+    }
+
+    @Override
+    public CompletableFuture<NewOrderResponse> newOrder(NewOrder order) {
+        return send("order.place", newOrderParams(order), !loggedOn, true, NEW_ORDER_RESPONSE_READER);
+    }
+
+    @Override
+    public CompletableFuture<Void> newOrderTest(NewOrder order) {
+        return send("order.test", newOrderParams(order), !loggedOn, false, null);
+    }
+
+    @Override
+    public CompletableFuture<Order> getOrderStatus(OrderStatusRequest orderStatusRequest) {
+        Map<String, Object> params = new TreeMap<>();
+        params.put("symbol", orderStatusRequest.getSymbol());
+        putIfSet(params, "orderId", orderStatusRequest.getOrderId());
+        putIfSet(params, "origClientOrderId", orderStatusRequest.getOrigClientOrderId());
+        putIfSet(params, "recvWindow", orderStatusRequest.getRecvWindow());
+        putIfSet(params, "timestamp", orderStatusRequest.getTimestamp());
+        return send("order.status", params, !loggedOn, false, ORDER_READER);
+    }
+
+    @Override
+    public CompletableFuture<CancelOrderResponse> cancelOrder(CancelOrderRequest cancelOrderRequest) {
+        Map<String, Object> params = new TreeMap<>();
+        params.put("symbol", cancelOrderRequest.getSymbol());
+        putIfSet(params, "orderId", cancelOrderRequest.getOrderId());
+        putIfSet(params, "origClientOrderId", cancelOrderRequest.getOrigClientOrderId());
+        putIfSet(params, "newClientOrderId", cancelOrderRequest.getNewClientOrderId());
+        putIfSet(params, "recvWindow", cancelOrderRequest.getRecvWindow());
+        putIfSet(params, "timestamp", cancelOrderRequest.getTimestamp());
+        return send("order.cancel", params, !loggedOn, true, CANCEL_ORDER_RESPONSE_READER);
+    }
+
+    private static Map<String, Object> newOrderParams(NewOrder order) {
+        Map<String, Object> params = new TreeMap<>();
+        params.put("symbol", order.getSymbol());
+        putIfSet(params, "side", order.getSide());
+        putIfSet(params, "type", order.getType());
+        putIfSet(params, "timeInForce", order.getTimeInForce());
+        putIfSet(params, order.getQuoteOrderQty() == null ? "quantity" : "quoteOrderQty",
+                order.getQuoteOrderQty() == null ? order.getQuantity() : order.getQuoteOrderQty());
+        putIfSet(params, "price", order.getPrice());
+        putIfSet(params, "newClientOrderId", order.getNewClientOrderId());
+        putIfSet(params, "stopPrice", order.getStopPrice());
+        putIfSet(params, "icebergQty", order.getIcebergQty());
+        putIfSet(params, "newOrderRespType", order.getNewOrderRespType());
+        putIfSet(params, "recvWindow", order.getRecvWindow());
+        putIfSet(params, "timestamp", order.getTimestamp());
+        return params;
+    }
+
+    private static void putIfSet(Map<String, Object> params, String name, Object value) {
+        if (value != null) {
+            params.put(name, value instanceof Enum ? ((Enum<?>) value).name() : value);
+        }
+    }
+
+    /**
+     * @param params the request parameters, sorted by name
+     * @param signed true to sign the request, false if the session authenticates it
+     * @param placing true if the request places or cancels an order, whose outcome is unknown if it is left unanswered
+     * @param resultReader the reader of the result, or null to complete the future with null
+     */
+    private <T> CompletableFuture<T> send(String method, Map<String, Object> params, boolean signed, boolean placing,
+                                          ObjectReader resultReader) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (signed && signer == null) {
+            future.completeExceptionally(new BinanceApiException("Signed requests need an API key and a signer"));
+            return future;
+        }
+        // requests are stamped when sent, unless stamped already
+        params.putIfAbsent("timestamp", clock.getAsLong());
+        if (signed) {
+            params.put("apiKey", apiKey);
+            StringBuilder payload = new StringBuilder();
+            for (Map.Entry<String, Object> param : params.entrySet()) {
+                if (payload.length() > 0) {
+                    payload.append('&');
+                }
+                payload.append(param.getKey()).append('=').append(param.getValue());
+            }
+            params.put("signature", signer.sign(payload.toString()));
+        }
+
+        long id = requestIds.incrementAndGet();
+        ObjectNode request = mapper.createObjectNode();
+        request.put("id", id);
+        request.put("method", method);
+        request.set("params", mapper.valueToTree(params));
+        String text;
+        try {
+            text = mapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            future.completeExceptionally(new BinanceApiException(e));
+            return future;
+        }
+
+        pendingRequests.put(id, new PendingRequest<>(future, placing, resultReader));
+        Throwable cause = closedCause;
+        if (cause != null || !webSocket.send(text)) {
+            // the listener may not have failed the request yet
+            fail(pendingRequests.remove(id), cause != null ? cause : new IOException("Web socket closed"), false);
+        }
+        return future;
+    }
+
+    private void respond(String text) {
+        JsonNode response;
+        try {
+            response = mapper.readTree(text);
+        } catch (IOException e) {
+            throw new BinanceApiException(e);
+        }
+        JsonNode id = response.get("id");
+        PendingRequest<?> request = id != null && id.canConvertToLong() ? pendingRequests.remove(id.asLong()) : null;
+        if (request == null) {
+            return;
+        }
+        int status = response.path("status").asInt(-1);
+        if (status == 200) {
+            request.complete(response.get("result"));
+            return;
+        }
+        BinanceApiError error = null;
+        if (response.hasNonNull("error")) {
+            try {
+                error = mapper.treeToValue(response.get("error"), BinanceApiError.class);
+            } catch (JsonProcessingException e) {
+                // not an error object
+            }
+        }
+        request.fail(status == 504
+                ? new UnknownExecutionStatusException(error, status, Collections.emptyMap())
+                : new BinanceApiException(error, status, Collections.emptyMap()));
+    }
+
+    private void closed(Throwable cause) {
+        closedCause = cause;
+        loggedOn = false;
+        for (Long id : pendingRequests.keySet()) {
+            fail(pendingRequests.remove(id), cause, true);
+        }
+    }
+
+    /**
+     * Fail a request which did not get a response, the order it places or cancels having an unknown outcome if it was
+     * sent.
+     */
+    private static void fail(PendingRequest<?> request, Throwable cause, boolean sent) {
+        if (request == null) {
+            return;
+        }
+        if (sent && request.placing) {
+            UnknownExecutionStatusException unknownStatus = new UnknownExecutionStatusException(null, -1, Collections.emptyMap());
+            unknownStatus.initCause(cause);
+            request.fail(unknownStatus);
+        } else {
+            request.fail(cause instanceof BinanceApiException ? cause : new BinanceApiException(cause));
+        }
+    }
+
+    @Override
+    public int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    @Override
+    public void close() {
+        closing = true;
+        webSocket.close(1000, null);
+    }
+
+    private final class PendingRequest<T> {
+
+        private final CompletableFuture<T> future;
+
+        private final boolean placing;
+
+        private final ObjectReader resultReader;
+
+        private PendingRequest(CompletableFuture<T> future, boolean placing, ObjectReader resultReader) {
+            this.future = future;
+            this.placing = placing;
+            this.resultReader = resultReader;
+        }
+
+        private void complete(JsonNode result) {
+            T value;
+            try {
+                value = resultReader != null && result != null ? resultReader.readValue(result) : null;
+            } catch (IOException e) {
+                fail(new BinanceApiException(e));
+                return;
+            }
+            execute(() -> future.complete(value));
+        }
+
+        private void fail(Throwable cause) {
+            execute(() -> future.completeExceptionally(cause));
+        }
+
+        private void execute(Runnable completion) {
+            try {
+                executor.execute(completion);
+            } catch (RejectedExecutionException e) {
+                // the executor is shut down: complete here rather than never
+                completion.run();
+            }
+        }
+    }
+
+    private final class Listener extends WebSocketListener {
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            respond(text);
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(code, null);
+        }
+
+        @Override
+        public void onClosed(WebSocket webSocket, int code, String reason) {
+            closed(new IOException("Web socket closed: " + code + (reason != null && !reason.isEmpty() ? " " + reason : "")));
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            closed(t);
+        }
+    }
+}
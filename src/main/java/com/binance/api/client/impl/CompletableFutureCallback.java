@@ -0,0 +1,74 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.exception.BinanceApiException;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.binance.api.client.impl.BinanceApiServiceGenerator.newBinanceApiException;
+
+/**
+ * A Retrofit callback completing a {@link CompletableFuture} on a given executor, so that the stages chained on the
+ * future do not run on, and hold up, the threads of the HTTP client.
+ * <p>
+ * Cancelling the future cancels the call.
+ */
+public class CompletableFutureCallback<T> implements Callback<T> {
+
+  private final CompletableFuture<T> future;
+
+  private final Executor executor;
+
+  private CompletableFutureCallback(CompletableFuture<T> future, Executor executor) {
+    this.future = future;
+    this.executor = executor;
+  }
+
+  /**
+   * Send a call asynchronously.
+   *
+   * @param call the call to send
+   * @param executor the executor completing the future
+   * @return the future of the response body
+   */
+  public static <T> CompletableFuture<T> enqueue(Call<T> call, Executor executor) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.whenComplete((body, cause) -> {
+      if (future.isCancelled()) {
+        call.cancel();
+      }
+    });
+    call.enqueue(new CompletableFutureCallback<>(future, executor));
+    return future;
+  }
+
+  @Override
+  public void onResponse(Call<T> call, Response<T> response) {
+    if (response.isSuccessful()) {
+      T body = response.body();
+      complete(() -> future.complete(body));
+    } else {
+      BinanceApiException cause = newBinanceApiException(response);
+      complete(() -> future.completeExceptionally(cause));
+    }
+  }
+
+  @Override
+  public void onFailure(Call<T> call, Throwable throwable) {
+    Throwable cause = throwable instanceof BinanceApiException ? throwable : new BinanceApiException(throwable);
+    complete(() -> future.completeExceptionally(cause));
+  }
+
+  private void complete(Runnable completion) {
+    try {
+      executor.execute(completion);
+    } catch (RejectedExecutionException e) {
+      // the executor is shut down: complete here rather than never
+      completion.run();
+    }
+  }
+}
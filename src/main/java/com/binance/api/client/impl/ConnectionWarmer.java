@@ -0,0 +1,175 @@
+package com.binance.api.client.impl;
+
+import okhttp3.OkHttpClient;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+
+import java.io.Closeable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps pooled REST connections open, so that the first order after startup or after an idle period does not pay for
+ * the DNS, TCP and TLS handshakes.
+ * <p>
+ * Every interval, as many concurrent <code>ping</code> requests as connections to keep are sent: concurrent requests
+ * need distinct HTTP/1.1 connections, so each pooled connection is opened or used again before the server or the pool
+ * drops it as idle. Over HTTP/2, requests share a single connection.
+ */
+public class ConnectionWarmer implements Closeable {
+
+  private final BinanceApiService binanceApiService;
+
+  private final OkHttpClient client;
+
+  private final int connections;
+
+  private final long intervalNanos;
+
+  private final ScheduledExecutorService scheduler;
+
+  private final AtomicLong successCount = new AtomicLong();
+
+  private final AtomicLong failureCount = new AtomicLong();
+
+  private final CountDownLatch firstRound = new CountDownLatch(1);
+
+  private volatile long lastSuccessNanos;
+
+  private volatile long lastRoundTripNanos = -1L;
+
+  private volatile Throwable lastError;
+
+  /**
+   * @param client the HTTP client whose connections to keep open
+   * @param baseUrl the REST API base URL
+   * @param connections the number of connections to keep open
+   * @param interval the interval between two rounds of pings, shorter than the keep-alive of the connection pool
+   * @param timeUnit the unit of the interval
+   */
+  public ConnectionWarmer(OkHttpClient client, String baseUrl, int connections, long interval, TimeUnit timeUnit) {
+    this.binanceApiService = BinanceApiServiceGenerator.createService(BinanceApiService.class, null, null, client, baseUrl);
+    this.client = client;
+    this.connections = connections;
+    this.intervalNanos = timeUnit.toNanos(interval);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "binance-connection-warmer");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Open the connections now, and keep them open on a schedule.
+   *
+   * @return this warmer
+   */
+  public ConnectionWarmer start() {
+    scheduler.scheduleAtFixedRate(this::ping, 0L, intervalNanos, TimeUnit.NANOSECONDS);
+    return this;
+  }
+
+  /**
+   * Send a round of concurrent pings.
+   */
+  public void ping() {
+    final AtomicInteger pending = new AtomicInteger(connections);
+    for (int i = 0; i < connections; i++) {
+      final long start = System.nanoTime();
+      binanceApiService.ping().enqueue(new Callback<Void>() {
+        @Override
+        public void onResponse(Call<Void> call, Response<Void> response) {
+          if (response.isSuccessful()) {
+            long now = System.nanoTime();
+            lastRoundTripNanos = now - start;
+            lastSuccessNanos = now;
+            successCount.incrementAndGet();
+          } else {
+            lastError = new IllegalStateException("Ping failed with HTTP status " + response.code());
+            failureCount.incrementAndGet();
+          }
+          onDone();
+        }
+
+        @Override
+        public void onFailure(Call<Void> call, Throwable t) {
+          lastError = t;
+          failureCount.incrementAndGet();
+          onDone();
+        }
+
+        private void onDone() {
+          if (pending.decrementAndGet() == 0) {
+            firstRound.countDown();
+          }
+        }
+      });
+    }
+  }
+
+  /**
+   * Wait for the first round of pings to complete.
+   *
+   * @return true if the connections are warm
+   */
+  public boolean awaitWarm(long timeout, TimeUnit timeUnit) throws InterruptedException {
+    return firstRound.await(timeout, timeUnit) && isWarm();
+  }
+
+  /**
+   * @return true if a pooled connection is open and a ping succeeded within the last two intervals.
+   */
+  public boolean isWarm() {
+    long lastSuccess = lastSuccessNanos;
+    return lastSuccess != 0L && System.nanoTime() - lastSuccess < 2 * intervalNanos && getConnectionCount() > 0;
+  }
+
+  /**
+   * @return the number of connections in the pool, in use or idle.
+   */
+  public int getConnectionCount() {
+    return client.connectionPool().connectionCount();
+  }
+
+  /**
+   * @return the number of idle connections in the pool.
+   */
+  public int getIdleConnectionCount() {
+    return client.connectionPool().idleConnectionCount();
+  }
+
+  /**
+   * @return the round trip time of the last successful ping in nanoseconds, or -1 if none succeeded.
+   */
+  public long getLastRoundTripNanos() {
+    return lastRoundTripNanos;
+  }
+
+  public long getSuccessCount() {
+    return successCount.get();
+  }
+
+  public long getFailureCount() {
+    return failureCount.get();
+  }
+
+  /**
+   * @return the cause of the last failed ping, or null if none failed.
+   */
+  public Throwable getLastError() {
+    return lastError;
+  }
+
+  /**
+   * Stop pinging. The connections are left to expire from the pool.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
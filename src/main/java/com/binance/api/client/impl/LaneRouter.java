@@ -0,0 +1,69 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.config.Lane;
+import com.binance.api.client.config.RequestLane;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implements a service interface by forwarding every method to the implementation of its {@link RequestLane}, each
+ * lane implementation being bound to its own HTTP client.
+ */
+public final class LaneRouter implements InvocationHandler {
+
+  private final Map<Method, Object> targets = new HashMap<>();
+
+  private <S> LaneRouter(Class<S> serviceClass, Map<RequestLane, S> services, Map<String, RequestLane> assignments) {
+    for (Method method : serviceClass.getMethods()) {
+      RequestLane lane = laneOf(method, assignments);
+      S service = services.get(lane);
+      targets.put(method, service != null ? service : services.get(RequestLane.DEFAULT));
+    }
+  }
+
+  /**
+   * @param serviceClass the service interface
+   * @param services the implementation of every lane, at least of {@link RequestLane#DEFAULT}
+   * @param assignments lanes by method name, overriding the {@link Lane} annotations
+   * @return an implementation of the service forwarding every method to the implementation of its lane
+   */
+  @SuppressWarnings("unchecked")
+  public static <S> S create(Class<S> serviceClass, Map<RequestLane, S> services, Map<String, RequestLane> assignments) {
+    if (!services.containsKey(RequestLane.DEFAULT)) {
+      throw new IllegalArgumentException("No service for the default lane");
+    }
+    return (S) Proxy.newProxyInstance(serviceClass.getClassLoader(), new Class<?>[]{serviceClass},
+        new LaneRouter(serviceClass, services, assignments));
+  }
+
+  /**
+   * @return the lane of a service method, from the assignments or else from its {@link Lane} annotation.
+   */
+  public static RequestLane laneOf(Method method, Map<String, RequestLane> assignments) {
+    RequestLane assigned = assignments.get(method.getName());
+    if (assigned != null) {
+      return assigned;
+    }
+    Lane lane = method.getAnnotation(Lane.class);
+    return lane != null ? lane.value() : RequestLane.DEFAULT;
+  }
+
+  @Override
+  public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    Object target = targets.get(method);
+    if (target == null) {
+      // Object methods
+      return method.invoke(this, args);
+    }
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
@@ -0,0 +1,456 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiStreamCallback;
+import com.binance.api.client.BinanceApiWebSocketConnection;
+import com.binance.api.client.CombinedStream;
+import com.binance.api.client.exception.BinanceApiException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Combined stream connection that reopens itself when the underlying web socket fails, and resubscribes its streams.
+ * <p>
+ * Reconnection attempts are spaced by an exponential backoff with full jitter. Streams whose callback is a
+ * {@link BinanceApiStreamCallback} are told through {@link BinanceApiStreamCallback#onGap(String)} when their
+ * connection fails, since events are lost until it is reopened. Failures are watched on the connection itself, so that
+ * they are noticed even while no stream is subscribed.
+ * <p>
+ * The server closes connections after 24 hours. Before that, a new connection is opened next to the current one; each
+ * stream switches over to the new connection on its first event there, and the old connection is closed after an
+ * overlap period, so that no gap is signalled. The callback of a stream is called by one connection at a time, and
+ * no longer by the old connection once the new one delivered.
+ */
+public class ReconnectingWebSocketConnection implements BinanceApiWebSocketConnection {
+
+    /**
+     * Default delay before the first reconnection attempt, doubled on every consecutive attempt.
+     */
+    public static final long DEFAULT_MIN_BACKOFF_MILLIS = 500L;
+
+    /**
+     * Default upper bound of the reconnection delay.
+     */
+    public static final long DEFAULT_MAX_BACKOFF_MILLIS = 30_000L;
+
+    /**
+     * Default age at which a connection is replaced, ahead of the server closing it after 24 hours.
+     */
+    public static final long DEFAULT_MAX_CONNECTION_AGE_MILLIS = TimeUnit.HOURS.toMillis(23);
+
+    /**
+     * Default time both connections stay open while handing over.
+     */
+    public static final long DEFAULT_HANDOVER_OVERLAP_MILLIS = 10_000L;
+
+    private final Function<CombinedStream, BinanceApiWebSocketConnection> connector;
+
+    private final long minBackoffMillis;
+
+    private final long maxBackoffMillis;
+
+    private final long maxConnectionAgeMillis;
+
+    private final long handoverOverlapMillis;
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Guards the streams and connections. Not a monitor, so that virtual threads calling in are not pinned to their
+     * carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Map<String, StreamState<?>> streams = new LinkedHashMap<>();
+
+    private final AtomicInteger failedAttempts = new AtomicInteger();
+
+    private long generationCount;
+
+    private Generation current;
+
+    private Generation previous;
+
+    private volatile boolean closed;
+
+    /**
+     * @param connector opens a combined stream connection, e.g. {@link com.binance.api.client.BinanceApiWebSocketClient#openCombinedStream(CombinedStream)}
+     * @param streams the streams to subscribe to when connecting, possibly none
+     */
+    public ReconnectingWebSocketConnection(Function<CombinedStream, BinanceApiWebSocketConnection> connector, CombinedStream streams) {
+        this(connector, streams, DEFAULT_MIN_BACKOFF_MILLIS, DEFAULT_MAX_BACKOFF_MILLIS, DEFAULT_MAX_CONNECTION_AGE_MILLIS, DEFAULT_HANDOVER_OVERLAP_MILLIS);
+    }
+
+    /**
+     * @param connector opens a combined stream connection, e.g. {@link com.binance.api.client.BinanceApiWebSocketClient#openCombinedStream(CombinedStream)}
+     * @param streams the streams to subscribe to when connecting, possibly none
+     * @param minBackoffMillis delay before the first reconnection attempt
+     * @param maxBackoffMillis upper bound of the reconnection delay
+     * @param maxConnectionAgeMillis age at which a connection is replaced
+     * @param handoverOverlapMillis time both connections stay open while handing over
+     */
+    public ReconnectingWebSocketConnection(Function<CombinedStream, BinanceApiWebSocketConnection> connector, CombinedStream streams,
+                                           long minBackoffMillis, long maxBackoffMillis, long maxConnectionAgeMillis, long handoverOverlapMillis) {
+        this.connector = connector;
+        this.minBackoffMillis = minBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.maxConnectionAgeMillis = maxConnectionAgeMillis;
+        this.handoverOverlapMillis = handoverOverlapMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "binance-websocket-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (CombinedStream.Route<?> route : streams.getRoutes()) {
+            this.streams.put(route.getStream(), new StreamState<>(route));
+        }
+        reconnect();
+    }
+
+    /**
+     * @return the number of connections opened so far, including the first one.
+     */
+    public long getConnectionCount() {
+        lock.lock();
+        try {
+            return generationCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the current connection delivered events since it was opened.
+     */
+    public boolean isConnected() {
+        lock.lock();
+        try {
+            return current != null && current.receiving;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reconnect() {
+        lock.lock();
+        try {
+            if (!closed && !connect()) {
+                scheduleReconnect();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Open a new connection for all streams and make it the current one.
+     *
+     * @return false if the connection could not be opened
+     */
+    private boolean connect() {
+        final Generation generation = new Generation(++generationCount);
+        CombinedStream routes = new CombinedStream().onConnectionFailure(cause -> onConnectionFailure(generation));
+        streams.values().forEach(state -> routes.add(state.relay(generation)));
+        try {
+            generation.connection = connector.apply(routes);
+        } catch (RuntimeException e) {
+            return false;
+        }
+        current = generation;
+        scheduler.schedule(() -> handOver(generation), maxConnectionAgeMillis, TimeUnit.MILLISECONDS);
+        return true;
+    }
+
+    private void handOver(Generation generation) {
+        lock.lock();
+        try {
+            if (closed || generation != current) {
+                return;
+            }
+            if (!connect()) {
+                scheduler.schedule(() -> handOver(generation), minBackoffMillis, TimeUnit.MILLISECONDS);
+                return;
+            }
+            if (previous != null) {
+                retire(previous);
+            }
+            previous = generation;
+            scheduler.schedule(() -> retire(generation), handoverOverlapMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void retire(Generation generation) {
+        lock.lock();
+        try {
+            if (previous == generation) {
+                previous = null;
+            }
+            generation.failed.set(true);
+            generation.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onConnectionFailure(Generation generation) {
+        final List<StreamState<?>> gaps;
+        lock.lock();
+        try {
+            if (closed || !generation.failed.compareAndSet(false, true)) {
+                return;
+            }
+            if (generation != current) {
+                retire(generation);
+                return;
+            }
+            current = null;
+            generation.close();
+            gaps = new ArrayList<>(streams.values());
+            scheduleReconnect();
+        } finally {
+            lock.unlock();
+        }
+        // callbacks run without the lock, so that they may call back into this connection from other threads
+        gaps.forEach(StreamState::onGap);
+    }
+
+    private void onRejected(StreamState<?> state, Throwable cause) {
+        lock.lock();
+        try {
+            streams.remove(state.route.getStream(), state);
+        } finally {
+            lock.unlock();
+        }
+        state.onFailure(cause);
+    }
+
+    private void scheduleReconnect() {
+        if (closed) {
+            return;
+        }
+        int attempt = Math.min(failedAttempts.getAndIncrement(), 30);
+        long ceiling = Math.min(maxBackoffMillis, minBackoffMillis << attempt);
+        long delay = ceiling <= minBackoffMillis ? minBackoffMillis : ThreadLocalRandom.current().nextLong(minBackoffMillis, ceiling + 1);
+        scheduler.schedule(this::reconnect, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the request id, or -1 if disconnected, the streams then being subscribed to on reconnection.
+     */
+    @Override
+    public long subscribe(CombinedStream streams) {
+        final Generation failed;
+        lock.lock();
+        try {
+            CombinedStream routes = new CombinedStream();
+            for (CombinedStream.Route<?> route : streams.getRoutes()) {
+                StreamState<?> state = new StreamState<>(route);
+                this.streams.put(route.getStream(), state);
+                if (current != null) {
+                    routes.add(state.relay(current));
+                }
+            }
+            if (current == null) {
+                return -1L;
+            }
+            try {
+                return current.connection.subscribe(routes);
+            } catch (BinanceApiException e) {
+                // the connection died before its failure was reported: the streams are kept for the reconnection
+                failed = current;
+            }
+        } finally {
+            lock.unlock();
+        }
+        onConnectionFailure(failed);
+        return -1L;
+    }
+
+    /**
+     * @return the request id, or -1 if disconnected.
+     */
+    @Override
+    public long unsubscribe(List<String> streams) {
+        lock.lock();
+        try {
+            streams.forEach(this.streams::remove);
+            if (previous != null) {
+                try {
+                    previous.connection.unsubscribe(streams);
+                } catch (BinanceApiException e) {
+                    // the previous connection is being retired anyway
+                }
+            }
+            return current != null ? current.connection.unsubscribe(streams) : -1L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the request id, or -1 if disconnected.
+     */
+    @Override
+    public long listSubscriptions(BinanceApiCallback<List<String>> callback) {
+        lock.lock();
+        try {
+            return current != null ? current.connection.listSubscriptions(callback) : -1L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<String> getStreams() {
+        lock.lock();
+        try {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(streams.keySet()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> getPendingRequestIds() {
+        lock.lock();
+        try {
+            return current != null ? current.connection.getPendingRequestIds() : Collections.emptySet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            scheduler.shutdownNow();
+            if (previous != null) {
+                previous.close();
+            }
+            if (current != null) {
+                current.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * One of the successive underlying connections.
+     */
+    private final class Generation {
+
+        private final long number;
+
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private volatile boolean receiving;
+
+        private BinanceApiWebSocketConnection connection;
+
+        private Generation(long number) {
+            this.number = number;
+        }
+
+        private void onEvent() {
+            if (!receiving) {
+                receiving = true;
+                failedAttempts.set(0);
+            }
+        }
+
+        private void close() {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                // the connection is given up either way
+            }
+        }
+    }
+
+    /**
+     * A subscribed stream, and the connection currently delivering its events.
+     */
+    private final class StreamState<T> {
+
+        private final CombinedStream.Route<T> route;
+
+        /**
+         * Serializes the calls to the callback of the stream, which both connections deliver to while handing over.
+         */
+        private final ReentrantLock deliveryLock = new ReentrantLock();
+
+        private long activeGeneration;
+
+        private StreamState(CombinedStream.Route<T> route) {
+            this.route = route;
+        }
+
+        private CombinedStream.Route<T> relay(Generation generation) {
+            return new CombinedStream.Route<>(route.getStream(), route.getEventType(), new BinanceApiCallback<T>() {
+                @Override
+                public void onResponse(T event) {
+                    generation.onEvent();
+                    deliveryLock.lock();
+                    try {
+                        // events of an older connection are dropped once a newer one delivered
+                        if (generation.number >= activeGeneration) {
+                            activeGeneration = generation.number;
+                            route.getCallback().onResponse(event);
+                        }
+                    } finally {
+                        deliveryLock.unlock();
+                    }
+                }
+
+                @Override
+                public void onFailure(Throwable cause) {
+                    if (cause instanceof BinanceApiException && ((BinanceApiException) cause).getError() != null) {
+                        onRejected(StreamState.this, cause);
+                    } else {
+                        onConnectionFailure(generation);
+                    }
+                }
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private void onGap() {
+            if (route.getCallback() instanceof BinanceApiStreamCallback) {
+                deliveryLock.lock();
+                try {
+                    ((BinanceApiStreamCallback<T>) route.getCallback()).onGap(route.getStream());
+                } finally {
+                    deliveryLock.unlock();
+                }
+            }
+        }
+
+        private void onFailure(Throwable cause) {
+            deliveryLock.lock();
+            try {
+                route.getCallback().onFailure(cause);
+            } finally {
+                deliveryLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.binance.api.client.impl;
+
+import okhttp3.OkHttpClient;
+
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Estimate of the exchange clock, kept by sampling the server time in the background, so that signed requests can be
+ * stamped with server time and sent with a short <code>recvWindow</code> despite local clock drift.
+ * <p>
+ * As with NTP, every sample is taken as the server time at the midpoint of its round trip, and the sample with the
+ * shortest round trip of every round is kept, its error being bounded by half the round trip. The offset to the local
+ * clock is then smoothed over rounds, unless it jumps by more than {@link #DEFAULT_STEP_THRESHOLD_MILLIS}, e.g. when
+ * the local clock is set. Round trips are timed on the monotonic clock, the local wall clock only being read to
+ * compute the offset.
+ */
+public class ServerClock implements Closeable {
+
+  /**
+   * Default number of samples per round.
+   */
+  public static final int DEFAULT_SAMPLES_PER_ROUND = 4;
+
+  /**
+   * Default weight of a new round in the smoothed offset.
+   */
+  public static final double DEFAULT_SMOOTHING = 0.25;
+
+  /**
+   * Default difference to the smoothed offset beyond which a new offset replaces it.
+   */
+  public static final long DEFAULT_STEP_THRESHOLD_MILLIS = 1_000L;
+
+  private final LongSupplier serverTime;
+
+  private final LongSupplier localClock;
+
+  private final LongSupplier nanoClock;
+
+  private final long intervalMillis;
+
+  private final ScheduledExecutorService scheduler;
+
+  private volatile double offsetMillis;
+
+  private volatile long roundTripMillis = -1L;
+
+  private volatile long lastSyncNanos;
+
+  private volatile Throwable lastError;
+
+  /**
+   * @param client the HTTP client to sample the server time with
+   * @param baseUrl the REST API base URL
+   * @param interval the interval between two rounds of samples
+   * @param timeUnit the unit of the interval
+   */
+  public ServerClock(OkHttpClient client, String baseUrl, long interval, TimeUnit timeUnit) {
+    this(serverTimeOf(BinanceApiServiceGenerator.createService(BinanceApiService.class, null, null, client, baseUrl)),
+        interval, timeUnit);
+  }
+
+  /**
+   * @param serverTime the server time, e.g. <code>client::getServerTime</code> of a {@link com.binance.api.client.BinanceApiRestClient}
+   * @param interval the interval between two rounds of samples
+   * @param timeUnit the unit of the interval
+   */
+  public ServerClock(LongSupplier serverTime, long interval, TimeUnit timeUnit) {
+    this(serverTime, System::currentTimeMillis, System::nanoTime, interval, timeUnit);
+  }
+
+  ServerClock(LongSupplier serverTime, LongSupplier localClock, LongSupplier nanoClock, long interval, TimeUnit timeUnit) {
+    this.serverTime = serverTime;
+    this.localClock = localClock;
+    this.nanoClock = nanoClock;
+    this.intervalMillis = timeUnit.toMillis(interval);
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "binance-clock-sync");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  private static LongSupplier serverTimeOf(BinanceApiService service) {
+    return () -> BinanceApiServiceGenerator.executeSync(service.getServerTime()).getServerTime();
+  }
+
+  /**
+   * Sample the server time now, and again on a schedule.
+   *
+   * @return this clock
+   */
+  public ServerClock start() {
+    sync();
+    scheduler.scheduleWithFixedDelay(this::sync, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    return this;
+  }
+
+  /**
+   * Take a round of samples, and update the offset with the one of the shortest round trip.
+   *
+   * @return true if a sample was taken
+   */
+  public boolean sync() {
+    long bestRoundTripNanos = Long.MAX_VALUE;
+    double bestOffset = 0;
+    for (int i = 0; i < DEFAULT_SAMPLES_PER_ROUND; i++) {
+      try {
+        long sentNanos = nanoClock.getAsLong();
+        long sent = localClock.getAsLong();
+        long server = serverTime.getAsLong();
+        long roundTripNanos = nanoClock.getAsLong() - sentNanos;
+        if (roundTripNanos < bestRoundTripNanos) {
+          bestRoundTripNanos = roundTripNanos;
+          bestOffset = server - (sent + roundTripNanos / 2e6);
+        }
+      } catch (RuntimeException e) {
+        lastError = e;
+      }
+    }
+    if (bestRoundTripNanos == Long.MAX_VALUE) {
+      return false;
+    }
+    double current = offsetMillis;
+    if (roundTripMillis < 0 || Math.abs(bestOffset - current) > DEFAULT_STEP_THRESHOLD_MILLIS) {
+      offsetMillis = bestOffset;
+    } else {
+      offsetMillis = current + DEFAULT_SMOOTHING * (bestOffset - current);
+    }
+    roundTripMillis = TimeUnit.NANOSECONDS.toMillis(bestRoundTripNanos);
+    lastSyncNanos = nanoClock.getAsLong();
+    return true;
+  }
+
+  /**
+   * @return the estimated server time, or the local time until the first sample.
+   */
+  public long currentTimeMillis() {
+    return localClock.getAsLong() + getOffsetMillis();
+  }
+
+  /**
+   * @return the estimated difference between the server clock and the local clock.
+   */
+  public long getOffsetMillis() {
+    return Math.round(offsetMillis);
+  }
+
+  /**
+   * @return the round trip of the latest sample kept, bounding the error of the offset to its half, or -1 before the
+   * first sample.
+   */
+  public long getRoundTripMillis() {
+    return roundTripMillis;
+  }
+
+  /**
+   * @return true if the server time was sampled within the last two intervals.
+   */
+  public boolean isSynced() {
+    return roundTripMillis >= 0 && nanoClock.getAsLong() - lastSyncNanos <= TimeUnit.MILLISECONDS.toNanos(2 * intervalMillis);
+  }
+
+  /**
+   * @return the latest sampling failure, or null if none.
+   */
+  public Throwable getLastError() {
+    return lastError;
+  }
+
+  /**
+   * Stop sampling, keeping the latest offset.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,54 @@
+package com.binance.api.client.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to the virtual threads of JDK 21 and later, while the library itself targets Java 8.
+ * <p>
+ * This implementation looks the JDK 21 executor up reflectively. The multi-release JAR built by the <code>jdk21</code>
+ * profile replaces it with one calling it directly.
+ */
+public final class VirtualThreads {
+
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findNewVirtualThreadPerTaskExecutor();
+
+  private VirtualThreads() {
+  }
+
+  private static MethodHandle findNewVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+          MethodType.methodType(ExecutorService.class));
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  /**
+   * @return true if the running JDK has virtual threads.
+   */
+  public static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * @return an executor starting a new virtual thread for every task
+   * @throws UnsupportedOperationException if the running JDK has no virtual threads
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+      throw new UnsupportedOperationException("Virtual threads require JDK 21 or later");
+    }
+    try {
+      return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package com.binance.api.client.order;
+
+import com.binance.api.client.constant.BinanceApiConstants;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * Outcome of one request of an {@link OrderBatch}: either its response or the cause of its failure.
+ *
+ * @param <T> the type of the response
+ */
+public class BatchResult<T> {
+
+  private final T response;
+
+  private final Throwable failure;
+
+  private BatchResult(T response, Throwable failure) {
+    this.response = response;
+    this.failure = failure;
+  }
+
+  static <T> BatchResult<T> success(T response) {
+    return new BatchResult<>(response, null);
+  }
+
+  static <T> BatchResult<T> failure(Throwable failure) {
+    return new BatchResult<>(null, failure);
+  }
+
+  /**
+   * @return true if the request succeeded.
+   */
+  public boolean isSuccess() {
+    return failure == null;
+  }
+
+  /**
+   * @return the response, or null if the request failed.
+   */
+  public T getResponse() {
+    return response;
+  }
+
+  /**
+   * @return the cause of the failure, e.g. a {@link com.binance.api.client.exception.BinanceApiException}, or null if
+   * the request succeeded.
+   */
+  public Throwable getFailure() {
+    return failure;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+        .append("response", response)
+        .append("failure", failure)
+        .toString();
+  }
+}
@@ -0,0 +1,220 @@
+package com.binance.api.client.order;
+
+import com.binance.api.client.BinanceApiAsyncRestClient;
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderRequest;
+import com.binance.api.client.ratelimit.RateLimiter;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Places or cancels many orders at once, keeping a bounded number of requests in flight, so that they are sent over
+ * parallel connections (or multiplexed over HTTP/2) rather than one after the other.
+ * <p>
+ * A batch does not stop at the first failure: it completes once every request got its response, with one
+ * {@link BatchResult} per request, in submission order. Orders without a timestamp are stamped when sent, so that a
+ * long batch is not rejected for its last orders falling outside their receiving window.
+ * <p>
+ * Given the {@link RateLimiter} enforced by the client, orders are only sent while the order limits leave room for
+ * them, rather than left waiting in the rate limit interceptor, and failed once its maximum wait is over. The number
+ * of requests in flight should not exceed the concurrent requests of the HTTP client (of its order lane, if any).
+ */
+public class OrderBatch implements Closeable {
+
+  /**
+   * Default number of requests in flight.
+   */
+  public static final int DEFAULT_MAX_IN_FLIGHT = 10;
+
+  private final BinanceApiAsyncRestClient client;
+
+  private final RateLimiter rateLimiter;
+
+  private final int maxInFlight;
+
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Sends waiting for the order limits, run right away when closing.
+   */
+  private final Set<Runnable> waiting = ConcurrentHashMap.newKeySet();
+
+  public OrderBatch(BinanceApiAsyncRestClient client) {
+    this(client, null, DEFAULT_MAX_IN_FLIGHT);
+  }
+
+  /**
+   * @param client the client sending the requests
+   * @param rateLimiter the limiter enforced by the client, or null not to wait for the order limits
+   * @param maxInFlight the number of requests in flight
+   */
+  public OrderBatch(BinanceApiAsyncRestClient client, RateLimiter rateLimiter, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("At least one request must be in flight");
+    }
+    this.client = client;
+    this.rateLimiter = rateLimiter;
+    this.maxInFlight = maxInFlight;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "binance-order-batch");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Send in new orders.
+   *
+   * @param orders the new orders to submit
+   * @return a future of the results, in the order of the orders
+   */
+  public CompletableFuture<List<BatchResult<NewOrderResponse>>> newOrders(List<NewOrder> orders) {
+    return submit(orders, 1, client::newOrder);
+  }
+
+  /**
+   * Cancel active orders.
+   *
+   * @param cancelOrderRequests the cancellations to submit
+   * @return a future of the results, in the order of the cancellations
+   */
+  public CompletableFuture<List<BatchResult<CancelOrderResponse>>> cancelOrders(List<CancelOrderRequest> cancelOrderRequests) {
+    return submit(cancelOrderRequests, 0, client::cancelOrder);
+  }
+
+  /**
+   * Cancel all active orders on several symbols in parallel.
+   *
+   * @param symbols the symbols whose orders to cancel
+   * @return a future of the cancelled orders of every symbol, in the order of the symbols
+   */
+  public CompletableFuture<List<BatchResult<List<CancelOrderResponse>>>> cancelOpenOrders(List<String> symbols) {
+    return submit(symbols, 0, (symbol, callback) -> client.cancelOpenOrders(new OrderRequest(symbol), callback));
+  }
+
+  private <R, T> CompletableFuture<List<BatchResult<T>>> submit(List<R> requests, int orders,
+                                                               BiConsumer<R, BinanceApiCallback<T>> sender) {
+    if (requests.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    Batch<R, T> batch = new Batch<>(new ArrayList<>(requests), orders, sender);
+    for (int i = 0; i < Math.min(maxInFlight, requests.size()); i++) {
+      batch.sendNext();
+    }
+    return batch.future;
+  }
+
+  /**
+   * Stop waiting for the order limits: the orders left are sent right away.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    // the sends discarded by the scheduler would otherwise never run
+    for (Runnable send : waiting) {
+      if (waiting.remove(send)) {
+        send.run();
+      }
+    }
+  }
+
+  private final class Batch<R, T> {
+
+    private final List<R> requests;
+
+    private final int orders;
+
+    private final BiConsumer<R, BinanceApiCallback<T>> sender;
+
+    private final AtomicReferenceArray<BatchResult<T>> results;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private final CompletableFuture<List<BatchResult<T>>> future = new CompletableFuture<>();
+
+    private Batch(List<R> requests, int orders, BiConsumer<R, BinanceApiCallback<T>> sender) {
+      this.requests = requests;
+      this.orders = orders;
+      this.sender = sender;
+      this.results = new AtomicReferenceArray<>(requests.size());
+    }
+
+    /**
+     * Send the next request, once the order limits leave room for it.
+     */
+    private void sendNext() {
+      if (next.get() >= requests.size()) {
+        return;
+      }
+      if (rateLimiter != null && orders > 0) {
+        long wait = rateLimiter.millisUntilAvailable(1, orders);
+        if (wait > 0) {
+          Runnable send = this::sendNext;
+          waiting.add(send);
+          try {
+            scheduler.schedule(() -> {
+              if (waiting.remove(send)) {
+                send.run();
+              }
+            }, wait, TimeUnit.MILLISECONDS);
+            return;
+          } catch (RejectedExecutionException e) {
+            // the batch is closed: send right away
+            waiting.remove(send);
+          }
+        }
+      }
+      int index = next.getAndIncrement();
+      if (index >= requests.size()) {
+        return;
+      }
+      try {
+        sender.accept(requests.get(index), new BinanceApiCallback<T>() {
+          @Override
+          public void onResponse(T response) {
+            complete(index, BatchResult.success(response));
+          }
+
+          @Override
+          public void onFailure(Throwable cause) {
+            complete(index, BatchResult.failure(cause));
+          }
+        });
+      } catch (RuntimeException e) {
+        complete(index, BatchResult.failure(e));
+      }
+    }
+
+    private void complete(int index, BatchResult<T> result) {
+      results.set(index, result);
+      if (completed.incrementAndGet() < requests.size()) {
+        sendNext();
+        return;
+      }
+      List<BatchResult<T>> all = new ArrayList<>(requests.size());
+      for (int i = 0; i < requests.size(); i++) {
+        all.add(results.get(i));
+      }
+      future.complete(all);
+    }
+  }
+}
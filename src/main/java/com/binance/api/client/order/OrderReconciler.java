@@ -0,0 +1,188 @@
+package com.binance.api.client.order;
+
+import com.binance.api.client.BinanceApiAsyncRestClient;
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.Order;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Finds out the outcome of orders whose placement ended with an {@link UnknownExecutionStatusException}, by looking
+ * them up by client order id, so that they are neither placed twice nor left pending.
+ * <p>
+ * The lookup is retried a bounded number of times, since an order may only become visible once the matching engine
+ * is done with it, and the exchange may still be under stress. Orders must thus be placed with a client order id, see
+ * {@link #withClientOrderId(NewOrder)}.
+ */
+public class OrderReconciler implements Closeable {
+
+  /**
+   * Default number of order lookups.
+   */
+  public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+  /**
+   * Default delay between two order lookups.
+   */
+  public static final long DEFAULT_RETRY_DELAY_MILLIS = 1_000L;
+
+  /**
+   * Error code of a lookup of an order the exchange does not know.
+   */
+  private static final int NO_SUCH_ORDER = -2013;
+
+  private final BinanceApiAsyncRestClient client;
+
+  private final int maxAttempts;
+
+  private final long retryDelayMillis;
+
+  private final ScheduledExecutorService scheduler;
+
+  /**
+   * Reconciliations waiting for their next lookup, failed when closing.
+   */
+  private final Set<CompletableFuture<Order>> waiting = ConcurrentHashMap.newKeySet();
+
+  public OrderReconciler(BinanceApiAsyncRestClient client) {
+    this(client, DEFAULT_MAX_ATTEMPTS, DEFAULT_RETRY_DELAY_MILLIS);
+  }
+
+  /**
+   * @param client the client looking orders up
+   * @param maxAttempts the number of order lookups
+   * @param retryDelayMillis the delay between two order lookups
+   */
+  public OrderReconciler(BinanceApiAsyncRestClient client, int maxAttempts, long retryDelayMillis) {
+    this.client = client;
+    this.maxAttempts = maxAttempts;
+    this.retryDelayMillis = retryDelayMillis;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "binance-order-reconciler");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Give an order a random client order id, unless it has one, so that it can be reconciled.
+   *
+   * @return the order
+   */
+  public static NewOrder withClientOrderId(NewOrder order) {
+    if (order.getNewClientOrderId() == null) {
+      order.newClientOrderId(UUID.randomUUID().toString());
+    }
+    return order;
+  }
+
+  /**
+   * Look an order up until its state is known.
+   *
+   * @param symbol the symbol of the order
+   * @param clientOrderId the client order id the order was placed with
+   * @return a future of the order, or completed exceptionally with an {@link UnknownExecutionStatusException} if no
+   * lookup found the order, the cause being the failure of the last lookup. The exchange not knowing the order after
+   * all lookups suggests, but does not prove, that it was not placed.
+   */
+  public CompletableFuture<Order> reconcile(String symbol, String clientOrderId) {
+    CompletableFuture<Order> future = new CompletableFuture<>();
+    lookUp(new OrderStatusRequest(symbol, clientOrderId), 1, future);
+    return future;
+  }
+
+  /**
+   * Look up the order of a placement which ended with an {@link UnknownExecutionStatusException}.
+   *
+   * @see #reconcile(String, String)
+   */
+  public CompletableFuture<Order> reconcile(NewOrder order) {
+    if (order.getNewClientOrderId() == null) {
+      throw new IllegalArgumentException("Orders without a client order id cannot be looked up");
+    }
+    return reconcile(order.getSymbol(), order.getNewClientOrderId());
+  }
+
+  private void lookUp(OrderStatusRequest request, int attempt, CompletableFuture<Order> future) {
+    client.getOrderStatus(request, new BinanceApiCallback<Order>() {
+      @Override
+      public void onResponse(Order order) {
+        future.complete(order);
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        boolean unknownOrder = isUnknownOrder(cause);
+        if (!unknownOrder && !isTransient(cause)) {
+          future.completeExceptionally(cause);
+        } else if (attempt < maxAttempts) {
+          retry(request, attempt + 1, future, cause);
+        } else {
+          future.completeExceptionally(unknownStatus(cause));
+        }
+      }
+    });
+  }
+
+  private void retry(OrderStatusRequest request, int attempt, CompletableFuture<Order> future, Throwable cause) {
+    waiting.add(future);
+    try {
+      scheduler.schedule(() -> {
+        waiting.remove(future);
+        lookUp(request, attempt, future);
+      }, retryDelayMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      // closed while the lookup was in flight
+      waiting.remove(future);
+      future.completeExceptionally(unknownStatus(cause));
+    }
+  }
+
+  private static UnknownExecutionStatusException unknownStatus(Throwable cause) {
+    UnknownExecutionStatusException unknownStatus = new UnknownExecutionStatusException(null, -1, Collections.emptyMap());
+    unknownStatus.initCause(cause);
+    return unknownStatus;
+  }
+
+  private static boolean isUnknownOrder(Throwable cause) {
+    return cause instanceof BinanceApiException && ((BinanceApiException) cause).getError() != null
+        && ((BinanceApiException) cause).getError().getCode() == NO_SUCH_ORDER;
+  }
+
+  /**
+   * @return true if the lookup may succeed when retried: the exchange timed out, failed or could not be reached
+   */
+  private static boolean isTransient(Throwable cause) {
+    if (!(cause instanceof BinanceApiException)) {
+      return true;
+    }
+    int statusCode = ((BinanceApiException) cause).getStatusCode();
+    return statusCode < 0 || statusCode >= 500 || statusCode == 429;
+  }
+
+  /**
+   * Stop retrying lookups. Reconciliations still under way are failed with an
+   * {@link UnknownExecutionStatusException}.
+   */
+  @Override
+  public void close() {
+    scheduler.shutdownNow();
+    for (CompletableFuture<Order> future : waiting) {
+      waiting.remove(future);
+      future.completeExceptionally(unknownStatus(new BinanceApiException("Order reconciler closed")));
+    }
+  }
+}
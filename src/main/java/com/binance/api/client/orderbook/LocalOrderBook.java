@@ -0,0 +1,449 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.BinanceApiStreamCallback;
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.general.SymbolInfo;
+import com.binance.api.client.domain.market.FixedDecimal;
+import com.binance.api.client.domain.market.OrderBook;
+import com.binance.api.client.domain.market.OrderBookEntry;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A local copy of the order book of a symbol, maintained from a diff. depth stream and REST snapshots.
+ * <p>
+ * Register the book as the callback of {@link com.binance.api.client.BinanceApiWebSocketClient#onDepthEvent}. The first
+ * depth event triggers a snapshot fetch on the snapshot executor; events are buffered meanwhile and replayed on top of
+ * the snapshot. Afterwards, every event must continue the previous one (its first update id is the previous final update
+ * id + 1). On a gap, or a stream failure, the book goes back to {@link OrderBookState#SYNCING} and resynchronizes from a
+ * new snapshot on its own. So it does when a price or quantity has more decimals than the scales of the book, e.g. after
+ * the filters of the symbol changed, the error being kept as {@link #getLastUpdateError()}.
+ * <p>
+ * Updates are expected from a single thread at a time (the web socket thread). Reads may come from any thread and never
+ * block the writer: best bid/ask and {@link #snapshot(int)} use optimistic reads that are retried if an update
+ * interleaves.
+ */
+public class LocalOrderBook implements BinanceApiStreamCallback<DepthEvent> {
+
+  private static final int DEFAULT_MAX_BUFFERED_EVENTS = 10_000;
+
+  private static final long DEFAULT_SNAPSHOT_RETRY_DELAY_MILLIS = 1000L;
+
+  /**
+   * Optimistic read attempts before falling back to a read lock.
+   */
+  private static final int MAX_OPTIMISTIC_READS = 64;
+
+  private final String symbol;
+
+  private final int priceScale;
+
+  private final int quantityScale;
+
+  private final OrderBookSnapshotSource snapshotSource;
+
+  private final Executor snapshotExecutor;
+
+  private final int maxBufferedEvents;
+
+  private final long snapshotRetryDelayNanos;
+
+  private final StampedLock lock = new StampedLock();
+
+  private final PriceLadder bids = new PriceLadder(true);
+
+  private final PriceLadder asks = new PriceLadder(false);
+
+  /**
+   * Events received while syncing, guarded by the write lock.
+   */
+  private final ArrayDeque<DepthEvent> bufferedEvents = new ArrayDeque<>();
+
+  private long lastUpdateId;
+
+  private boolean awaitingFirstEvent;
+
+  private boolean snapshotInFlight;
+
+  private long lastSnapshotRequestNanos;
+
+  private boolean snapshotRequested;
+
+  private volatile OrderBookState state = OrderBookState.SYNCING;
+
+  private volatile long resyncCount;
+
+  private volatile Throwable lastSnapshotError;
+
+  private volatile ArithmeticException lastUpdateError;
+
+  /**
+   * @param symbol ticker symbol (e.g. ETHBTC)
+   * @param priceScale number of decimals of a price on this symbol
+   * @param quantityScale number of decimals of a quantity on this symbol
+   * @param snapshotSource source of REST snapshots
+   * @param snapshotExecutor executor on which snapshots are fetched
+   */
+  public LocalOrderBook(String symbol, int priceScale, int quantityScale, OrderBookSnapshotSource snapshotSource,
+                        Executor snapshotExecutor) {
+    this(symbol, priceScale, quantityScale, snapshotSource, snapshotExecutor, DEFAULT_MAX_BUFFERED_EVENTS,
+        DEFAULT_SNAPSHOT_RETRY_DELAY_MILLIS);
+  }
+
+  /**
+   * @param symbolInfo symbol, from which the price and quantity scales are taken
+   * @param snapshotSource source of REST snapshots
+   * @param snapshotExecutor executor on which snapshots are fetched
+   */
+  public LocalOrderBook(SymbolInfo symbolInfo, OrderBookSnapshotSource snapshotSource, Executor snapshotExecutor) {
+    this(symbolInfo.getSymbol(), symbolInfo.getPriceScale(), symbolInfo.getQuantityScale(), snapshotSource, snapshotExecutor);
+  }
+
+  /**
+   * @param symbol ticker symbol (e.g. ETHBTC)
+   * @param priceScale number of decimals of a price on this symbol
+   * @param quantityScale number of decimals of a quantity on this symbol
+   * @param snapshotSource source of REST snapshots
+   * @param snapshotExecutor executor on which snapshots are fetched
+   * @param maxBufferedEvents maximum number of events buffered while syncing, the oldest being dropped first
+   * @param snapshotRetryDelayMillis minimum delay between two snapshot requests
+   */
+  public LocalOrderBook(String symbol, int priceScale, int quantityScale, OrderBookSnapshotSource snapshotSource,
+                        Executor snapshotExecutor, int maxBufferedEvents, long snapshotRetryDelayMillis) {
+    this.symbol = symbol.toUpperCase();
+    this.priceScale = priceScale;
+    this.quantityScale = quantityScale;
+    this.snapshotSource = snapshotSource;
+    this.snapshotExecutor = snapshotExecutor;
+    this.maxBufferedEvents = maxBufferedEvents;
+    this.snapshotRetryDelayNanos = TimeUnit.MILLISECONDS.toNanos(snapshotRetryDelayMillis);
+  }
+
+  /**
+   * Apply a depth event, buffering it if the book is syncing.
+   */
+  @Override
+  public void onResponse(DepthEvent depthEvent) {
+    boolean requestSnapshot;
+    long stamp = lock.writeLock();
+    try {
+      boolean applicable = true;
+      if (state == OrderBookState.SYNCED) {
+        try {
+          if (!applyEvent(depthEvent)) {
+            invalidate();
+          }
+        } catch (ArithmeticException e) {
+          discard(e);
+          applicable = false;
+        }
+      }
+      if (state == OrderBookState.SYNCING && applicable) {
+        bufferEvent(depthEvent);
+      }
+      requestSnapshot = shouldRequestSnapshot();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+    if (requestSnapshot) {
+      snapshotExecutor.execute(this::fetchSnapshot);
+    }
+  }
+
+  /**
+   * The depth stream failed, so events may have been missed: the book resynchronizes once events flow again.
+   */
+  @Override
+  public void onFailure(Throwable cause) {
+    resync();
+  }
+
+  /**
+   * Events were missed while the depth stream reconnected: the book resynchronizes once events flow again.
+   */
+  @Override
+  public void onGap(String stream) {
+    resync();
+  }
+
+  /**
+   * Discard the book content and resynchronize from a new snapshot on the next depth event, e.g. after a reconnection.
+   */
+  public void resync() {
+    long stamp = lock.writeLock();
+    try {
+      invalidate();
+      bufferedEvents.clear();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private void invalidate() {
+    if (state == OrderBookState.SYNCED) {
+      resyncCount++;
+    }
+    state = OrderBookState.SYNCING;
+    bids.clear();
+    asks.clear();
+  }
+
+  /**
+   * Give up a book left half-updated by levels off its scales, along with the buffered events, which may be off as well.
+   */
+  private void discard(ArithmeticException error) {
+    lastUpdateError = error;
+    invalidate();
+    bufferedEvents.clear();
+  }
+
+  private void bufferEvent(DepthEvent depthEvent) {
+    if (bufferedEvents.size() >= maxBufferedEvents) {
+      bufferedEvents.pollFirst();
+    }
+    bufferedEvents.addLast(depthEvent);
+  }
+
+  private boolean shouldRequestSnapshot() {
+    if (state != OrderBookState.SYNCING || snapshotInFlight) {
+      return false;
+    }
+    final long now = System.nanoTime();
+    if (snapshotRequested && now - lastSnapshotRequestNanos < snapshotRetryDelayNanos) {
+      return false;
+    }
+    snapshotInFlight = true;
+    snapshotRequested = true;
+    lastSnapshotRequestNanos = now;
+    return true;
+  }
+
+  /**
+   * @return false if the event does not continue the book, i.e. events were missed.
+   */
+  private boolean applyEvent(DepthEvent depthEvent) {
+    final long firstUpdateId = depthEvent.getFirstUpdateId();
+    final long finalUpdateId = depthEvent.getFinalUpdateId();
+    if (finalUpdateId <= lastUpdateId) {
+      // Already part of the snapshot
+      return true;
+    }
+    if (awaitingFirstEvent ? firstUpdateId > lastUpdateId + 1 : firstUpdateId != lastUpdateId + 1) {
+      return false;
+    }
+    awaitingFirstEvent = false;
+    applyLevels(bids, depthEvent.getBids());
+    applyLevels(asks, depthEvent.getAsks());
+    lastUpdateId = finalUpdateId;
+    return true;
+  }
+
+  private void applyLevels(PriceLadder ladder, List<OrderBookEntry> levels) {
+    if (levels == null) {
+      return;
+    }
+    for (int i = 0, size = levels.size(); i < size; i++) {
+      OrderBookEntry level = levels.get(i);
+      ladder.set(level.getPriceValue().getMantissa(priceScale), level.getQtyValue().getMantissa(quantityScale));
+    }
+  }
+
+  private void fetchSnapshot() {
+    OrderBook snapshot = null;
+    Throwable error = null;
+    try {
+      snapshot = snapshotSource.getOrderBook(symbol);
+    } catch (RuntimeException e) {
+      error = e;
+    }
+    long stamp = lock.writeLock();
+    try {
+      snapshotInFlight = false;
+      lastSnapshotError = error;
+      if (snapshot != null && state == OrderBookState.SYNCING) {
+        try {
+          applySnapshot(snapshot);
+        } catch (ArithmeticException e) {
+          discard(e);
+        }
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private void applySnapshot(OrderBook snapshot) {
+    final long snapshotUpdateId = snapshot.getLastUpdateId();
+    DepthEvent firstBufferedEvent = bufferedEvents.peekFirst();
+    if (firstBufferedEvent != null && firstBufferedEvent.getFirstUpdateId() > snapshotUpdateId + 1) {
+      // Older than the buffered events; another snapshot is requested on the next event
+      return;
+    }
+    bids.clear();
+    asks.clear();
+    applyLevels(bids, snapshot.getBids());
+    applyLevels(asks, snapshot.getAsks());
+    lastUpdateId = snapshotUpdateId;
+    awaitingFirstEvent = true;
+
+    DepthEvent bufferedEvent;
+    while ((bufferedEvent = bufferedEvents.pollFirst()) != null) {
+      if (!applyEvent(bufferedEvent)) {
+        // Events were dropped from the buffer: keep this one and start over
+        bufferedEvents.addFirst(bufferedEvent);
+        bids.clear();
+        asks.clear();
+        return;
+      }
+    }
+    state = OrderBookState.SYNCED;
+  }
+
+  public String getSymbol() {
+    return symbol;
+  }
+
+  public OrderBookState getState() {
+    return state;
+  }
+
+  /**
+   * @return number of times the book lost synchronization after being synced.
+   */
+  public long getResyncCount() {
+    return resyncCount;
+  }
+
+  /**
+   * @return the error of the last snapshot fetch, or null if it succeeded.
+   */
+  public Throwable getLastSnapshotError() {
+    return lastSnapshotError;
+  }
+
+  /**
+   * @return the error of the last event or snapshot whose levels did not fit the scales of the book, or null if none.
+   */
+  public ArithmeticException getLastUpdateError() {
+    return lastUpdateError;
+  }
+
+  public long getLastUpdateId() {
+    long stamp = lock.tryOptimisticRead();
+    long updateId = lastUpdateId;
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        updateId = lastUpdateId;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+    return updateId;
+  }
+
+  /**
+   * @return the best bid, or null if there are no bids.
+   */
+  public OrderBookEntry getBestBid() {
+    return getBest(bids);
+  }
+
+  /**
+   * @return the best ask, or null if there are no asks.
+   */
+  public OrderBookEntry getBestAsk() {
+    return getBest(asks);
+  }
+
+  private OrderBookEntry getBest(PriceLadder ladder) {
+    long price;
+    long quantity;
+    int attempt = 0;
+    while (true) {
+      final long stamp = lock.tryOptimisticRead();
+      price = ladder.getBestPrice();
+      quantity = ladder.getBestQuantity();
+      if (lock.validate(stamp)) {
+        break;
+      }
+      if (++attempt == MAX_OPTIMISTIC_READS) {
+        final long readStamp = lock.readLock();
+        try {
+          price = ladder.getBestPrice();
+          quantity = ladder.getBestQuantity();
+        } finally {
+          lock.unlockRead(readStamp);
+        }
+        break;
+      }
+    }
+    if (price == Long.MIN_VALUE) {
+      return null;
+    }
+    OrderBookEntry entry = new OrderBookEntry();
+    entry.setPriceValue(FixedDecimal.of(price, priceScale));
+    entry.setQtyValue(FixedDecimal.of(quantity, quantityScale));
+    return entry;
+  }
+
+  /**
+   * Copy the top levels of the book. The writer is never blocked by the copy, unless it keeps interleaving with it.
+   *
+   * @param depth maximum number of levels per side
+   */
+  public OrderBookSnapshot snapshot(int depth) {
+    final long[] bidPrices = new long[depth];
+    final long[] bidQuantities = new long[depth];
+    final long[] askPrices = new long[depth];
+    final long[] askQuantities = new long[depth];
+    int bidCount;
+    int askCount;
+    long updateId;
+    OrderBookState snapshotState;
+    int attempt = 0;
+    while (true) {
+      final long stamp = lock.tryOptimisticRead();
+      snapshotState = state;
+      updateId = lastUpdateId;
+      bidCount = bids.copyTo(bidPrices, bidQuantities, depth);
+      askCount = asks.copyTo(askPrices, askQuantities, depth);
+      if (lock.validate(stamp)) {
+        break;
+      }
+      if (++attempt == MAX_OPTIMISTIC_READS) {
+        final long readStamp = lock.readLock();
+        try {
+          snapshotState = state;
+          updateId = lastUpdateId;
+          bidCount = bids.copyTo(bidPrices, bidQuantities, depth);
+          askCount = asks.copyTo(askPrices, askQuantities, depth);
+        } finally {
+          lock.unlockRead(readStamp);
+        }
+        break;
+      }
+    }
+    return new OrderBookSnapshot(symbol, updateId, snapshotState, priceScale, quantityScale,
+        Arrays.copyOf(bidPrices, bidCount), Arrays.copyOf(bidQuantities, bidCount),
+        Arrays.copyOf(askPrices, askCount), Arrays.copyOf(askQuantities, askCount));
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+        .append("symbol", symbol)
+        .append("state", state)
+        .append("lastUpdateId", getLastUpdateId())
+        .append("bestBid", getBestBid())
+        .append("bestAsk", getBestAsk())
+        .toString();
+  }
+}
@@ -0,0 +1,240 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiRestClient;
+import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.general.SymbolInfo;
+import com.binance.api.client.ratelimit.DepthWeights;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the {@link LocalOrderBook}s of many symbols over a small number of depth stream connections.
+ * <p>
+ * Symbols are grouped into connections of at most <code>maxSymbolsPerConnection</code> streams. Depth events are handed
+ * off the web socket thread to a fixed set of single-threaded workers, a symbol always being served by the same worker,
+ * so that updates of one symbol are applied in order while different symbols are processed in parallel.
+ * <p>
+ * REST snapshots are fetched one at a time, spaced so that their request weight stays under a per-minute budget.
+ * A failed connection resynchronizes its books and is reopened after a delay.
+ */
+public class OrderBookManager implements Closeable {
+
+  /**
+   * Default depth of REST snapshots.
+   */
+  public static final int DEFAULT_SNAPSHOT_LIMIT = 1000;
+
+  /**
+   * Default request weight per minute allotted to snapshots, a quarter of the exchange's request weight limit of 6000
+   * per minute.
+   */
+  public static final int DEFAULT_SNAPSHOT_WEIGHT_PER_MINUTE = 6000 / 4;
+
+  /**
+   * Default number of symbols per web socket connection.
+   */
+  public static final int DEFAULT_MAX_SYMBOLS_PER_CONNECTION = 200;
+
+  private static final long RECONNECT_DELAY_MILLIS = 1000L;
+
+  private final BinanceApiWebSocketClient webSocketClient;
+
+  private final Map<String, LocalOrderBook> orderBooks;
+
+  private final Map<String, ExecutorService> workerBySymbol;
+
+  private final List<ExecutorService> workers;
+
+  private final List<Connection> connections;
+
+  private final ThrottledExecutor snapshotExecutor;
+
+  private final ScheduledExecutorService reconnectScheduler;
+
+  private volatile boolean closed;
+
+  /**
+   * Creates a manager with one worker per available processor, taking snapshots of {@link #DEFAULT_SNAPSHOT_LIMIT} levels.
+   *
+   * @param webSocketClient client used to open the depth streams
+   * @param restClient client used to fetch snapshots
+   * @param symbols symbols to maintain books for
+   */
+  public OrderBookManager(BinanceApiWebSocketClient webSocketClient, BinanceApiRestClient restClient, Collection<SymbolInfo> symbols) {
+    this(webSocketClient, OrderBookSnapshotSource.fromRestClient(restClient, DEFAULT_SNAPSHOT_LIMIT),
+        DepthWeights.getSnapshotWeight(DEFAULT_SNAPSHOT_LIMIT), DEFAULT_SNAPSHOT_WEIGHT_PER_MINUTE, symbols,
+        Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_SYMBOLS_PER_CONNECTION);
+  }
+
+  /**
+   * @param webSocketClient client used to open the depth streams
+   * @param snapshotSource source of REST snapshots
+   * @param snapshotWeight request weight of one snapshot (see {@link DepthWeights#getSnapshotWeight(int)})
+   * @param snapshotWeightPerMinute request weight per minute allotted to snapshots
+   * @param symbols symbols to maintain books for
+   * @param workerCount number of threads applying depth events
+   * @param maxSymbolsPerConnection maximum number of depth streams per web socket connection
+   */
+  public OrderBookManager(BinanceApiWebSocketClient webSocketClient, OrderBookSnapshotSource snapshotSource,
+                          int snapshotWeight, int snapshotWeightPerMinute, Collection<SymbolInfo> symbols,
+                          int workerCount, int maxSymbolsPerConnection) {
+    this.webSocketClient = webSocketClient;
+    this.snapshotExecutor = new ThrottledExecutor(snapshotWeight, snapshotWeightPerMinute, daemonThreadFactory("binance-orderbook-snapshot"));
+    this.reconnectScheduler = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("binance-orderbook-reconnect"));
+
+    List<ExecutorService> workers = new ArrayList<>(workerCount);
+    ThreadFactory workerThreadFactory = daemonThreadFactory("binance-orderbook-worker");
+    for (int i = 0; i < workerCount; i++) {
+      workers.add(Executors.newSingleThreadExecutor(workerThreadFactory));
+    }
+    this.workers = Collections.unmodifiableList(workers);
+
+    Map<String, LocalOrderBook> orderBooks = new LinkedHashMap<>();
+    Map<String, ExecutorService> workerBySymbol = new LinkedHashMap<>();
+    for (SymbolInfo symbolInfo : symbols) {
+      LocalOrderBook orderBook = new LocalOrderBook(symbolInfo, snapshotSource, snapshotExecutor);
+      orderBooks.put(orderBook.getSymbol(), orderBook);
+      workerBySymbol.put(orderBook.getSymbol(), workers.get(workerBySymbol.size() % workerCount));
+    }
+    this.orderBooks = Collections.unmodifiableMap(orderBooks);
+    this.workerBySymbol = workerBySymbol;
+
+    List<Connection> connections = new ArrayList<>();
+    List<LocalOrderBook> books = new ArrayList<>(orderBooks.values());
+    for (int from = 0; from < books.size(); from += maxSymbolsPerConnection) {
+      connections.add(new Connection(books.subList(from, Math.min(from + maxSymbolsPerConnection, books.size()))));
+    }
+    this.connections = Collections.unmodifiableList(connections);
+  }
+
+  /**
+   * Open the depth stream connections. Books synchronize as their first events arrive.
+   */
+  public void start() {
+    for (Connection connection : connections) {
+      connect(connection);
+    }
+  }
+
+  private void connect(Connection connection) {
+    if (!closed) {
+      connection.webSocket = webSocketClient.onDepthEvent(connection.streamSymbols, connection);
+    }
+  }
+
+  private void dispatch(DepthEvent depthEvent) {
+    final LocalOrderBook orderBook = orderBooks.get(depthEvent.getSymbol());
+    if (orderBook != null && !closed) {
+      workerBySymbol.get(orderBook.getSymbol()).execute(() -> orderBook.onResponse(depthEvent));
+    }
+  }
+
+  /**
+   * @return the book of a symbol, or null if it is not managed.
+   */
+  public LocalOrderBook getOrderBook(String symbol) {
+    return orderBooks.get(symbol.toUpperCase());
+  }
+
+  /**
+   * @return all managed books, by symbol.
+   */
+  public Map<String, LocalOrderBook> getOrderBooks() {
+    return orderBooks;
+  }
+
+  /**
+   * @return the synchronization state of every book, by symbol.
+   */
+  public Map<String, OrderBookState> getStates() {
+    return orderBooks.values().stream()
+        .collect(Collectors.toMap(LocalOrderBook::getSymbol, LocalOrderBook::getState, (a, b) -> a, LinkedHashMap::new));
+  }
+
+  /**
+   * @return symbols whose book is currently resynchronizing.
+   */
+  public List<String> getSyncingSymbols() {
+    return orderBooks.values().stream()
+        .filter(orderBook -> orderBook.getState() == OrderBookState.SYNCING)
+        .map(LocalOrderBook::getSymbol)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Close all connections and stop the worker threads.
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    reconnectScheduler.shutdownNow();
+    for (Connection connection : connections) {
+      Closeable webSocket = connection.webSocket;
+      if (webSocket != null) {
+        webSocket.close();
+      }
+    }
+    snapshotExecutor.shutdown();
+    workers.forEach(ExecutorService::shutdown);
+  }
+
+  private static ThreadFactory daemonThreadFactory(String name) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * A web socket connection carrying the depth streams of a group of symbols.
+   */
+  private class Connection implements BinanceApiCallback<DepthEvent> {
+
+    private final List<LocalOrderBook> orderBooks;
+
+    private final String streamSymbols;
+
+    private volatile Closeable webSocket;
+
+    private Connection(List<LocalOrderBook> orderBooks) {
+      this.orderBooks = orderBooks;
+      this.streamSymbols = orderBooks.stream()
+          .map(orderBook -> orderBook.getSymbol().toLowerCase())
+          .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public void onResponse(DepthEvent depthEvent) {
+      dispatch(depthEvent);
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+      if (closed) {
+        return;
+      }
+      for (LocalOrderBook orderBook : orderBooks) {
+        workerBySymbol.get(orderBook.getSymbol()).execute(orderBook::resync);
+      }
+      reconnectScheduler.schedule(() -> connect(this), RECONNECT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+  }
+}
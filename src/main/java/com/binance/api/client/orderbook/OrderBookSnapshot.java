@@ -0,0 +1,133 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.binance.api.client.domain.market.FixedDecimal;
+import com.binance.api.client.domain.market.OrderBook;
+import com.binance.api.client.domain.market.OrderBookEntry;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable copy of the top levels of a {@link LocalOrderBook}, best levels first.
+ */
+public class OrderBookSnapshot {
+
+  private final String symbol;
+
+  private final long lastUpdateId;
+
+  private final OrderBookState state;
+
+  private final int priceScale;
+
+  private final int quantityScale;
+
+  private final long[] bidPrices;
+
+  private final long[] bidQuantities;
+
+  private final long[] askPrices;
+
+  private final long[] askQuantities;
+
+  OrderBookSnapshot(String symbol, long lastUpdateId, OrderBookState state, int priceScale, int quantityScale,
+                    long[] bidPrices, long[] bidQuantities, long[] askPrices, long[] askQuantities) {
+    this.symbol = symbol;
+    this.lastUpdateId = lastUpdateId;
+    this.state = state;
+    this.priceScale = priceScale;
+    this.quantityScale = quantityScale;
+    this.bidPrices = bidPrices;
+    this.bidQuantities = bidQuantities;
+    this.askPrices = askPrices;
+    this.askQuantities = askQuantities;
+  }
+
+  public String getSymbol() {
+    return symbol;
+  }
+
+  public long getLastUpdateId() {
+    return lastUpdateId;
+  }
+
+  /**
+   * @return the state of the book when the copy was taken; the levels are only meaningful if {@link OrderBookState#SYNCED}.
+   */
+  public OrderBookState getState() {
+    return state;
+  }
+
+  public int getBidCount() {
+    return bidPrices.length;
+  }
+
+  public int getAskCount() {
+    return askPrices.length;
+  }
+
+  /**
+   * @param level zero-based level, 0 being the best bid
+   */
+  public FixedDecimal getBidPrice(int level) {
+    return FixedDecimal.of(bidPrices[level], priceScale);
+  }
+
+  public FixedDecimal getBidQuantity(int level) {
+    return FixedDecimal.of(bidQuantities[level], quantityScale);
+  }
+
+  /**
+   * @param level zero-based level, 0 being the best ask
+   */
+  public FixedDecimal getAskPrice(int level) {
+    return FixedDecimal.of(askPrices[level], priceScale);
+  }
+
+  public FixedDecimal getAskQuantity(int level) {
+    return FixedDecimal.of(askQuantities[level], quantityScale);
+  }
+
+  public List<OrderBookEntry> getBids() {
+    return toEntries(bidPrices, bidQuantities);
+  }
+
+  public List<OrderBookEntry> getAsks() {
+    return toEntries(askPrices, askQuantities);
+  }
+
+  /**
+   * @return this snapshot in the format of the REST order book.
+   */
+  public OrderBook toOrderBook() {
+    OrderBook orderBook = new OrderBook();
+    orderBook.setLastUpdateId(lastUpdateId);
+    orderBook.setBids(getBids());
+    orderBook.setAsks(getAsks());
+    return orderBook;
+  }
+
+  private List<OrderBookEntry> toEntries(long[] prices, long[] quantities) {
+    List<OrderBookEntry> entries = new ArrayList<>(prices.length);
+    for (int i = 0; i < prices.length; i++) {
+      OrderBookEntry entry = new OrderBookEntry();
+      entry.setPriceValue(FixedDecimal.of(prices[i], priceScale));
+      entry.setQtyValue(FixedDecimal.of(quantities[i], quantityScale));
+      entries.add(entry);
+    }
+    return entries;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this, BinanceApiConstants.TO_STRING_BUILDER_STYLE)
+        .append("symbol", symbol)
+        .append("lastUpdateId", lastUpdateId)
+        .append("state", state)
+        .append("bids", getBids())
+        .append("asks", getAsks())
+        .toString();
+  }
+}
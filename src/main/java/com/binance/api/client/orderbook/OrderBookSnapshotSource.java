@@ -0,0 +1,28 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.BinanceApiRestClient;
+import com.binance.api.client.domain.market.OrderBook;
+
+/**
+ * Fetches a REST snapshot of the order book of a symbol, used to (re)synchronize a {@link LocalOrderBook}.
+ */
+@FunctionalInterface
+public interface OrderBookSnapshotSource {
+
+  /**
+   * Fetch a snapshot. May block; it is never called while the book is locked.
+   *
+   * @param symbol ticker symbol (e.g. ETHBTC)
+   * @return the order book snapshot
+   */
+  OrderBook getOrderBook(String symbol);
+
+  /**
+   * @param restClient REST client used to fetch the snapshots
+   * @param limit depth of the snapshots
+   * @return a snapshot source backed by {@link BinanceApiRestClient#getOrderBook(String, Integer)}
+   */
+  static OrderBookSnapshotSource fromRestClient(BinanceApiRestClient restClient, int limit) {
+    return symbol -> restClient.getOrderBook(symbol, limit);
+  }
+}
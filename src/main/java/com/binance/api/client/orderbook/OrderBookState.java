@@ -0,0 +1,11 @@
+package com.binance.api.client.orderbook;
+
+/**
+ * Synchronization state of a {@link LocalOrderBook}.
+ */
+public enum OrderBookState {
+  /** Waiting for a REST snapshot, while buffering depth events. The book content must not be relied upon. */
+  SYNCING,
+  /** The book is consistent with the exchange as of its last update id. */
+  SYNCED
+}
@@ -0,0 +1,105 @@
+package com.binance.api.client.orderbook;
+
+import java.util.Arrays;
+
+/**
+ * One side of an order book: price levels sorted in primitive arrays, keyed by price mantissa.
+ * <p>
+ * Levels are stored worst to best, so that the busy top of the book sits at the end of the arrays and updates near it move
+ * few elements. Asks are keyed by their negated price so that both sides are sorted ascending.
+ * <p>
+ * Not thread-safe. The read methods tolerate concurrent modification (they never fail, but may return inconsistent data),
+ * so that {@link LocalOrderBook} can use them under an optimistic read.
+ */
+class PriceLadder {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final boolean bids;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+
+  private long[] quantities = new long[INITIAL_CAPACITY];
+
+  private int size;
+
+  PriceLadder(boolean bids) {
+    this.bids = bids;
+  }
+
+  /**
+   * Set the quantity of a price level, removing the level if the quantity is zero.
+   */
+  void set(long price, long quantity) {
+    final long key = bids ? price : -price;
+    int index = Arrays.binarySearch(keys, 0, size, key);
+    if (index >= 0) {
+      if (quantity == 0L) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(quantities, index + 1, quantities, index, size - index - 1);
+        size--;
+      } else {
+        quantities[index] = quantity;
+      }
+    } else if (quantity != 0L) {
+      index = -index - 1;
+      if (size == keys.length) {
+        // Grow into new arrays, so that concurrent optimistic readers of the old ones are unaffected
+        keys = Arrays.copyOf(keys, size * 2);
+        quantities = Arrays.copyOf(quantities, size * 2);
+      }
+      System.arraycopy(keys, index, keys, index + 1, size - index);
+      System.arraycopy(quantities, index, quantities, index + 1, size - index);
+      keys[index] = key;
+      quantities[index] = quantity;
+      size++;
+    }
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return the best price, or <code>Long.MIN_VALUE</code> if the side is empty.
+   */
+  long getBestPrice() {
+    final long[] keys = this.keys;
+    final int last = Math.min(size, keys.length) - 1;
+    if (last < 0) {
+      return Long.MIN_VALUE;
+    }
+    return bids ? keys[last] : -keys[last];
+  }
+
+  /**
+   * @return the quantity at the best price, or zero if the side is empty.
+   */
+  long getBestQuantity() {
+    final long[] quantities = this.quantities;
+    final int last = Math.min(size, quantities.length) - 1;
+    return last < 0 ? 0L : quantities[last];
+  }
+
+  /**
+   * Copy up to <code>depth</code> levels, best first.
+   *
+   * @return the number of levels copied
+   */
+  int copyTo(long[] prices, long[] quantities, int depth) {
+    final long[] keys = this.keys;
+    final long[] levelQuantities = this.quantities;
+    final int levels = Math.min(size, Math.min(keys.length, levelQuantities.length));
+    final int count = Math.min(depth, levels);
+    for (int i = 0; i < count; i++) {
+      final long key = keys[levels - 1 - i];
+      prices[i] = bids ? key : -key;
+      quantities[i] = levelQuantities[levels - 1 - i];
+    }
+    return count;
+  }
+}
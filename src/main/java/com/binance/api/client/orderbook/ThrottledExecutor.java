@@ -0,0 +1,50 @@
+package com.binance.api.client.orderbook;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs tasks one at a time on a dedicated thread, spacing their starts by a minimum interval.
+ * <p>
+ * Used to keep REST snapshot fetches under a request weight budget: with a budget of <code>weightPerMinute</code> and a
+ * weight of <code>taskWeight</code> per task, tasks start at most every <code>60s * taskWeight / weightPerMinute</code>.
+ */
+class ThrottledExecutor implements Executor {
+
+  private final ExecutorService executor;
+
+  private final long intervalNanos;
+
+  /**
+   * Earliest start of the next task, only accessed from the executor thread.
+   */
+  private long nextStartNanos = System.nanoTime();
+
+  ThrottledExecutor(int taskWeight, int weightPerMinute, ThreadFactory threadFactory) {
+    this.executor = Executors.newSingleThreadExecutor(threadFactory);
+    this.intervalNanos = TimeUnit.MINUTES.toNanos(1) * taskWeight / weightPerMinute;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    executor.execute(() -> {
+      long now;
+      while ((now = System.nanoTime()) - nextStartNanos < 0) {
+        if (Thread.currentThread().isInterrupted()) {
+          return;
+        }
+        LockSupport.parkNanos(nextStartNanos - now);
+      }
+      nextStartNanos = now + intervalNanos;
+      task.run();
+    });
+  }
+
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
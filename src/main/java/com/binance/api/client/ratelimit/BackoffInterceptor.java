@@ -0,0 +1,140 @@
+package com.binance.api.client.ratelimit;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A request interceptor that backs off when the exchange rejects requests for exceeding rate limits (HTTP 429) or bans
+ * the IP address for having kept exceeding them (HTTP 418).
+ * <p>
+ * The HTTP client of the interceptor, i.e. its lane, is paused for the time advertised by the <code>Retry-After</code>
+ * header. While paused, GET requests wait for the pause to end, if it ends in time, and are retried when rejected.
+ * Other requests, which may place or cancel orders, are never retried, nor sent while paused: they are answered
+ * locally with HTTP 429 instead, so that they do not extend a ban.
+ */
+public class BackoffInterceptor implements Interceptor {
+
+  /**
+   * Default number of retries of a rejected GET request.
+   */
+  public static final int DEFAULT_MAX_RETRIES = 2;
+
+  /**
+   * Default longest time a GET request waits for a pause to end.
+   */
+  public static final long DEFAULT_MAX_WAIT_MILLIS = 10_000L;
+
+  /**
+   * Pause when a 429 response does not advertise one.
+   */
+  private static final long DEFAULT_RATE_LIMITED_PAUSE_MILLIS = 1_000L;
+
+  /**
+   * Pause when a 418 response does not advertise one, bans lasting at least two minutes.
+   */
+  private static final long DEFAULT_BANNED_PAUSE_MILLIS = 120_000L;
+
+  private static final MediaType JSON = MediaType.parse("application/json");
+
+  private final int maxRetries;
+
+  private final long maxWaitMillis;
+
+  private final AtomicLong pausedUntilMillis = new AtomicLong();
+
+  public BackoffInterceptor() {
+    this(DEFAULT_MAX_RETRIES, DEFAULT_MAX_WAIT_MILLIS);
+  }
+
+  /**
+   * @param maxRetries the number of retries of a rejected GET request
+   * @param maxWaitMillis the longest time a GET request waits for a pause to end
+   */
+  public BackoffInterceptor(int maxRetries, long maxWaitMillis) {
+    this.maxRetries = maxRetries;
+    this.maxWaitMillis = maxWaitMillis;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    final Request request = chain.request();
+    final boolean retryable = "GET".equals(request.method());
+    for (int attempt = 0; ; attempt++) {
+      long pause = pausedUntilMillis.get() - System.currentTimeMillis();
+      if (pause > 0) {
+        if (!retryable || pause > maxWaitMillis) {
+          return pausedResponse(request, pause);
+        }
+        sleep(pause);
+      }
+
+      Response response = chain.proceed(request);
+      if (response.code() != 429 && response.code() != 418) {
+        return response;
+      }
+      long retryAfter = retryAfterMillis(response);
+      pausedUntilMillis.accumulateAndGet(System.currentTimeMillis() + retryAfter, Math::max);
+      if (!retryable || attempt >= maxRetries || retryAfter > maxWaitMillis) {
+        return response;
+      }
+      response.close();
+    }
+  }
+
+  private static long retryAfterMillis(Response response) {
+    String retryAfter = response.header("Retry-After");
+    if (retryAfter != null) {
+      try {
+        return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+      } catch (NumberFormatException e) {
+        // not a number of seconds
+      }
+    }
+    return response.code() == 418 ? DEFAULT_BANNED_PAUSE_MILLIS : DEFAULT_RATE_LIMITED_PAUSE_MILLIS;
+  }
+
+  private static Response pausedResponse(Request request, long pauseMillis) {
+    long retryAfterSeconds = TimeUnit.MILLISECONDS.toSeconds(pauseMillis + 999L);
+    return new Response.Builder()
+        .request(request)
+        .protocol(Protocol.HTTP_1_1)
+        .code(429)
+        .message("Paused by rate limit backoff")
+        .header("Retry-After", Long.toString(retryAfterSeconds))
+        .body(ResponseBody.create(JSON, "{\"code\":-1003,\"msg\":\"Requests paused for " + retryAfterSeconds
+            + "s after the exchange rejected requests for exceeding rate limits.\"}"))
+        .build();
+  }
+
+  private static void sleep(long millis) throws InterruptedIOException {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while backing off");
+    }
+  }
+
+  /**
+   * @return true if requests are paused after a rate limit or ban response.
+   */
+  public boolean isPaused() {
+    return pausedUntilMillis.get() > System.currentTimeMillis();
+  }
+
+  /**
+   * @return the time at which the pause ends, in milliseconds since the epoch.
+   */
+  public long getPausedUntilMillis() {
+    return pausedUntilMillis.get();
+  }
+}
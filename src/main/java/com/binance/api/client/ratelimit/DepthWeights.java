@@ -0,0 +1,26 @@
+package com.binance.api.client.ratelimit;
+
+/**
+ * Request weights of the order book endpoints, which depend on the requested depth rather than being fixed per
+ * endpoint.
+ */
+public final class DepthWeights {
+
+  private DepthWeights() {
+  }
+
+  /**
+   * @param limit depth of a REST snapshot
+   * @return the request weight of a REST snapshot of this depth
+   */
+  public static int getSnapshotWeight(int limit) {
+    if (limit <= 100) {
+      return 5;
+    } else if (limit <= 500) {
+      return 25;
+    } else if (limit <= 1000) {
+      return 50;
+    }
+    return 250;
+  }
+}
@@ -0,0 +1,120 @@
+package com.binance.api.client.ratelimit;
+
+import com.binance.api.client.config.Weight;
+import com.binance.api.client.impl.BinanceApiService;
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import retrofit2.http.DELETE;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.PUT;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A request interceptor that holds requests back until the {@link RateLimiter} leaves room for them, and aligns the
+ * limiter on the counts reported by the exchange in every response.
+ * <p>
+ * Request weights are read from the {@link Weight} annotations of the service endpoints. Only <code>/api/</code>
+ * endpoints are limited, since the <code>/sapi/</code> and <code>/wapi/</code> ones are accounted separately.
+ * <p>
+ * A request waits on the thread sending it, which for asynchronous calls is a dispatcher thread. A request which
+ * cannot be sent in time fails with an {@link IOException} without reaching the exchange.
+ */
+public class RateLimitInterceptor implements Interceptor {
+
+  /**
+   * Default longest time a request waits for the limits to leave room for it.
+   */
+  public static final long DEFAULT_MAX_WAIT_MILLIS = 10_000L;
+
+  private static final String LIMITED_PATH_PREFIX = "/api/";
+
+  private final RateLimiter rateLimiter;
+
+  private final long maxWaitMillis;
+
+  private final Map<String, Weight> weights = new HashMap<>();
+
+  /**
+   * @param rateLimiter the limiter shared by all clients sending requests from the same IP address and account
+   */
+  public RateLimitInterceptor(RateLimiter rateLimiter) {
+    this(rateLimiter, BinanceApiService.class, DEFAULT_MAX_WAIT_MILLIS);
+  }
+
+  /**
+   * @param rateLimiter the limiter shared by all clients sending requests from the same IP address and account
+   * @param serviceClass the Retrofit service whose {@link Weight} annotations to read
+   * @param maxWaitMillis the longest time a request waits for the limits to leave room for it
+   */
+  public RateLimitInterceptor(RateLimiter rateLimiter, Class<?> serviceClass, long maxWaitMillis) {
+    this.rateLimiter = rateLimiter;
+    this.maxWaitMillis = maxWaitMillis;
+    for (Method method : serviceClass.getMethods()) {
+      String endpoint = endpointOf(method);
+      Weight weight = method.getAnnotation(Weight.class);
+      if (endpoint != null && weight != null) {
+        weights.put(endpoint, weight);
+      }
+    }
+  }
+
+  private static String endpointOf(Method method) {
+    if (method.isAnnotationPresent(GET.class)) {
+      return "GET " + method.getAnnotation(GET.class).value();
+    } else if (method.isAnnotationPresent(POST.class)) {
+      return "POST " + method.getAnnotation(POST.class).value();
+    } else if (method.isAnnotationPresent(PUT.class)) {
+      return "PUT " + method.getAnnotation(PUT.class).value();
+    } else if (method.isAnnotationPresent(DELETE.class)) {
+      return "DELETE " + method.getAnnotation(DELETE.class).value();
+    }
+    return null;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    String path = request.url().encodedPath();
+    if (!path.startsWith(LIMITED_PATH_PREFIX)) {
+      return chain.proceed(request);
+    }
+
+    Weight weight = weights.get(request.method() + " " + path);
+    int requestWeight = weight != null ? weightOf(weight, request) : 1;
+    int orders = weight != null ? weight.orders() : 0;
+    try {
+      if (!rateLimiter.acquire(requestWeight, orders, maxWaitMillis)) {
+        throw new IOException("Rate limit would be exceeded by " + request.method() + " " + path);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the rate limit");
+    }
+
+    Response response = chain.proceed(request);
+    Headers headers = response.headers();
+    for (int i = 0; i < headers.size(); i++) {
+      rateLimiter.reconcile(headers.name(i), headers.value(i));
+    }
+    return response;
+  }
+
+  private static int weightOf(Weight weight, Request request) {
+    if (weight.byDepthLimit()) {
+      String limit = request.url().queryParameter("limit");
+      return DepthWeights.getSnapshotWeight(limit != null ? Integer.parseInt(limit) : 100);
+    }
+    if (weight.withoutSymbol() >= 0 && request.url().queryParameter("symbol") == null) {
+      return weight.withoutSymbol();
+    }
+    return weight.value();
+  }
+}
@@ -0,0 +1,255 @@
+package com.binance.api.client.ratelimit;
+
+import com.binance.api.client.domain.general.ExchangeInfo;
+import com.binance.api.client.domain.general.RateLimit;
+import com.binance.api.client.domain.general.RateLimitInterval;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Client-side enforcement of the exchange's rate limits, as published in {@link ExchangeInfo#getRateLimits()}, so that
+ * requests are held back rather than rejected with HTTP 429 (and the IP address eventually banned with HTTP 418).
+ * <p>
+ * Every limit is a {@link TokenBucket}. A request takes its weight from every request weight bucket, one token from
+ * every raw request bucket, and its number of orders from every order bucket, or nothing at all. The buckets are
+ * aligned on the counts the exchange reports in the <code>X-MBX-USED-WEIGHT-*</code> and
+ * <code>X-MBX-ORDER-COUNT-*</code> response headers.
+ */
+public class RateLimiter {
+
+  /**
+   * Prefix of the response headers reporting the request weight used in a window, e.g. <code>X-MBX-USED-WEIGHT-1M</code>.
+   */
+  public static final String USED_WEIGHT_HEADER_PREFIX = "X-MBX-USED-WEIGHT-";
+
+  /**
+   * Prefix of the response headers reporting the orders placed in a window, e.g. <code>X-MBX-ORDER-COUNT-10S</code>.
+   */
+  public static final String ORDER_COUNT_HEADER_PREFIX = "X-MBX-ORDER-COUNT-";
+
+  private final TokenBucket[] weightBuckets;
+
+  private final TokenBucket[] rawRequestBuckets;
+
+  private final TokenBucket[] orderBuckets;
+
+  private final Map<String, TokenBucket> weightBucketsByHeader = new HashMap<>();
+
+  private final Map<String, TokenBucket> orderBucketsByHeader = new HashMap<>();
+
+  private final LongSupplier clock;
+
+  /**
+   * @param rateLimits the rate limits to enforce
+   */
+  public RateLimiter(List<RateLimit> rateLimits) {
+    this(rateLimits, System::currentTimeMillis);
+  }
+
+  RateLimiter(List<RateLimit> rateLimits, LongSupplier clock) {
+    List<TokenBucket> weightBuckets = new ArrayList<>();
+    List<TokenBucket> rawRequestBuckets = new ArrayList<>();
+    List<TokenBucket> orderBuckets = new ArrayList<>();
+    for (RateLimit rateLimit : rateLimits) {
+      if (rateLimit.getRateLimitType() == null || rateLimit.getInterval() == null || rateLimit.getLimit() == null) {
+        continue;
+      }
+      int intervalNum = rateLimit.getIntervalNum() != null ? rateLimit.getIntervalNum() : 1;
+      TokenBucket bucket = new TokenBucket(intervalNum * toMillis(rateLimit.getInterval()), rateLimit.getLimit());
+      String headerSuffix = intervalNum + rateLimit.getInterval().name().substring(0, 1);
+      switch (rateLimit.getRateLimitType()) {
+        case REQUEST_WEIGHT:
+          weightBuckets.add(bucket);
+          weightBucketsByHeader.put(USED_WEIGHT_HEADER_PREFIX + headerSuffix, bucket);
+          break;
+        case RAW_REQUESTS:
+          rawRequestBuckets.add(bucket);
+          break;
+        case ORDERS:
+          orderBuckets.add(bucket);
+          orderBucketsByHeader.put(ORDER_COUNT_HEADER_PREFIX + headerSuffix, bucket);
+          break;
+        default:
+          break;
+      }
+    }
+    this.weightBuckets = weightBuckets.toArray(new TokenBucket[0]);
+    this.rawRequestBuckets = rawRequestBuckets.toArray(new TokenBucket[0]);
+    this.orderBuckets = orderBuckets.toArray(new TokenBucket[0]);
+    this.clock = clock;
+  }
+
+  /**
+   * @return a limiter enforcing the rate limits of the exchange
+   */
+  public static RateLimiter fromExchangeInfo(ExchangeInfo exchangeInfo) {
+    List<RateLimit> rateLimits = exchangeInfo.getRateLimits();
+    return new RateLimiter(rateLimits != null ? rateLimits : Collections.emptyList());
+  }
+
+  private static long toMillis(RateLimitInterval interval) {
+    switch (interval) {
+      case SECOND:
+        return TimeUnit.SECONDS.toMillis(1);
+      case MINUTE:
+        return TimeUnit.MINUTES.toMillis(1);
+      default:
+        return TimeUnit.DAYS.toMillis(1);
+    }
+  }
+
+  /**
+   * Take the allowance of a request if all limits leave room for it.
+   *
+   * @param weight the request weight
+   * @param orders the number of orders placed by the request
+   * @return true if the request may be sent
+   */
+  public boolean tryAcquire(int weight, int orders) {
+    return tryAcquire(weight, orders, clock.getAsLong()) == null;
+  }
+
+  /**
+   * Take the allowance of a request, waiting for the limits to leave room for it.
+   *
+   * @param weight the request weight
+   * @param orders the number of orders placed by the request
+   * @param maxWaitMillis the longest time to wait
+   * @return true if the request may be sent, false if the limits would not leave room for it in time
+   */
+  public boolean acquire(int weight, int orders, long maxWaitMillis) throws InterruptedException {
+    long now = clock.getAsLong();
+    final long deadline = now + maxWaitMillis;
+    for (;;) {
+      TokenBucket full = tryAcquire(weight, orders, now);
+      if (full == null) {
+        return true;
+      }
+      long wait = full.millisUntilRefill(now);
+      if (now + wait > deadline) {
+        return false;
+      }
+      Thread.sleep(wait);
+      now = clock.getAsLong();
+    }
+  }
+
+  /**
+   * Tell how long a request would wait for the limits to leave room for it, without taking its allowance.
+   *
+   * @param weight the request weight
+   * @param orders the number of orders placed by the request
+   * @return the time until the fullest limit is refilled, or 0 if all limits leave room for the request now
+   */
+  public long millisUntilAvailable(int weight, int orders) {
+    long now = clock.getAsLong();
+    long wait = millisUntilAvailable(weightBuckets, weight, now);
+    wait = Math.max(wait, millisUntilAvailable(rawRequestBuckets, 1, now));
+    if (orders > 0) {
+      wait = Math.max(wait, millisUntilAvailable(orderBuckets, orders, now));
+    }
+    return wait;
+  }
+
+  private static long millisUntilAvailable(TokenBucket[] buckets, int tokens, long now) {
+    long wait = 0L;
+    for (TokenBucket bucket : buckets) {
+      if (bucket.getRemaining(now) < tokens) {
+        wait = Math.max(wait, bucket.millisUntilRefill(now));
+      }
+    }
+    return wait;
+  }
+
+  /**
+   * @return the bucket which refused the request, or null if it was taken from all buckets
+   */
+  private TokenBucket tryAcquire(int weight, int orders, long now) {
+    int weightTaken = 0;
+    int rawTaken = 0;
+    int ordersTaken = 0;
+    TokenBucket full = null;
+    for (; weightTaken < weightBuckets.length && full == null; weightTaken++) {
+      if (!weightBuckets[weightTaken].tryAcquire(weight, now)) {
+        full = weightBuckets[weightTaken];
+      }
+    }
+    for (; rawTaken < rawRequestBuckets.length && full == null; rawTaken++) {
+      if (!rawRequestBuckets[rawTaken].tryAcquire(1, now)) {
+        full = rawRequestBuckets[rawTaken];
+      }
+    }
+    for (; orders > 0 && ordersTaken < orderBuckets.length && full == null; ordersTaken++) {
+      if (!orderBuckets[ordersTaken].tryAcquire(orders, now)) {
+        full = orderBuckets[ordersTaken];
+      }
+    }
+    if (full != null) {
+      // the refusing bucket was counted as taken by its loop
+      release(weightBuckets, weightTaken, weight, full, now);
+      release(rawRequestBuckets, rawTaken, 1, full, now);
+      release(orderBuckets, ordersTaken, orders, full, now);
+    }
+    return full;
+  }
+
+  private static void release(TokenBucket[] buckets, int taken, int tokens, TokenBucket full, long now) {
+    for (int i = 0; i < taken; i++) {
+      if (buckets[i] != full) {
+        buckets[i].release(tokens, now);
+      }
+    }
+  }
+
+  /**
+   * Align the limits on a response header of the exchange, ignoring headers other than the used weight and order
+   * count ones.
+   *
+   * @param name the header name
+   * @param value the header value
+   */
+  public void reconcile(String name, String value) {
+    String upperCaseName = name.toUpperCase(Locale.ROOT);
+    TokenBucket bucket = weightBucketsByHeader.get(upperCaseName);
+    if (bucket == null) {
+      bucket = orderBucketsByHeader.get(upperCaseName);
+    }
+    if (bucket != null) {
+      try {
+        bucket.reconcile(Long.parseLong(value.trim()), clock.getAsLong());
+      } catch (NumberFormatException e) {
+        // not a count, nothing to align on
+      }
+    }
+  }
+
+  /**
+   * @return the request weight left in the most constraining window.
+   */
+  public int getRemainingWeight() {
+    return getRemaining(weightBuckets);
+  }
+
+  /**
+   * @return the orders left in the most constraining window.
+   */
+  public int getRemainingOrders() {
+    return getRemaining(orderBuckets);
+  }
+
+  private int getRemaining(TokenBucket[] buckets) {
+    long now = clock.getAsLong();
+    int remaining = Integer.MAX_VALUE;
+    for (TokenBucket bucket : buckets) {
+      remaining = Math.min(remaining, bucket.getRemaining(now));
+    }
+    return remaining;
+  }
+}
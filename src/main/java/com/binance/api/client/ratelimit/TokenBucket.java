@@ -0,0 +1,120 @@
+package com.binance.api.client.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free bucket of tokens refilled in full at the start of every window, as the exchange counts request weights and
+ * orders over fixed windows aligned on the epoch (UTC).
+ * <p>
+ * The window number and the tokens taken in it are packed in a single long, so that a window roll-over and an
+ * acquisition happen in one compare-and-set.
+ */
+public final class TokenBucket {
+
+  private static final long USED_MASK = 0xFFFFFFFFL;
+
+  private final long windowMillis;
+
+  private final int limit;
+
+  private final AtomicLong state = new AtomicLong();
+
+  /**
+   * @param windowMillis the length of a window
+   * @param limit the number of tokens per window
+   */
+  public TokenBucket(long windowMillis, int limit) {
+    this.windowMillis = windowMillis;
+    this.limit = limit;
+  }
+
+  /**
+   * Take tokens if enough are left in the current window.
+   *
+   * @return true if the tokens were taken
+   */
+  public boolean tryAcquire(int tokens, long nowMillis) {
+    final long window = window(nowMillis);
+    for (;;) {
+      long current = state.get();
+      long used = usedIn(current, window);
+      if (used + tokens > limit) {
+        return false;
+      }
+      if (state.compareAndSet(current, pack(window, used + tokens))) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Give back tokens taken in the current window, e.g. when another bucket refused the same request.
+   */
+  public void release(int tokens, long nowMillis) {
+    final long window = window(nowMillis);
+    for (;;) {
+      long current = state.get();
+      long used = usedIn(current, window);
+      if (used == 0 || state.compareAndSet(current, pack(window, Math.max(0, used - tokens)))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Align the tokens taken in the current window on the count reported by the exchange, which also includes requests
+   * of other clients sharing the same IP address or account. The count is only ever raised, since responses to
+   * requests sent before the latest ones may arrive last.
+   */
+  public void reconcile(long usedByExchange, long nowMillis) {
+    final long window = window(nowMillis);
+    for (;;) {
+      long current = state.get();
+      long used = usedIn(current, window);
+      if (usedByExchange <= used || state.compareAndSet(current, pack(window, Math.min(usedByExchange, USED_MASK)))) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return the number of tokens taken in the current window.
+   */
+  public int getUsed(long nowMillis) {
+    return (int) usedIn(state.get(), window(nowMillis));
+  }
+
+  /**
+   * @return the number of tokens left in the current window.
+   */
+  public int getRemaining(long nowMillis) {
+    return Math.max(0, limit - getUsed(nowMillis));
+  }
+
+  /**
+   * @return the time until the bucket is refilled.
+   */
+  public long millisUntilRefill(long nowMillis) {
+    return windowMillis - nowMillis % windowMillis;
+  }
+
+  public long getWindowMillis() {
+    return windowMillis;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  private long window(long nowMillis) {
+    return (nowMillis / windowMillis) & USED_MASK;
+  }
+
+  private static long usedIn(long packed, long window) {
+    return packed >>> 32 == window ? packed & USED_MASK : 0L;
+  }
+
+  private static long pack(long window, long used) {
+    return window << 32 | used;
+  }
+}
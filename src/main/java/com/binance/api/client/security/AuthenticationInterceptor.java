@@ -14,6 +14,8 @@ import java.util.Objects;
 
 /**
  * A request interceptor that injects the API Key Header into requests, and signs messages, whenever required.
+ * <p>
+ * Signed requests without a <code>timestamp</code> are stamped with the local time right before being signed.
  */
 public class AuthenticationInterceptor implements Interceptor {
 
@@ -21,9 +23,22 @@ public class AuthenticationInterceptor implements Interceptor {
 
     private final String secret;
 
+    private final RequestSigner signer;
+
     public AuthenticationInterceptor(String apiKey, String secret) {
         this.apiKey = apiKey;
         this.secret = secret;
+        this.signer = new HmacSHA256Signer(secret);
+    }
+
+    /**
+     * @param apiKey the API key
+     * @param signer the signer with the key registered for the API key, e.g. a {@link PrivateKeySigner}
+     */
+    public AuthenticationInterceptor(String apiKey, RequestSigner signer) {
+        this.apiKey = apiKey;
+        this.secret = null;
+        this.signer = signer;
     }
 
     @Override
@@ -43,10 +58,17 @@ public class AuthenticationInterceptor implements Interceptor {
 
         // Endpoint requires signing the payload
         if (isSignatureRequired) {
-            String payload = original.url().query();
+            HttpUrl url = original.url();
+            // requests are stamped when sent, unless stamped already, so that request objects can be built ahead of time
+            if (url.queryParameter("timestamp") == null) {
+                url = url.newBuilder().addQueryParameter("timestamp", Long.toString(System.currentTimeMillis())).build();
+                newRequestBuilder.url(url);
+            }
+            // the query is signed as sent
+            String payload = url.encodedQuery();
             if (!StringUtils.isEmpty(payload)) {
-                String signature = HmacSHA256Signer.sign(payload, secret);
-                HttpUrl signedUrl = original.url().newBuilder().addQueryParameter("signature", signature).build();
+                String signature = signer.sign(payload);
+                HttpUrl signedUrl = url.newBuilder().addQueryParameter("signature", signature).build();
                 newRequestBuilder.url(signedUrl);
             }
         }
@@ -82,11 +104,12 @@ public class AuthenticationInterceptor implements Interceptor {
         if (o == null || getClass() != o.getClass()) return false;
         final AuthenticationInterceptor that = (AuthenticationInterceptor) o;
         return Objects.equals(apiKey, that.apiKey) &&
-                Objects.equals(secret, that.secret);
+                Objects.equals(secret, that.secret) &&
+                (secret != null || Objects.equals(signer, that.signer));
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(apiKey, secret);
+        return Objects.hash(apiKey, secret != null ? secret : signer);
     }
 }
\ No newline at end of file
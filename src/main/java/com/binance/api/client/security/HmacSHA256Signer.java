@@ -1,14 +1,49 @@
 package com.binance.api.client.security;
 
-import org.apache.commons.codec.binary.Hex;
-
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Utility class to sign messages using HMAC-SHA256.
+ * <p>
+ * A signer instance keeps the key of its secret, and signing states made of a keyed {@link Mac} and of the buffers
+ * the message, digest and hex signature are written into. A signature takes a state from a pool, so that concurrent
+ * signatures do not share one, and neither the <code>Mac</code> nor the buffers are created again. The pool rather than
+ * a thread local keeps the states reused when every request runs on its own (e.g. virtual) thread.
  */
-public class HmacSHA256Signer {
+public class HmacSHA256Signer implements RequestSigner {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /**
+   * Signer of the latest secret signed with on each thread, for {@link #sign(String, String)}.
+   */
+  private static final ThreadLocal<HmacSHA256Signer> lastSigner = new ThreadLocal<>();
+
+  private final String secret;
+
+  private final Mac prototype;
+
+  private final Queue<SigningState> states = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param secret secret key
+   */
+  public HmacSHA256Signer(String secret) {
+    this.secret = secret;
+    try {
+      this.prototype = Mac.getInstance(ALGORITHM);
+      this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Unable to initialize " + ALGORITHM, e);
+    }
+  }
 
   /**
    * Sign the given message using the given secret.
@@ -17,13 +52,100 @@ public class HmacSHA256Signer {
    * @return a signed message
    */
   public static String sign(String message, String secret) {
+    HmacSHA256Signer signer = lastSigner.get();
+    if (signer == null || !signer.secret.equals(secret)) {
+      signer = new HmacSHA256Signer(secret);
+      lastSigner.set(signer);
+    }
+    return signer.sign(message);
+  }
+
+  /**
+   * Sign the given message using the secret of this signer.
+   * @param message message to sign
+   * @return the signature, as lower case hex
+   */
+  @Override
+  public String sign(String message) {
+    SigningState state = states.poll();
+    if (state == null) {
+      state = new SigningState(newMac());
+    }
+    try {
+      return state.sign(message);
+    } finally {
+      states.offer(state);
+    }
+  }
+
+  private Mac newMac() {
     try {
-      Mac sha256_HMAC = Mac.getInstance("HmacSHA256");
-      SecretKeySpec secretKeySpec = new SecretKeySpec(secret.getBytes(), "HmacSHA256");
-      sha256_HMAC.init(secretKeySpec);
-      return new String(Hex.encodeHex(sha256_HMAC.doFinal(message.getBytes())));
-    } catch (Exception e) {
-      throw new RuntimeException("Unable to sign message.", e);
+      return (Mac) prototype.clone();
+    } catch (CloneNotSupportedException e) {
+      try {
+        Mac mac = Mac.getInstance(ALGORITHM);
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        return mac;
+      } catch (GeneralSecurityException ex) {
+        throw new IllegalStateException("Unable to initialize " + ALGORITHM, ex);
+      }
+    }
+  }
+
+  /**
+   * Write the lower case hex digits of bytes into a buffer twice as long.
+   */
+  static void encodeHex(byte[] bytes, int length, char[] hex) {
+    for (int i = 0, j = 0; i < length; i++) {
+      int b = bytes[i];
+      hex[j++] = HEX_DIGITS[(b >>> 4) & 0x0F];
+      hex[j++] = HEX_DIGITS[b & 0x0F];
+    }
+  }
+
+  /**
+   * A keyed <code>Mac</code> and the buffers of one signature at a time.
+   */
+  private static final class SigningState {
+
+    private final Mac mac;
+
+    private final byte[] digest;
+
+    private final char[] hex;
+
+    private byte[] input = new byte[512];
+
+    private SigningState(Mac mac) {
+      this.mac = mac;
+      this.digest = new byte[mac.getMacLength()];
+      this.hex = new char[digest.length * 2];
+    }
+
+    private String sign(String message) {
+      int length = message.length();
+      if (input.length < length) {
+        input = new byte[Math.max(length, input.length * 2)];
+      }
+      boolean ascii = true;
+      for (int i = 0; i < length && ascii; i++) {
+        char c = message.charAt(i);
+        input[i] = (byte) c;
+        ascii = c < 0x80;
+      }
+      try {
+        if (ascii) {
+          mac.update(input, 0, length);
+        } else {
+          mac.update(message.getBytes(StandardCharsets.UTF_8));
+        }
+        mac.doFinal(digest, 0);
+      } catch (GeneralSecurityException e) {
+        mac.reset();
+        throw new RuntimeException("Unable to sign message.", e);
+      }
+      encodeHex(digest, digest.length, hex);
+      return new String(hex);
     }
   }
 }
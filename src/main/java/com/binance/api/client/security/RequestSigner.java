@@ -0,0 +1,19 @@
+package com.binance.api.client.security;
+
+/**
+ * Signs the payload of requests to signed endpoints, with the key registered for an API key.
+ *
+ * @see HmacSHA256Signer
+ * @see PrivateKeySigner
+ */
+@FunctionalInterface
+public interface RequestSigner {
+
+  /**
+   * Sign a payload, e.g. the query string of a request.
+   *
+   * @param payload the payload to sign
+   * @return the signature, as expected in the <code>signature</code> parameter before URL encoding
+   */
+  String sign(String payload);
+}
@@ -0,0 +1,49 @@
+package com.binance.api.client.security;
+
+import com.binance.api.client.constant.BinanceApiConstants;
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.function.LongSupplier;
+
+/**
+ * A request interceptor that stamps signed requests with the time they are sent at, as told by the given clock rather
+ * than the local one, overriding any timestamp set on their request object, and optionally sets their
+ * <code>recvWindow</code>.
+ * <p>
+ * It must come after the interceptors which may hold requests back, e.g. for rate limits, and before the
+ * {@link AuthenticationInterceptor}, which signs the stamped request. With a clock following the server time (see
+ * {@link com.binance.api.client.impl.ServerClock}), the receiving window can be cut down to the network latency.
+ */
+public class TimestampInterceptor implements Interceptor {
+
+  private final LongSupplier clock;
+
+  private final Long recvWindowMillis;
+
+  /**
+   * @param clock the time to stamp requests with, e.g. <code>serverClock::currentTimeMillis</code>
+   * @param recvWindowMillis the receiving window of signed requests, or null to keep the one of every request
+   */
+  public TimestampInterceptor(LongSupplier clock, Long recvWindowMillis) {
+    this.clock = clock;
+    this.recvWindowMillis = recvWindowMillis;
+  }
+
+  @Override
+  public Response intercept(Chain chain) throws IOException {
+    Request request = chain.request();
+    if (request.header(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED) == null) {
+      return chain.proceed(request);
+    }
+    HttpUrl.Builder url = request.url().newBuilder();
+    if (recvWindowMillis != null) {
+      url.setQueryParameter("recvWindow", Long.toString(recvWindowMillis));
+    }
+    url.setQueryParameter("timestamp", Long.toString(clock.getAsLong()));
+    return chain.proceed(request.newBuilder().url(url.build()).build());
+  }
+}
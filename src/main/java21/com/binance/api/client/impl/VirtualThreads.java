@@ -0,0 +1,29 @@
+package com.binance.api.client.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Access to the virtual threads of JDK 21 and later, while the library itself targets Java 8.
+ * <p>
+ * This is the JDK 21 implementation of the multi-release JAR, calling the JDK directly.
+ */
+public final class VirtualThreads {
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * @return true if the running JDK has virtual threads.
+   */
+  public static boolean isSupported() {
+    return true;
+  }
+
+  /**
+   * @return an executor starting a new virtual thread for every task
+   */
+  public static ExecutorService newVirtualThreadPerTaskExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+}
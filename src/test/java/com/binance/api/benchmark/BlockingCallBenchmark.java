@@ -0,0 +1,181 @@
+package com.binance.api.benchmark;
+
+import com.binance.api.client.BinanceApiAsyncRestClient;
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiRestClient;
+import com.binance.api.client.domain.general.ServerTime;
+import com.binance.api.client.impl.BinanceApiAsyncRestClientImpl;
+import com.binance.api.client.impl.BinanceApiRestClientImpl;
+import com.binance.api.client.impl.BinanceApiService;
+import com.binance.api.client.impl.VirtualThreads;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.binance.api.client.impl.BinanceApiServiceGenerator.createService;
+
+/**
+ * Compares bursts of concurrent calls to a local server answering after a fixed latency, sent by the blocking client on
+ * platform threads, by the blocking client on virtual threads, and by the asynchronous callback client.
+ * <p>
+ * The virtual thread mode needs JDK 21 or later; run {@link #main} there to compare all three.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockingCallBenchmark {
+
+  private static final long SERVER_LATENCY_MILLIS = 10L;
+
+  @Param({"platform", "virtual", "async"})
+  public String mode;
+
+  @Param({"64", "512"})
+  public int concurrency;
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private ExecutorService callExecutor;
+
+  private BinanceApiRestClient client;
+
+  private BinanceApiAsyncRestClient asyncClient;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), concurrency);
+    server.createContext("/", exchange -> {
+      try {
+        Thread.sleep(SERVER_LATENCY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] body = "{\"serverTime\":1499827319559}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    switch (mode) {
+      case "platform":
+        callExecutor = Executors.newFixedThreadPool(concurrency);
+        break;
+      case "virtual":
+        callExecutor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+        break;
+      default:
+        break;
+    }
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(concurrency);
+    dispatcher.setMaxRequestsPerHost(concurrency);
+    OkHttpClient httpClient = new OkHttpClient.Builder()
+        .dispatcher(dispatcher)
+        .connectionPool(new ConnectionPool(concurrency, 5, TimeUnit.MINUTES))
+        .protocols(Collections.singletonList(Protocol.HTTP_1_1))
+        .build();
+    BinanceApiService service = createService(BinanceApiService.class, null, null, httpClient,
+        "http://127.0.0.1:" + server.getAddress().getPort());
+    client = new BinanceApiRestClientImpl(service);
+    asyncClient = new BinanceApiAsyncRestClientImpl(service);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    if (callExecutor != null) {
+      callExecutor.shutdownNow();
+    }
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  /**
+   * Send one call per unit of concurrency, and wait for all responses.
+   */
+  @Benchmark
+  public long burst() throws InterruptedException, ExecutionException {
+    if ("async".equals(mode)) {
+      return asyncBurst();
+    }
+    List<Future<Long>> responses = new ArrayList<>(concurrency);
+    for (int i = 0; i < concurrency; i++) {
+      responses.add(callExecutor.submit(client::getServerTime));
+    }
+    long sum = 0;
+    for (Future<Long> response : responses) {
+      sum += response.get();
+    }
+    return sum;
+  }
+
+  private long asyncBurst() throws InterruptedException {
+    CountDownLatch responses = new CountDownLatch(concurrency);
+    BinanceApiCallback<ServerTime> callback = new BinanceApiCallback<ServerTime>() {
+      @Override
+      public void onResponse(ServerTime response) {
+        responses.countDown();
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        responses.countDown();
+      }
+    };
+    for (int i = 0; i < concurrency; i++) {
+      asyncClient.getServerTime(callback);
+    }
+    responses.await();
+    return responses.getCount();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(BlockingCallBenchmark.class.getSimpleName())
+        .param("mode", VirtualThreads.isSupported() ? new String[]{"platform", "virtual", "async"} : new String[]{"platform", "async"})
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,220 @@
+package com.binance.api.benchmark;
+
+import com.binance.api.client.domain.account.AssetBalance;
+import com.binance.api.client.domain.account.OrderReport;
+import com.binance.api.client.domain.event.AccountUpdateEvent;
+import com.binance.api.client.domain.event.AssetBalanceDeserializer;
+import com.binance.api.client.domain.event.CandlestickEvent;
+import com.binance.api.client.domain.event.CandlestickEventDeserializer;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.event.ListStatusUpdateEvent;
+import com.binance.api.client.domain.event.OrderReportDeserializer;
+import com.binance.api.client.domain.market.OrderBookEntry;
+import com.binance.api.client.domain.market.OrderBookEntryDeserializer;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming stream-event deserializers against the tree-based implementations they replaced.
+ * <p>
+ * Run with the GC profiler attached (as {@link #main} does) to get both events per second and
+ * bytes allocated per event ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDeserializerBenchmark {
+
+  private static final String DEPTH_EVENT_JSON = "{\"e\":\"depthUpdate\",\"E\":1499404630606,\"s\":\"ETHBTC\",\"U\":7913455,\"u\":7913460,"
+      + "\"b\":[[\"0.10376590\",\"59.15767010\"],[\"0.10376586\",\"159.15767010\"],[\"0.10376580\",\"0.00000000\"],"
+      + "[\"0.10376500\",\"12.00000000\"],[\"0.10376400\",\"3.50000000\"]],"
+      + "\"a\":[[\"0.10376700\",\"1.00000000\"],[\"0.10376800\",\"7.20000000\"],[\"0.10376900\",\"0.00000000\"],"
+      + "[\"0.10377000\",\"44.12000000\"],[\"0.10377100\",\"2.30000000\"]]}";
+
+  private static final String CANDLESTICK_EVENT_JSON = "{\"e\":\"kline\",\"E\":1,\"s\":\"ETHBTC\",\"k\":{\"t\":1499404860000,"
+      + "\"T\":1499404919999,\"s\":\"ETHBTC\",\"i\":\"1m\",\"f\":77462,\"L\":77465,\"o\":\"0.10278577\",\"c\":\"0.10278645\","
+      + "\"h\":\"0.10278712\",\"l\":\"0.10278518\",\"v\":\"17.47929838\",\"n\":4,\"x\":false,\"q\":\"1.79662878\","
+      + "\"V\":\"2.34879839\",\"Q\":\"0.24142166\",\"B\":\"13279784.01349473\"}}";
+
+  private static final String ACCOUNT_UPDATE_EVENT_JSON = "{\"e\":\"outboundAccountPosition\",\"E\":1564034571105,\"u\":1564034571073,"
+      + "\"B\":[{\"a\":\"ETH\",\"f\":\"10000.000000\",\"l\":\"0.000000\"},{\"a\":\"BTC\",\"f\":\"1.25000000\",\"l\":\"0.50000000\"},"
+      + "{\"a\":\"BNB\",\"f\":\"3.00000000\",\"l\":\"0.00000000\"},{\"a\":\"USDT\",\"f\":\"1520.10000000\",\"l\":\"100.00000000\"}]}";
+
+  private static final String LIST_STATUS_EVENT_JSON = "{\"e\":\"listStatus\",\"E\":1653207800791,\"s\":\"YGGBUSD\",\"g\":66726901,"
+      + "\"c\":\"OCO\",\"l\":\"EXEC_STARTED\",\"L\":\"EXECUTING\",\"r\":\"NONE\",\"C\":\"uVUfjBZQtBYR3YRf0k93eR\",\"T\":1653207800790,"
+      + "\"O\":[{\"s\":\"YGGBUSD\",\"i\":51236528,\"c\":\"G1xsSySo3BcTEnq15iAORh\"},{\"s\":\"YGGBUSD\",\"i\":51236529,\"c\":\"mHwDdj5JYFQ1lWtFkBFMG0\"}]}";
+
+  @Param({"streaming", "tree"})
+  public String deserializer;
+
+  private ObjectReader depthEventReader;
+  private ObjectReader candlestickEventReader;
+  private ObjectReader accountUpdateEventReader;
+  private ObjectReader listStatusEventReader;
+
+  @Setup
+  public void setup() {
+    ObjectMapper mapper = new ObjectMapper();
+    if ("tree".equals(deserializer)) {
+      mapper.setAnnotationIntrospector(new TreeDeserializerIntrospector());
+    }
+    depthEventReader = mapper.readerFor(DepthEvent.class);
+    candlestickEventReader = mapper.readerFor(CandlestickEvent.class);
+    accountUpdateEventReader = mapper.readerFor(AccountUpdateEvent.class);
+    listStatusEventReader = mapper.readerFor(ListStatusUpdateEvent.class);
+  }
+
+  @Benchmark
+  public DepthEvent depthEvent() throws IOException {
+    return depthEventReader.readValue(DEPTH_EVENT_JSON);
+  }
+
+  @Benchmark
+  public CandlestickEvent candlestickEvent() throws IOException {
+    return candlestickEventReader.readValue(CANDLESTICK_EVENT_JSON);
+  }
+
+  @Benchmark
+  public AccountUpdateEvent accountUpdateEvent() throws IOException {
+    return accountUpdateEventReader.readValue(ACCOUNT_UPDATE_EVENT_JSON);
+  }
+
+  @Benchmark
+  public ListStatusUpdateEvent listStatusEvent() throws IOException {
+    return listStatusEventReader.readValue(LIST_STATUS_EVENT_JSON);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(EventDeserializerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+
+  /**
+   * Swaps the streaming deserializers referenced by the domain annotations for their tree-based counterparts.
+   */
+  private static class TreeDeserializerIntrospector extends JacksonAnnotationIntrospector {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public Object findDeserializer(Annotated a) {
+      return toTreeDeserializer(super.findDeserializer(a));
+    }
+
+    @Override
+    public Object findContentDeserializer(Annotated a) {
+      return toTreeDeserializer(super.findContentDeserializer(a));
+    }
+
+    private Object toTreeDeserializer(Object deserializer) {
+      if (deserializer == CandlestickEventDeserializer.class) {
+        return TreeCandlestickEventDeserializer.class;
+      } else if (deserializer == OrderBookEntryDeserializer.class) {
+        return TreeOrderBookEntryDeserializer.class;
+      } else if (deserializer == AssetBalanceDeserializer.class) {
+        return TreeAssetBalanceDeserializer.class;
+      } else if (deserializer == OrderReportDeserializer.class) {
+        return TreeOrderReportDeserializer.class;
+      }
+      return deserializer;
+    }
+  }
+
+  public static class TreeCandlestickEventDeserializer extends JsonDeserializer<CandlestickEvent> {
+
+    @Override
+    public CandlestickEvent deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+      JsonNode node = jp.getCodec().readTree(jp);
+      CandlestickEvent candlestickEvent = new CandlestickEvent();
+      candlestickEvent.setEventType(node.get("e").asText());
+      candlestickEvent.setEventTime(node.get("E").asLong());
+      candlestickEvent.setSymbol(node.get("s").asText());
+      JsonNode candlestickNode = node.get("k");
+      candlestickEvent.setOpenTime(candlestickNode.get("t").asLong());
+      candlestickEvent.setCloseTime(candlestickNode.get("T").asLong());
+      candlestickEvent.setIntervalId(candlestickNode.get("i").asText());
+      candlestickEvent.setFirstTradeId(candlestickNode.get("f").asLong());
+      candlestickEvent.setLastTradeId(candlestickNode.get("L").asLong());
+      candlestickEvent.setOpen(candlestickNode.get("o").asText());
+      candlestickEvent.setClose(candlestickNode.get("c").asText());
+      candlestickEvent.setHigh(candlestickNode.get("h").asText());
+      candlestickEvent.setLow(candlestickNode.get("l").asText());
+      candlestickEvent.setVolume(candlestickNode.get("v").asText());
+      candlestickEvent.setNumberOfTrades(candlestickNode.get("n").asLong());
+      candlestickEvent.setBarFinal(candlestickNode.get("x").asBoolean());
+      candlestickEvent.setQuoteAssetVolume(candlestickNode.get("q").asText());
+      candlestickEvent.setTakerBuyBaseAssetVolume(candlestickNode.get("V").asText());
+      candlestickEvent.setTakerBuyQuoteAssetVolume(candlestickNode.get("Q").asText());
+      return candlestickEvent;
+    }
+  }
+
+  public static class TreeOrderBookEntryDeserializer extends JsonDeserializer<OrderBookEntry> {
+
+    @Override
+    public OrderBookEntry deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+      JsonNode node = jp.getCodec().readTree(jp);
+      OrderBookEntry orderBookEntry = new OrderBookEntry();
+      orderBookEntry.setPrice(node.get(0).asText());
+      orderBookEntry.setQty(node.get(1).asText());
+      return orderBookEntry;
+    }
+  }
+
+  public static class TreeAssetBalanceDeserializer extends JsonDeserializer<AssetBalance> {
+
+    @Override
+    public AssetBalance deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+      JsonNode node = jp.getCodec().readTree(jp);
+      AssetBalance assetBalance = new AssetBalance();
+      assetBalance.setAsset(node.get("a").asText());
+      assetBalance.setFree(node.get("f").asText());
+      assetBalance.setLocked(node.get("l").asText());
+      return assetBalance;
+    }
+  }
+
+  public static class TreeOrderReportDeserializer extends JsonDeserializer<OrderReport> {
+
+    @Override
+    public OrderReport deserialize(JsonParser jp, DeserializationContext ctx) throws IOException {
+      JsonNode node = jp.getCodec().readTree(jp);
+      OrderReport report = new OrderReport();
+      report.setSymbol(node.get("s").asText());
+      report.setOrderId(node.get("i").asLong());
+      report.setClientOrderId(node.get("c").asText());
+      return report;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.binance.api.benchmark;
+
+import com.binance.api.client.security.HmacSHA256Signer;
+import com.binance.api.client.security.PrivateKeySigner;
+import com.binance.api.client.security.RequestSigner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPairGenerator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of signing a request with each API key type: HMAC-SHA256, Ed25519 (JDK 15 or later) and RSA
+ * (2048 bits), with keys parsed once.
+ * <p>
+ * Run with the GC profiler attached (as {@link #main} does) to get both the time and the bytes allocated per
+ * signature ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SignatureSchemeBenchmark {
+
+  private static final String QUERY = "symbol=LTCBTC&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1"
+      + "&newClientOrderId=6gCrw2kRUAF9CvJDGP16IP&recvWindow=5000&timestamp=1499827319559";
+
+  @Param({"hmac", "ed25519", "rsa"})
+  public String scheme;
+
+  private RequestSigner signer;
+
+  @Setup
+  public void setup() throws GeneralSecurityException {
+    switch (scheme) {
+      case "hmac":
+        signer = new HmacSHA256Signer("NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j");
+        break;
+      case "ed25519":
+        signer = new PrivateKeySigner(KeyPairGenerator.getInstance(PrivateKeySigner.ED25519).generateKeyPair().getPrivate(),
+            PrivateKeySigner.ED25519);
+        break;
+      default:
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        signer = new PrivateKeySigner(generator.generateKeyPair().getPrivate(), PrivateKeySigner.SHA256_WITH_RSA);
+        break;
+    }
+  }
+
+  @Benchmark
+  public String sign() {
+    return signer.sign(QUERY);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(SignatureSchemeBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,75 @@
+package com.binance.api.benchmark;
+
+import com.binance.api.client.domain.event.OrderTradeUpdateEvent;
+import com.binance.api.client.domain.event.UserDataUpdateEvent;
+import com.binance.api.client.domain.event.UserDataUpdateEvent.UserDataUpdateEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of turning an execution report into a {@link UserDataUpdateEvent}, comparing the single-pass
+ * deserializer with the previous approach of reading a tree, serializing it back to a String and parsing it again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDataUpdateEventBenchmark {
+
+  private static final String EXECUTION_REPORT_JSON = "{\"e\":\"executionReport\",\"E\":1499405658658,\"s\":\"ETHBTC\","
+      + "\"c\":\"mUvoqJxFIILMdfAW5iGSOW\",\"S\":\"BUY\",\"o\":\"LIMIT\",\"f\":\"GTC\",\"q\":\"1.00000000\",\"p\":\"0.10264410\","
+      + "\"P\":\"0.00000000\",\"F\":\"0.00000000\",\"g\":-1,\"C\":\"\",\"x\":\"TRADE\",\"X\":\"PARTIALLY_FILLED\",\"r\":\"NONE\","
+      + "\"i\":4293153,\"l\":\"0.50000000\",\"z\":\"0.50000000\",\"L\":\"0.10264410\",\"n\":\"0.00005132\",\"N\":\"BNB\","
+      + "\"T\":1499405658657,\"t\":10234,\"I\":8641984,\"w\":false,\"m\":false,\"M\":true,\"O\":1499405658657,"
+      + "\"Z\":\"0.05132205\",\"Y\":\"0.05132205\",\"Q\":\"0.00000000\"}";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  private final ObjectMapper detailMapper = new ObjectMapper();
+
+  private final ObjectReader userDataUpdateEventReader = mapper.readerFor(UserDataUpdateEvent.class);
+
+  @Benchmark
+  public UserDataUpdateEvent singlePass() throws IOException {
+    return userDataUpdateEventReader.readValue(EXECUTION_REPORT_JSON);
+  }
+
+  @Benchmark
+  public UserDataUpdateEvent treeThenReparse() throws IOException {
+    JsonNode node = mapper.readTree(EXECUTION_REPORT_JSON);
+    String json = node.toString();
+    UserDataUpdateEvent userDataUpdateEvent = new UserDataUpdateEvent();
+    userDataUpdateEvent.setEventType(UserDataUpdateEventType.fromEventTypeId(node.get("e").asText()));
+    userDataUpdateEvent.setEventTime(node.get("E").asLong());
+    userDataUpdateEvent.setOrderTradeUpdateEvent(detailMapper.readValue(json, OrderTradeUpdateEvent.class));
+    return userDataUpdateEvent;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options options = new OptionsBuilder()
+        .include(UserDataUpdateEventBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(options).run();
+  }
+}
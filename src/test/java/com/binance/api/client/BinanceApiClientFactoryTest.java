@@ -0,0 +1,111 @@
+package com.binance.api.client;
+
+import com.binance.api.client.config.BinanceApiConfig;
+import com.binance.api.client.config.RequestLane;
+import com.binance.api.client.impl.BinanceApiServiceGenerator;
+import com.binance.api.client.impl.VirtualThreads;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @see BinanceApiClientFactory
+ */
+public class BinanceApiClientFactoryTest {
+
+  @Test
+  public void shouldKeepEndpointsPerFactory() {
+    BinanceApiClientFactory testnet = BinanceApiClientFactory.newInstance(true, true);
+    BinanceApiClientFactory production = BinanceApiClientFactory.newInstance();
+
+    assertEquals(BinanceApiConfig.getTestNetBaseUrl(), testnet.getApiBaseUrl());
+    assertEquals(BinanceApiConfig.getApiBaseUrl(), production.getApiBaseUrl());
+    assertFalse(BinanceApiConfig.useTestnet);
+    assertSame(BinanceApiServiceGenerator.getSharedClient(), production.getHttpClient());
+  }
+
+  @Test
+  public void shouldBuildOwnHttpClient() {
+    BinanceApiClientFactory factory = BinanceApiClientFactory.builder()
+        .connectionPool(4, 30, TimeUnit.SECONDS)
+        .maxRequestsPerHost(20)
+        .connectTimeout(2, TimeUnit.SECONDS)
+        .readTimeout(3, TimeUnit.SECONDS)
+        .protocols(Collections.singletonList(Protocol.HTTP_1_1))
+        .build();
+    OkHttpClient client = factory.getHttpClient();
+
+    assertNotSame(BinanceApiServiceGenerator.getSharedClient().dispatcher(), client.dispatcher());
+    assertNotSame(BinanceApiServiceGenerator.getSharedClient().connectionPool(), client.connectionPool());
+    assertEquals(BinanceApiServiceGenerator.DEFAULT_MAX_REQUESTS, client.dispatcher().getMaxRequests());
+    assertEquals(20, client.dispatcher().getMaxRequestsPerHost());
+    assertEquals(2000, client.connectTimeoutMillis());
+    assertEquals(3000, client.readTimeoutMillis());
+    assertEquals(20_000, client.pingIntervalMillis());
+    assertEquals(Collections.singletonList(Protocol.HTTP_1_1), client.protocols());
+  }
+
+  @Test
+  public void shouldGiveLanesTheirOwnTransport() {
+    BinanceApiClientFactory factory = BinanceApiClientFactory.builder()
+        .connectTimeout(1, TimeUnit.SECONDS)
+        .lane(RequestLane.ORDER, 16, 2)
+        .build();
+    OkHttpClient orderClient = factory.getHttpClient(RequestLane.ORDER);
+
+    assertNotSame(factory.getHttpClient().dispatcher(), orderClient.dispatcher());
+    assertNotSame(factory.getHttpClient().connectionPool(), orderClient.connectionPool());
+    assertEquals(16, orderClient.dispatcher().getMaxRequests());
+    assertEquals(1000, orderClient.connectTimeoutMillis());
+    assertSame(factory.getHttpClient(), factory.getHttpClient(RequestLane.BULK));
+  }
+
+  @Test
+  public void shouldShareBaseClientDispatcherUnlessLimited() {
+    OkHttpClient base = new OkHttpClient();
+
+    assertSame(base.dispatcher(), BinanceApiClientFactory.builder().httpClient(base).build().getHttpClient().dispatcher());
+    OkHttpClient limited = BinanceApiClientFactory.builder().httpClient(base).maxRequests(10).build().getHttpClient();
+    assertNotSame(base.dispatcher(), limited.dispatcher());
+    assertEquals(10, limited.dispatcher().getMaxRequests());
+    assertEquals(base.dispatcher().getMaxRequestsPerHost(), limited.dispatcher().getMaxRequestsPerHost());
+  }
+
+  @Test
+  public void shouldRunAsyncCallsOnExecutor() {
+    ExecutorService executor = Executors.newCachedThreadPool();
+    try {
+      BinanceApiClientFactory factory = BinanceApiClientFactory.builder()
+          .executor(executor)
+          .lane(RequestLane.ORDER, 16, 2)
+          .build();
+
+      assertSame(executor, factory.getHttpClient().dispatcher().executorService());
+      assertSame(executor, factory.getHttpClient(RequestLane.ORDER).dispatcher().executorService());
+      assertEquals(BinanceApiServiceGenerator.DEFAULT_MAX_REQUESTS, factory.getHttpClient().dispatcher().getMaxRequests());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldRunAsyncCallsOnVirtualThreads() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+    BinanceApiClientFactory factory = BinanceApiClientFactory.builder().virtualThreads().build();
+
+    ExecutorService executor = factory.getHttpClient().dispatcher().executorService();
+    assertTrue(executor.submit(() -> Thread.currentThread().getClass().getSimpleName()).get().contains("Virtual"));
+  }
+}
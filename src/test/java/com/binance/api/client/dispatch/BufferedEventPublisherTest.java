@@ -0,0 +1,139 @@
+package com.binance.api.client.dispatch;
+
+import com.binance.api.client.BinanceApiCallback;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see BufferedEventPublisher
+ */
+public class BufferedEventPublisherTest {
+
+  private BinanceApiCallback<String> socketCallback;
+
+  private boolean socketClosed;
+
+  private final List<Object> received = new ArrayList<>();
+
+  private EventFlow.Subscription subscription;
+
+  private final EventFlow.Subscriber<String> subscriber = new EventFlow.Subscriber<String>() {
+    @Override
+    public void onSubscribe(EventFlow.Subscription subscription) {
+      BufferedEventPublisherTest.this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(String event) {
+      received.add(event);
+    }
+
+    @Override
+    public void onError(Throwable cause) {
+      received.add(cause);
+    }
+
+    @Override
+    public void onComplete() {
+      received.add("complete");
+    }
+  };
+
+  private BufferedEventPublisher<String> publisher(int capacity, OverflowPolicy overflowPolicy) {
+    return new BufferedEventPublisher<>(callback -> {
+      socketCallback = callback;
+      return (Closeable) () -> socketClosed = true;
+    }, capacity, overflowPolicy, event -> event.substring(0, 1));
+  }
+
+  @Test
+  public void shouldDeliverNoMoreThanRequested() {
+    publisher(8, OverflowPolicy.BLOCK).subscribe(subscriber);
+    socketCallback.onResponse("a1");
+    socketCallback.onResponse("b1");
+    socketCallback.onResponse("c1");
+
+    assertEquals(Collections.emptyList(), received);
+    subscription.request(2);
+    assertEquals(Arrays.asList("a1", "b1"), received);
+    socketCallback.onResponse("d1");
+    subscription.request(5);
+    assertEquals(Arrays.asList("a1", "b1", "c1", "d1"), received);
+    socketCallback.onResponse("e1");
+    assertEquals(Arrays.asList("a1", "b1", "c1", "d1", "e1"), received);
+  }
+
+  @Test
+  public void shouldDropOldestEventsWhenFull() {
+    BufferedEventPublisher<String> publisher = publisher(4, OverflowPolicy.DROP_OLDEST);
+    publisher.subscribe(subscriber);
+    for (int i = 0; i < 6; i++) {
+      socketCallback.onResponse("a" + i);
+    }
+
+    subscription.request(Long.MAX_VALUE);
+    assertEquals(Arrays.asList("a2", "a3", "a4", "a5"), received);
+    assertEquals(2, publisher.getDroppedCount());
+  }
+
+  @Test
+  public void shouldKeepLatestEventPerKey() {
+    BufferedEventPublisher<String> publisher = publisher(4, OverflowPolicy.CONFLATE);
+    publisher.subscribe(subscriber);
+    socketCallback.onResponse("a1");
+    socketCallback.onResponse("b1");
+    socketCallback.onResponse("a2");
+
+    subscription.request(1);
+    assertEquals(Collections.singletonList("a2"), received);
+    socketCallback.onResponse("b2");
+    subscription.request(1);
+    assertEquals(Arrays.asList("a2", "b2"), received);
+    assertEquals(2, publisher.getConflatedCount());
+  }
+
+  @Test
+  public void shouldSignalFailureAfterBufferedEvents() {
+    publisher(8, OverflowPolicy.BLOCK).subscribe(subscriber);
+    IllegalStateException failure = new IllegalStateException();
+    socketCallback.onResponse("a1");
+    socketCallback.onFailure(failure);
+
+    assertTrue(socketClosed);
+    assertEquals(Collections.emptyList(), received);
+    subscription.request(1);
+    assertEquals(Arrays.asList("a1", failure), received);
+  }
+
+  @Test
+  public void shouldCloseSocketOnCancel() {
+    publisher(8, OverflowPolicy.BLOCK).subscribe(subscriber);
+    subscription.request(1);
+    subscription.cancel();
+    socketCallback.onResponse("a1");
+
+    assertTrue(socketClosed);
+    assertEquals(Collections.emptyList(), received);
+  }
+
+  @Test
+  public void shouldFailOnNonPositiveRequest() {
+    publisher(8, OverflowPolicy.BLOCK).subscribe(subscriber);
+    socketCallback.onResponse("a1");
+    subscription.request(0);
+
+    assertTrue(socketClosed);
+    assertEquals(1, received.size());
+    assertTrue(received.get(0) instanceof IllegalArgumentException);
+    assertFalse(received.contains("a1"));
+  }
+}
@@ -0,0 +1,184 @@
+package com.binance.api.client.dispatch;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.event.TickerEvent;
+import com.binance.api.client.impl.BinanceApiWebSocketListener;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see EventDispatcher
+ */
+public class EventDispatcherTest {
+
+  private final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+  private final List<Object> delivered = new ArrayList<>();
+
+  private final BinanceApiCallback<String> callback = new BinanceApiCallback<String>() {
+    @Override
+    public void onResponse(String response) {
+      delivered.add(response);
+    }
+
+    @Override
+    public void onFailure(Throwable cause) {
+      delivered.add(cause);
+    }
+  };
+
+  @Test
+  public void shouldDeliverOnExecutorInOrder() {
+    EventDispatcher<String> dispatcher = EventDispatcher.blocking(callback, tasks::add, 8);
+    IllegalStateException failure = new IllegalStateException();
+    dispatcher.onResponse("a");
+    dispatcher.onResponse("b");
+    dispatcher.onFailure(failure);
+
+    assertEquals(Collections.emptyList(), delivered);
+    assertEquals(3, dispatcher.getQueueDepth());
+    runTasks();
+    assertEquals(Arrays.asList("a", "b", failure), delivered);
+    assertEquals(0, dispatcher.getQueueDepth());
+    assertEquals(3, dispatcher.getMaxQueueDepth());
+  }
+
+  @Test
+  public void shouldDropOldestEventsWhenFull() {
+    EventDispatcher<String> dispatcher = EventDispatcher.droppingOldest(callback, tasks::add, 4);
+    for (int i = 0; i < 6; i++) {
+      dispatcher.onResponse(String.valueOf(i));
+    }
+
+    assertEquals(4, dispatcher.getQueueDepth());
+    runTasks();
+    assertEquals(Arrays.asList("2", "3", "4", "5"), delivered);
+    assertEquals(2L, dispatcher.getDroppedCount());
+  }
+
+  @Test
+  public void shouldWaitRatherThanDropFailures() throws Exception {
+    EventDispatcher<String> dispatcher = EventDispatcher.droppingOldest(callback, tasks::add, 2);
+    IllegalStateException failure = new IllegalStateException();
+    dispatcher.onFailure(failure);
+    dispatcher.onResponse("a");
+    Thread producer = new Thread(() -> dispatcher.onResponse("b"));
+    producer.start();
+    producer.join(100L);
+
+    assertTrue(producer.isAlive());
+    runTasks();
+    producer.join();
+    runTasks();
+    assertEquals(Arrays.asList(failure, "a", "b"), delivered);
+    assertEquals(0L, dispatcher.getDroppedCount());
+  }
+
+  @Test
+  public void shouldLoseNothingFromConcurrentProducers() throws Exception {
+    AtomicInteger events = new AtomicInteger();
+    List<Throwable> failures = new CopyOnWriteArrayList<>();
+    EventDispatcher<String> dispatcher = EventDispatcher.droppingOldest(new BinanceApiCallback<String>() {
+      @Override
+      public void onResponse(String response) {
+        events.incrementAndGet();
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        failures.add(cause);
+      }
+    }, null, 64);
+    Thread[] producers = new Thread[2];
+    for (int i = 0; i < producers.length; i++) {
+      producers[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          dispatcher.onResponse("event");
+        }
+        dispatcher.onFailure(new IllegalStateException());
+      });
+      producers[i].start();
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    for (int i = 0; i < 500 && events.get() + dispatcher.getDroppedCount() + failures.size() < 20_002; i++) {
+      Thread.sleep(10);
+    }
+    dispatcher.close();
+
+    assertEquals(2, failures.size());
+    assertEquals(20_000L, events.get() + dispatcher.getDroppedCount());
+  }
+
+  @Test
+  public void shouldConflateEventsByKey() {
+    EventDispatcher<String> dispatcher = EventDispatcher.conflating(callback, tasks::add, 4, event -> event.charAt(0));
+    dispatcher.onResponse("a1");
+    dispatcher.onResponse("b1");
+    dispatcher.onResponse("a2");
+
+    assertEquals(2, dispatcher.getQueueDepth());
+    runTasks();
+    assertEquals(Arrays.asList("a2", "b1"), delivered);
+    assertEquals(1L, dispatcher.getConflatedCount());
+  }
+
+  @Test
+  public void shouldKeepLatestTickerOfEverySymbol() {
+    List<String> tickers = new ArrayList<>();
+    EventDispatcher<TickerEvent> dispatcher = EventDispatcher.latestTickers(new BinanceApiCallback<TickerEvent>() {
+      @Override
+      public void onResponse(TickerEvent response) {
+        tickers.add(response.getSymbol() + "@" + response.getCurrentDaysClosePrice());
+      }
+    }, tasks::add);
+    dispatcher.forLists().onResponse(Arrays.asList(ticker("ETHBTC", "0.1"), ticker("BNBBTC", "0.2")));
+    dispatcher.forLists().onResponse(Collections.singletonList(ticker("ETHBTC", "0.3")));
+
+    runTasks();
+    assertEquals(Arrays.asList("ETHBTC@0.3", "BNBBTC@0.2"), tickers);
+    assertEquals(1L, dispatcher.getConflatedCount());
+  }
+
+  @Test
+  public void shouldParseOnConsumerThreadWhenDeferred() {
+    List<DepthEvent> events = new ArrayList<>();
+    EventDispatcher<DepthEvent> dispatcher = EventDispatcher.<DepthEvent>blocking(events::add, tasks::add, 8).deferParsing();
+    new BinanceApiWebSocketListener<>(dispatcher, DepthEvent.class)
+        .onMessage(null, "{\"e\":\"depthUpdate\",\"E\":1,\"s\":\"ETHBTC\",\"U\":1,\"u\":2,\"b\":[],\"a\":[]}");
+
+    assertEquals(0, events.size());
+    runTasks();
+    assertEquals(1, events.size());
+    assertEquals("ETHBTC", events.get(0).getSymbol());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldNotDeferParsingWhenConflating() {
+    EventDispatcher.conflating(callback, tasks::add, 4, event -> event).deferParsing();
+  }
+
+  private static TickerEvent ticker(String symbol, String lastPrice) {
+    TickerEvent tickerEvent = new TickerEvent();
+    tickerEvent.setSymbol(symbol);
+    tickerEvent.setCurrentDaysClosePrice(lastPrice);
+    return tickerEvent;
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.binance.api.client.domain.market;
+
+import com.binance.api.client.domain.event.BookTickerEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see FixedDecimal
+ */
+public class FixedDecimalTest {
+
+  @Test
+  public void shouldKeepScaleOfParsedText() {
+    FixedDecimal price = FixedDecimal.parse("0.10376590");
+    assertEquals(10376590L, price.getMantissa());
+    assertEquals(8, price.getScale());
+    assertEquals("0.10376590", price.toString());
+    assertEquals("-12.5", FixedDecimal.parse("-12.5").toString());
+    assertEquals("42", FixedDecimal.parse("42").toString());
+    assertEquals("0.00000001", FixedDecimal.of(1L, 8).toString());
+  }
+
+  @Test
+  public void shouldFormatExtremeMantissas() {
+    assertEquals("-92233720368.54775808", FixedDecimal.of(Long.MIN_VALUE, 8).toString());
+    assertEquals("92233720368.54775807", FixedDecimal.of(Long.MAX_VALUE, 8).toString());
+    assertEquals("-9.223372036854775808", FixedDecimal.of(Long.MIN_VALUE, FixedDecimal.MAX_SCALE).toString());
+    assertEquals(FixedDecimal.of(Long.MIN_VALUE, 8).toBigDecimal().toPlainString(),
+        FixedDecimal.of(Long.MIN_VALUE, 8).toString());
+  }
+
+  @Test
+  public void shouldRescaleToSymbolPrecision() {
+    assertEquals("0.10376500", FixedDecimal.parse("0.103765", 8).toString());
+    assertEquals("0.1037", FixedDecimal.parse("0.10370000", 4).toString());
+  }
+
+  @Test(expected = ArithmeticException.class)
+  public void shouldNotRoundWhenRescaling() {
+    FixedDecimal.parse("0.10376590").withScale(4);
+  }
+
+  @Test
+  public void shouldCompareNumericValues() {
+    assertEquals(FixedDecimal.parse("1.0"), FixedDecimal.parse("1.00"));
+    assertEquals(FixedDecimal.parse("1.0").hashCode(), FixedDecimal.parse("1.00").hashCode());
+    assertNotEquals(FixedDecimal.parse("1.01"), FixedDecimal.parse("1.001"));
+    assertTrue(FixedDecimal.parse("0.0024").compareTo(FixedDecimal.parse("0.00239999")) > 0);
+    assertEquals("0.30", FixedDecimal.parse("0.1").add(FixedDecimal.parse("0.20")).toString());
+    assertTrue(FixedDecimal.parse("0.00000000").isZero());
+  }
+
+  @Test
+  public void shouldFallBackForExponentsAndLongFractions() {
+    assertEquals("0.00000001", FixedDecimal.parse("1E-8").toString());
+    assertEquals("1234567890.12", FixedDecimal.parse("1234567890.12000000000").toString());
+    assertEquals(new BigDecimal("92233720368.54775807"), FixedDecimal.parse("92233720368.54775807").toBigDecimal());
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void shouldRejectValuesOutOfRange() {
+    FixedDecimal.parse("92233720368.54775809");
+  }
+
+  @Test(expected = NumberFormatException.class)
+  public void shouldRejectInvalidText() {
+    FixedDecimal.parse("abc");
+  }
+
+  @Test
+  public void shouldDeserializeMarketDataModels() throws IOException {
+    final String bookTickerJson = "{\"u\":400900217,\"s\":\"BNBUSDT\",\"b\":\"25.35190000\",\"B\":\"31.21000000\",\"a\":\"25.36520000\",\"A\":\"40.66000000\"}";
+    ObjectMapper mapper = new ObjectMapper();
+    BookTickerEvent bookTickerEvent = mapper.readValue(bookTickerJson, BookTickerEvent.class);
+    assertEquals(FixedDecimal.of(2535190000L, 8), bookTickerEvent.getBidPriceValue());
+    assertEquals("25.35190000", bookTickerEvent.getBidPrice());
+    assertEquals("40.66000000", bookTickerEvent.getAskQuantity());
+    assertEquals(bookTickerJson, mapper.writeValueAsString(bookTickerEvent));
+  }
+}
@@ -0,0 +1,39 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import org.junit.Test;
+import retrofit2.Response;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see BinanceApiCallbackAdapter
+ */
+public class BinanceApiCallbackAdapterTest {
+
+  @Test
+  public void shouldReportGatewayTimeoutAsUnknownExecutionStatus() {
+    AtomicReference<Throwable> failure = new AtomicReference<>();
+    BinanceApiCallbackAdapter<Void> adapter = new BinanceApiCallbackAdapter<>(new BinanceApiCallback<Void>() {
+      @Override
+      public void onResponse(Void response) {
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        failure.set(cause);
+      }
+    });
+
+    adapter.onResponse(null, Response.error(504, ResponseBody.create(MediaType.parse("text/html"), "<html>Gateway Timeout</html>")));
+
+    assertTrue(failure.get() instanceof UnknownExecutionStatusException);
+    assertEquals(504, ((UnknownExecutionStatusException) failure.get()).getStatusCode());
+  }
+}
@@ -0,0 +1,133 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.CombinedStream;
+import com.binance.api.client.domain.event.BookTickerEvent;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.event.TickerEvent;
+import com.binance.api.client.exception.BinanceApiException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see BinanceApiCombinedStreamListener
+ */
+public class BinanceApiCombinedStreamListenerTest {
+
+  private final List<DepthEvent> depthEvents = new ArrayList<>();
+
+  private final List<BookTickerEvent> bookTickerEvents = new ArrayList<>();
+
+  private final List<List<TickerEvent>> tickerEvents = new ArrayList<>();
+
+  private final BinanceApiCombinedStreamListener listener = new BinanceApiCombinedStreamListener(new CombinedStream()
+      .onDepthEvent("ETHBTC, bnbbtc", depthEvents::add)
+      .onBookTickerEvent("ethbtc", bookTickerEvents::add)
+      .onAllMarketTickersEvent(tickerEvents::add)
+      .getRoutes());
+
+  @Test
+  public void shouldRouteMessagesByStreamName() {
+    listener.onMessage(null, "{\"stream\":\"bnbbtc@depth\",\"data\":{\"e\":\"depthUpdate\",\"E\":1,\"s\":\"BNBBTC\",\"U\":157,\"u\":160,\"b\":[[\"0.0024\",\"10\"]],\"a\":[]}}");
+    listener.onMessage(null, "{\"stream\":\"ethbtc@bookTicker\",\"data\":{\"u\":400900217,\"s\":\"ETHBTC\",\"b\":\"25.35190000\",\"B\":\"31.21000000\",\"a\":\"25.36520000\",\"A\":\"40.66000000\"}}");
+    listener.onMessage(null, "{\"stream\":\"!ticker@arr\",\"data\":[{\"e\":\"24hrTicker\",\"s\":\"ETHBTC\",\"c\":\"0.0025\"}]}");
+
+    assertEquals(1, depthEvents.size());
+    assertEquals("BNBBTC", depthEvents.get(0).getSymbol());
+    assertEquals(160L, depthEvents.get(0).getFinalUpdateId());
+    assertEquals(1, bookTickerEvents.size());
+    assertEquals("25.35190000", bookTickerEvents.get(0).getBidPrice());
+    assertEquals(1, tickerEvents.size());
+    assertEquals("ETHBTC", tickerEvents.get(0).get(0).getSymbol());
+  }
+
+  @Test
+  public void shouldRouteMessagesWithDataBeforeStreamName() {
+    listener.onMessage(null, "{\"data\":{\"e\":\"depthUpdate\",\"E\":1,\"s\":\"ETHBTC\",\"U\":1,\"u\":2,\"b\":[],\"a\":[]},\"stream\":\"ethbtc@depth\"}");
+
+    assertEquals(1, depthEvents.size());
+    assertEquals("ETHBTC", depthEvents.get(0).getSymbol());
+  }
+
+  @Test
+  public void shouldIgnoreUnknownStreamsAndResponses() {
+    listener.onMessage(null, "{\"stream\":\"ltcbtc@depth\",\"data\":{\"e\":\"depthUpdate\",\"s\":\"LTCBTC\"}}");
+    listener.onMessage(null, "{\"result\":null,\"id\":1}");
+
+    assertEquals(0, depthEvents.size());
+  }
+
+  @Test
+  public void shouldCompletePendingRequestsByResponseId() {
+    List<List<String>> results = new ArrayList<>();
+    List<Throwable> failures = new ArrayList<>();
+    listener.expectResponse(1L, callback(results, failures));
+    listener.expectResponse(2L, callback(results, failures));
+
+    listener.onMessage(null, "{\"result\":[\"ethbtc@depth\",\"bnbbtc@depth\"],\"id\":2}");
+    assertEquals(Collections.singleton(1L), listener.getPendingRequestIds());
+    assertEquals(Collections.singletonList(Arrays.asList("ethbtc@depth", "bnbbtc@depth")), results);
+
+    listener.onMessage(null, "{\"error\":{\"code\":2,\"msg\":\"Invalid request: unknown variant\"},\"id\":1}");
+    assertEquals(Collections.emptySet(), listener.getPendingRequestIds());
+    assertEquals(1, failures.size());
+    assertEquals(2, ((BinanceApiException) failures.get(0)).getError().getCode());
+  }
+
+  @Test
+  public void shouldAttachAndDetachStreams() {
+    List<DepthEvent> ltcEvents = new ArrayList<>();
+    CombinedStream.Route<?> route = new CombinedStream().onDepthEvent("ltcbtc", ltcEvents::add).getRoutes().iterator().next();
+    String message = "{\"stream\":\"ltcbtc@depth\",\"data\":{\"e\":\"depthUpdate\",\"s\":\"LTCBTC\"}}";
+
+    listener.attach(route);
+    listener.onMessage(null, message);
+    assertTrue(listener.detach(route));
+    assertFalse(listener.detach("ltcbtc@depth"));
+    listener.onMessage(null, message);
+
+    assertEquals(1, ltcEvents.size());
+    assertEquals(0, depthEvents.size());
+  }
+
+  @Test
+  public void shouldNotifyEachCallbackOnceOnFailure() {
+    List<Throwable> failures = new ArrayList<>();
+    BinanceApiCallback<DepthEvent> callback = new BinanceApiCallback<DepthEvent>() {
+      @Override
+      public void onResponse(DepthEvent response) {
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        failures.add(cause);
+      }
+    };
+    new BinanceApiCombinedStreamListener(new CombinedStream().onDepthEvent("ethbtc,bnbbtc", callback).getRoutes())
+        .onFailure(null, new IllegalStateException(), null);
+
+    assertEquals(1, failures.size());
+  }
+
+  private static <T> BinanceApiCallback<T> callback(List<T> responses, List<Throwable> failures) {
+    return new BinanceApiCallback<T>() {
+      @Override
+      public void onResponse(T response) {
+        responses.add(response);
+      }
+
+      @Override
+      public void onFailure(Throwable cause) {
+        failures.add(cause);
+      }
+    };
+  }
+}
@@ -0,0 +1,190 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.domain.TimeInForce;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see BinanceApiWebSocketTradingClientImpl
+ */
+public class BinanceApiWebSocketTradingClientImplTest {
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private final List<String> sent = new ArrayList<>();
+
+  private final List<String> payloads = new ArrayList<>();
+
+  private WebSocketListener listener;
+
+  private BinanceApiWebSocketTradingClientImpl client;
+
+  @Before
+  public void connect() {
+    client = new BinanceApiWebSocketTradingClientImpl(listener -> {
+      this.listener = listener;
+      return new FakeWebSocket();
+    }, "key", payload -> {
+      payloads.add(payload);
+      return "sig";
+    }, () -> 1499827319559L, Runnable::run);
+  }
+
+  @Test
+  public void shouldMatchPipelinedResponsesById() throws Exception {
+    CompletableFuture<NewOrderResponse> buy = client.newOrder(NewOrder.limitBuy("LTCBTC", TimeInForce.GTC, "1", "0.1").recvWindow(5000L));
+    CompletableFuture<CancelOrderResponse> cancel = client.cancelOrder(new CancelOrderRequest("LTCBTC", 42L));
+    assertEquals(2, client.getPendingRequestCount());
+
+    JsonNode place = sent(0);
+    assertEquals("order.place", place.get("method").asText());
+    assertEquals("apiKey=key&newOrderRespType=RESULT&price=0.1&quantity=1&recvWindow=5000&side=BUY&symbol=LTCBTC"
+        + "&timeInForce=GTC&timestamp=1499827319559&type=LIMIT", payloads.get(0));
+    assertEquals("sig", place.get("params").get("signature").asText());
+    assertEquals(1499827319559L, place.get("params").get("timestamp").asLong());
+    assertEquals("order.cancel", sent(1).get("method").asText());
+
+    respond(sent(1), "{\"symbol\":\"LTCBTC\",\"orderId\":42,\"status\":\"CANCELED\"}");
+    respond(place, "{\"symbol\":\"LTCBTC\",\"orderId\":43,\"status\":\"NEW\"}");
+
+    assertEquals(Long.valueOf(42L), cancel.get().getOrderId());
+    assertEquals(Long.valueOf(43L), buy.get().getOrderId());
+    assertEquals(0, client.getPendingRequestCount());
+  }
+
+  @Test
+  public void shouldStopSigningOnceLoggedOn() throws Exception {
+    CompletableFuture<Void> logon = client.logon();
+    assertEquals("session.logon", sent(0).get("method").asText());
+    assertEquals("apiKey=key&timestamp=1499827319559", payloads.get(0));
+    respond(sent(0), "{\"apiKey\":\"key\"}");
+    logon.get();
+    assertTrue(client.isLoggedOn());
+
+    client.newOrder(NewOrder.marketSell("LTCBTC", "1"));
+    JsonNode params = sent(1).get("params");
+    assertFalse(params.has("apiKey"));
+    assertFalse(params.has("signature"));
+    assertEquals(1499827319559L, params.get("timestamp").asLong());
+    assertEquals(1, payloads.size());
+  }
+
+  @Test
+  public void shouldNotBeLoggedOnWhenClosedBeforeLogonCompletes() throws Exception {
+    List<Runnable> completions = new ArrayList<>();
+    client = new BinanceApiWebSocketTradingClientImpl(listener -> {
+      this.listener = listener;
+      return new FakeWebSocket();
+    }, "key", payload -> "sig", () -> 1499827319559L, completions::add);
+    CompletableFuture<Void> logon = client.logon();
+    respond(sent(0), "{\"apiKey\":\"key\"}");
+    listener.onFailure(null, new IOException("Connection reset"), null);
+    completions.forEach(Runnable::run);
+
+    logon.get();
+    assertFalse(client.isLoggedOn());
+    assertTrue(client.isClosed());
+  }
+
+  @Test
+  public void shouldFailRejectedRequestsWithTheirError() throws Exception {
+    CompletableFuture<NewOrderResponse> order = client.newOrder(NewOrder.marketBuy("LTCBTC", "1"));
+    listener.onMessage(null, "{\"id\":" + sent(0).get("id") + ",\"status\":400,"
+        + "\"error\":{\"code\":-2010,\"msg\":\"Account has insufficient balance for requested action.\"}}");
+
+    BinanceApiException cause = failure(order);
+    assertFalse(cause instanceof UnknownExecutionStatusException);
+    assertEquals(400, cause.getStatusCode());
+    assertEquals(-2010, cause.getError().getCode());
+  }
+
+  @Test
+  public void shouldFailUnansweredOrdersWithUnknownStatusOnDisconnect() throws Exception {
+    CompletableFuture<NewOrderResponse> order = client.newOrder(NewOrder.marketBuy("LTCBTC", "1"));
+    CompletableFuture<Void> test = client.newOrderTest(NewOrder.marketBuy("LTCBTC", "1"));
+    assertFalse(client.isClosed());
+    listener.onFailure(null, new IOException("Connection reset"), null);
+
+    assertTrue(client.isClosed());
+
+    assertTrue(failure(order) instanceof UnknownExecutionStatusException);
+    assertFalse(failure(test) instanceof UnknownExecutionStatusException);
+    BinanceApiException closed = failure(client.newOrder(NewOrder.marketBuy("LTCBTC", "1")));
+    assertFalse(closed instanceof UnknownExecutionStatusException);
+    assertEquals(0, client.getPendingRequestCount());
+  }
+
+  private JsonNode sent(int index) throws IOException {
+    return mapper.readTree(sent.get(index));
+  }
+
+  private void respond(JsonNode request, String result) {
+    listener.onMessage(null, "{\"id\":" + request.get("id") + ",\"status\":200,\"result\":" + result + "}");
+  }
+
+  private static BinanceApiException failure(CompletableFuture<?> future) throws InterruptedException {
+    try {
+      future.get();
+      fail("The request should have failed");
+      return null;
+    } catch (ExecutionException e) {
+      return (BinanceApiException) e.getCause();
+    }
+  }
+
+  private class FakeWebSocket implements WebSocket {
+
+    @Override
+    public Request request() {
+      return new Request.Builder().url("https://ws-api.binance.com/ws-api/v3").build();
+    }
+
+    @Override
+    public long queueSize() {
+      return 0;
+    }
+
+    @Override
+    public boolean send(String text) {
+      sent.add(text);
+      return true;
+    }
+
+    @Override
+    public boolean send(ByteString bytes) {
+      return false;
+    }
+
+    @Override
+    public boolean close(int code, String reason) {
+      return true;
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+}
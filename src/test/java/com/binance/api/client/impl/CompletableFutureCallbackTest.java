@@ -0,0 +1,82 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.domain.general.ServerTime;
+import com.binance.api.client.exception.BinanceApiException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see CompletableFutureCallback
+ */
+public class CompletableFutureCallbackTest {
+
+  private HttpServer server;
+
+  private ExecutorService executor;
+
+  private BinanceApiService service;
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/api/v1/time", exchange -> respond(exchange, 200, "{\"serverTime\":1600000000000}"));
+    server.createContext("/api/v1/ping", exchange -> respond(exchange, 400, "{\"code\":-1100,\"msg\":\"Illegal characters.\"}"));
+    server.start();
+    executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "completion-thread"));
+    service = BinanceApiServiceGenerator.createService(BinanceApiService.class, null, null, new OkHttpClient(),
+        "http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  @Test
+  public void shouldCompleteOnGivenExecutor() throws Exception {
+    String thread = CompletableFutureCallback.enqueue(service.getServerTime(), executor)
+        .thenApply(serverTime -> serverTime.getServerTime() + "@" + Thread.currentThread().getName())
+        .get(5, TimeUnit.SECONDS);
+
+    assertEquals("1600000000000@completion-thread", thread);
+  }
+
+  @Test
+  public void shouldCompleteExceptionallyWithApiError() throws Exception {
+    try {
+      CompletableFutureCallback.enqueue(service.ping(), executor).get(5, TimeUnit.SECONDS);
+      fail();
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof BinanceApiException);
+      BinanceApiException cause = (BinanceApiException) e.getCause();
+      assertEquals(400, cause.getStatusCode());
+      assertEquals(-1100, cause.getError().getCode());
+    }
+  }
+}
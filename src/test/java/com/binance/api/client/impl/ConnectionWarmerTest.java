@@ -0,0 +1,83 @@
+package com.binance.api.client.impl;
+
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ConnectionWarmer
+ */
+public class ConnectionWarmerTest {
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private String baseUrl;
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      try {
+        // keep requests in flight together, so that each needs its own connection
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void shouldOpenRequestedConnections() throws Exception {
+    OkHttpClient client = new OkHttpClient();
+    try (ConnectionWarmer warmer = new ConnectionWarmer(client, baseUrl, 3, 1, TimeUnit.MINUTES)) {
+      assertFalse(warmer.isWarm());
+
+      assertTrue(warmer.start().awaitWarm(5, TimeUnit.SECONDS));
+      assertEquals(3, warmer.getSuccessCount());
+      assertEquals(0, warmer.getFailureCount());
+      assertEquals(3, warmer.getConnectionCount());
+      assertTrue(warmer.getLastRoundTripNanos() > 0);
+    }
+  }
+
+  @Test
+  public void shouldNotBeWarmWhenPingsFail() throws Exception {
+    server.stop(0);
+    try (ConnectionWarmer warmer = new ConnectionWarmer(new OkHttpClient(), baseUrl, 2, 1, TimeUnit.MINUTES)) {
+      assertFalse(warmer.start().awaitWarm(5, TimeUnit.SECONDS));
+      assertEquals(2, warmer.getFailureCount());
+      assertTrue(warmer.getLastError() instanceof IOException);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.config.RequestLane;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see LaneRouter
+ */
+public class LaneRouterTest {
+
+  private final List<RequestLane> calls = new ArrayList<>();
+
+  @Test
+  public void shouldRouteByLaneAnnotation() {
+    BinanceApiService service = LaneRouter.create(BinanceApiService.class, services(RequestLane.values()), Collections.emptyMap());
+    service.newOrder(null, null, null, null, null, null, null, null, null, null, null, null);
+    service.cancelOrder(null, null, null, null, null, null);
+    service.getExchangeInfo();
+    service.getAllOrders(null, null, null, null, null);
+    service.ping();
+
+    assertEquals(Arrays.asList(RequestLane.ORDER, RequestLane.ORDER, RequestLane.BULK, RequestLane.BULK, RequestLane.DEFAULT), calls);
+  }
+
+  @Test
+  public void shouldRouteByAssignmentAndFallBackToDefaultLane() {
+    BinanceApiService service = LaneRouter.create(BinanceApiService.class, services(RequestLane.ORDER, RequestLane.DEFAULT),
+        Collections.singletonMap("ping", RequestLane.ORDER));
+    service.ping();
+    service.getExchangeInfo();
+
+    assertEquals(Arrays.asList(RequestLane.ORDER, RequestLane.DEFAULT), calls);
+  }
+
+  private Map<RequestLane, BinanceApiService> services(RequestLane... lanes) {
+    Map<RequestLane, BinanceApiService> services = new EnumMap<>(RequestLane.class);
+    for (RequestLane lane : lanes) {
+      services.put(lane, (BinanceApiService) Proxy.newProxyInstance(BinanceApiService.class.getClassLoader(),
+          new Class<?>[]{BinanceApiService.class}, (proxy, method, args) -> {
+            calls.add(lane);
+            return null;
+          }));
+    }
+    return services;
+  }
+}
@@ -0,0 +1,246 @@
+package com.binance.api.client.impl;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiError;
+import com.binance.api.client.BinanceApiStreamCallback;
+import com.binance.api.client.BinanceApiWebSocketConnection;
+import com.binance.api.client.CombinedStream;
+import com.binance.api.client.exception.BinanceApiException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ReconnectingWebSocketConnection
+ */
+public class ReconnectingWebSocketConnectionTest {
+
+  private final List<FakeConnection> connections = new CopyOnWriteArrayList<>();
+
+  private final List<String> events = new CopyOnWriteArrayList<>();
+
+  private final List<String> gaps = new CopyOnWriteArrayList<>();
+
+  private final BinanceApiStreamCallback<String> callback = new BinanceApiStreamCallback<String>() {
+    @Override
+    public void onResponse(String event) {
+      events.add(event);
+    }
+
+    @Override
+    public void onGap(String stream) {
+      gaps.add(stream);
+    }
+  };
+
+  @Test
+  public void shouldReconnectAndResubscribeAfterFailure() throws Exception {
+    try (ReconnectingWebSocketConnection connection = open(60_000L)) {
+      connections.get(0).emit("ethbtc@trade", "a");
+      connections.get(0).fail();
+      await(() -> connections.size() == 2);
+
+      assertTrue(connections.get(0).closed);
+      assertEquals(Arrays.asList("ethbtc@trade", "bnbbtc@trade"), connections.get(1).streams.getStreams());
+      assertEquals(Arrays.asList("ethbtc@trade", "bnbbtc@trade"), gaps);
+      connections.get(1).emit("bnbbtc@trade", "b");
+      assertEquals(Arrays.asList("a", "b"), events);
+      assertTrue(connection.isConnected());
+    }
+  }
+
+  @Test
+  public void shouldHandOverBeforeMaximumAgeWithoutGap() throws Exception {
+    try (ReconnectingWebSocketConnection connection = open(100L)) {
+      await(() -> connections.size() == 2);
+      connections.get(0).emit("ethbtc@trade", "old-1");
+      connections.get(1).emit("ethbtc@trade", "new-1");
+      connections.get(0).emit("ethbtc@trade", "old-2");
+      connections.get(0).emit("bnbbtc@trade", "old-3");
+      await(() -> connections.get(0).closed);
+
+      assertEquals(Arrays.asList("old-1", "new-1", "old-3"), events);
+      assertEquals(Collections.emptyList(), gaps);
+      assertTrue(connection.getConnectionCount() >= 2);
+    }
+  }
+
+  @Test
+  public void shouldDeliverOneEventAtATimeWhileHandingOver() throws Exception {
+    CountDownLatch entered = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    try (ReconnectingWebSocketConnection connection = open(new CombinedStream().onStream("ethbtc@trade", String.class, event -> {
+      events.add(event);
+      if (event.equals("old-1")) {
+        entered.countDown();
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+    }), 100L)) {
+      await(() -> connections.size() == 2);
+      Thread oldReader = new Thread(() -> connections.get(0).emit("ethbtc@trade", "old-1"));
+      oldReader.start();
+      assertTrue(entered.await(1, TimeUnit.SECONDS));
+      Thread newReader = new Thread(() -> connections.get(1).emit("ethbtc@trade", "new-1"));
+      newReader.start();
+      newReader.join(100L);
+
+      assertTrue(newReader.isAlive());
+      release.countDown();
+      newReader.join();
+      oldReader.join();
+      connections.get(0).emit("ethbtc@trade", "old-2");
+      assertEquals(Arrays.asList("old-1", "new-1"), events);
+      assertTrue(connection.getConnectionCount() >= 2);
+    }
+  }
+
+  @Test
+  public void shouldReconnectWithoutStreams() throws Exception {
+    try (ReconnectingWebSocketConnection connection = open(new CombinedStream())) {
+      connections.get(0).fail();
+      await(() -> connections.size() == 2);
+
+      assertTrue(connections.get(0).closed);
+      assertEquals(2, connection.getConnectionCount());
+    }
+  }
+
+  @Test
+  public void shouldKeepStreamsSubscribedOnDeadConnectionForReconnection() throws Exception {
+    try (ReconnectingWebSocketConnection connection = open(60_000L)) {
+      connections.get(0).dead = true;
+      assertEquals(-1L, connection.subscribe(new CombinedStream().onStream("ltcbtc@trade", String.class, callback)));
+      await(() -> connections.size() == 2);
+
+      assertEquals(Arrays.asList("ethbtc@trade", "bnbbtc@trade", "ltcbtc@trade"), connections.get(1).streams.getStreams());
+      assertEquals(Arrays.asList("ethbtc@trade", "bnbbtc@trade", "ltcbtc@trade"), gaps);
+    }
+  }
+
+  @Test
+  public void shouldDropRejectedStreams() throws Exception {
+    List<Throwable> failures = new ArrayList<>();
+    try (ReconnectingWebSocketConnection connection = open(60_000L)) {
+      connection.subscribe(new CombinedStream().onStream("ltcbtc@trade", String.class, new BinanceApiCallback<String>() {
+        @Override
+        public void onResponse(String response) {
+        }
+
+        @Override
+        public void onFailure(Throwable cause) {
+          failures.add(cause);
+        }
+      }));
+      connections.get(0).subscribed.get(0).getRoutes().iterator().next().getCallback().onFailure(new BinanceApiException(new BinanceApiError()));
+
+      assertEquals(1, failures.size());
+      assertEquals(Arrays.asList("ethbtc@trade", "bnbbtc@trade"), new ArrayList<>(connection.getStreams()));
+      assertEquals(1, connections.size());
+    }
+  }
+
+  private ReconnectingWebSocketConnection open(long maxConnectionAgeMillis) {
+    return open(new CombinedStream()
+        .onStream("ethbtc@trade", String.class, callback)
+        .onStream("bnbbtc@trade", String.class, callback), maxConnectionAgeMillis);
+  }
+
+  private ReconnectingWebSocketConnection open(CombinedStream streams) {
+    return open(streams, 60_000L);
+  }
+
+  private ReconnectingWebSocketConnection open(CombinedStream streams, long maxConnectionAgeMillis) {
+    return new ReconnectingWebSocketConnection(s -> {
+      FakeConnection connection = new FakeConnection(s);
+      connections.add(connection);
+      return connection;
+    }, streams, 1L, 1L, maxConnectionAgeMillis, 100L);
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) {
+      Thread.sleep(10);
+    }
+    assertTrue(condition.getAsBoolean());
+  }
+
+  private static class FakeConnection implements BinanceApiWebSocketConnection {
+
+    private final CombinedStream streams;
+
+    private final List<CombinedStream> subscribed = new ArrayList<>();
+
+    private volatile boolean closed;
+
+    private volatile boolean dead;
+
+    private FakeConnection(CombinedStream streams) {
+      this.streams = streams;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emit(String stream, String event) {
+      for (CombinedStream.Route<?> route : streams.getRoutes()) {
+        if (route.getStream().equals(stream)) {
+          ((BinanceApiCallback<String>) route.getCallback()).onResponse(event);
+        }
+      }
+    }
+
+    private void fail() {
+      IOException cause = new IOException("connection reset");
+      streams.getConnectionFailureHandler().accept(cause);
+      streams.getRoutes().forEach(route -> route.getCallback().onFailure(cause));
+    }
+
+    @Override
+    public long subscribe(CombinedStream streams) {
+      if (dead) {
+        throw new BinanceApiException("Web socket connection is closed");
+      }
+      subscribed.add(streams);
+      return subscribed.size();
+    }
+
+    @Override
+    public long unsubscribe(List<String> streams) {
+      return 0;
+    }
+
+    @Override
+    public long listSubscriptions(BinanceApiCallback<List<String>> callback) {
+      return 0;
+    }
+
+    @Override
+    public Set<String> getStreams() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public Set<Long> getPendingRequestIds() {
+      return Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
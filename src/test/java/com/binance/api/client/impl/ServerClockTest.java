@@ -0,0 +1,97 @@
+package com.binance.api.client.impl;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see ServerClock
+ */
+public class ServerClockTest {
+
+  private final AtomicLong localTime = new AtomicLong(1_000_000L);
+
+  private final AtomicLong calls = new AtomicLong();
+
+  private long serverAhead = 500L;
+
+  /**
+   * Server answering ahead of the local clock, half way through the given round trips, in turn.
+   */
+  private long serverTime(long... roundTrips) {
+    long roundTrip = roundTrips[(int) (calls.getAndIncrement() % roundTrips.length)];
+    localTime.addAndGet(roundTrip / 2);
+    long serverTime = localTime.get() + serverAhead;
+    localTime.addAndGet(roundTrip - roundTrip / 2);
+    return serverTime;
+  }
+
+  /**
+   * Monotonic clock, in step with the local clock.
+   */
+  private long nanoTime() {
+    return TimeUnit.MILLISECONDS.toNanos(localTime.get());
+  }
+
+  @Test
+  public void shouldKeepSampleOfShortestRoundTrip() {
+    ServerClock clock = new ServerClock(() -> serverTime(20, 4, 10, 30), localTime::get, this::nanoTime, 1, TimeUnit.MINUTES);
+
+    assertFalse(clock.isSynced());
+    assertEquals(localTime.get(), clock.currentTimeMillis());
+    assertTrue(clock.sync());
+    assertEquals(500L, clock.getOffsetMillis());
+    assertEquals(4L, clock.getRoundTripMillis());
+    assertEquals(localTime.get() + 500L, clock.currentTimeMillis());
+    assertTrue(clock.isSynced());
+  }
+
+  @Test
+  public void shouldSmoothOffsetUnlessItJumps() {
+    ServerClock clock = new ServerClock(() -> serverTime(2), localTime::get, this::nanoTime, 1, TimeUnit.MINUTES);
+    clock.sync();
+
+    serverAhead = 540L;
+    clock.sync();
+    assertEquals(510L, clock.getOffsetMillis());
+    serverAhead = 5_000L;
+    clock.sync();
+    assertEquals(5_000L, clock.getOffsetMillis());
+  }
+
+  @Test
+  public void shouldTimeRoundTripsOnMonotonicClock() {
+    AtomicLong wallClock = new AtomicLong(localTime.get());
+    ServerClock clock = new ServerClock(() -> {
+      long serverTime = serverTime(10);
+      // the local clock is set back while the request is in flight
+      wallClock.addAndGet(-60_000L);
+      return serverTime;
+    }, wallClock::get, this::nanoTime, 1, TimeUnit.MINUTES);
+
+    assertTrue(clock.sync());
+    assertEquals(10L, clock.getRoundTripMillis());
+  }
+
+  @Test
+  public void shouldKeepOffsetWhenSamplingFails() {
+    ServerClock clock = new ServerClock(() -> serverTime(2), localTime::get, this::nanoTime, 1, TimeUnit.MINUTES);
+    clock.sync();
+    IllegalStateException failure = new IllegalStateException();
+    ServerClock failing = new ServerClock(() -> {
+      throw failure;
+    }, localTime::get, this::nanoTime, 1, TimeUnit.MINUTES);
+
+    assertFalse(failing.sync());
+    assertEquals(failure, failing.getLastError());
+    assertEquals(-1L, failing.getRoundTripMillis());
+    assertEquals(500L, clock.getOffsetMillis());
+    localTime.addAndGet(TimeUnit.MINUTES.toMillis(3));
+    assertFalse(clock.isSynced());
+  }
+}
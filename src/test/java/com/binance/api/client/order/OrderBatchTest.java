@@ -0,0 +1,158 @@
+package com.binance.api.client.order;
+
+import com.binance.api.client.BinanceApiAsyncRestClient;
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.NewOrderResponse;
+import com.binance.api.client.domain.account.request.CancelOrderResponse;
+import com.binance.api.client.domain.account.request.OrderRequest;
+import com.binance.api.client.domain.general.RateLimit;
+import com.binance.api.client.domain.general.RateLimitInterval;
+import com.binance.api.client.domain.general.RateLimitType;
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.ratelimit.RateLimiter;
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see OrderBatch
+ */
+public class OrderBatchTest {
+
+  private final Map<String, BinanceApiCallback<Object>> inFlight = new ConcurrentHashMap<>();
+
+  private final List<String> sent = new CopyOnWriteArrayList<>();
+
+  private OrderBatch batch;
+
+  @After
+  public void close() {
+    batch.close();
+  }
+
+  @Test
+  public void shouldReportResultsInSubmissionOrder() throws Exception {
+    batch = new OrderBatch(fakeClient(null), null, 2);
+    CompletableFuture<List<BatchResult<NewOrderResponse>>> results = batch.newOrders(Arrays.asList(
+        order("a"), order("b"), order("c"), order("d")));
+    assertEquals(Arrays.asList("a", "b"), sent);
+
+    respond("b");
+    assertEquals(Arrays.asList("a", "b", "c"), sent);
+    inFlight.remove("c").onFailure(new BinanceApiException("Rejected"));
+    respond("d");
+    respond("a");
+
+    List<BatchResult<NewOrderResponse>> all = results.get(1, TimeUnit.SECONDS);
+    assertEquals("a", all.get(0).getResponse().getClientOrderId());
+    assertEquals("b", all.get(1).getResponse().getClientOrderId());
+    assertFalse(all.get(2).isSuccess());
+    assertEquals("Rejected", all.get(2).getFailure().getMessage());
+    assertEquals("d", all.get(3).getResponse().getClientOrderId());
+  }
+
+  @Test
+  public void shouldCancelOpenOrdersOfEverySymbol() throws Exception {
+    batch = new OrderBatch(fakeClient(null));
+    CompletableFuture<List<BatchResult<List<CancelOrderResponse>>>> results =
+        batch.cancelOpenOrders(Arrays.asList("LTCBTC", "BNBBTC"));
+    assertEquals(Arrays.asList("LTCBTC", "BNBBTC"), sent);
+
+    inFlight.remove("BNBBTC").onResponse(Collections.emptyList());
+    inFlight.remove("LTCBTC").onResponse(Collections.singletonList(new CancelOrderResponse()));
+
+    List<BatchResult<List<CancelOrderResponse>>> all = results.get(1, TimeUnit.SECONDS);
+    assertEquals(1, all.get(0).getResponse().size());
+    assertEquals(0, all.get(1).getResponse().size());
+    assertTrue(batch.cancelOrders(Collections.emptyList()).get().isEmpty());
+  }
+
+  @Test
+  public void shouldWaitForOrderLimits() throws Exception {
+    RateLimit rateLimit = new RateLimit();
+    rateLimit.setRateLimitType(RateLimitType.ORDERS);
+    rateLimit.setInterval(RateLimitInterval.SECOND);
+    rateLimit.setIntervalNum(1);
+    rateLimit.setLimit(1);
+    RateLimiter rateLimiter = new RateLimiter(Collections.singletonList(rateLimit));
+    batch = new OrderBatch(fakeClient(rateLimiter), rateLimiter, 3);
+
+    List<BatchResult<NewOrderResponse>> all = batch.newOrders(Arrays.asList(order("a"), order("b")))
+        .get(5, TimeUnit.SECONDS);
+
+    assertTrue(all.get(0).isSuccess());
+    assertTrue(all.get(1).isSuccess());
+  }
+
+  @Test
+  public void shouldSendWaitingOrdersWhenClosed() throws Exception {
+    RateLimit rateLimit = new RateLimit();
+    rateLimit.setRateLimitType(RateLimitType.ORDERS);
+    rateLimit.setInterval(RateLimitInterval.MINUTE);
+    rateLimit.setIntervalNum(1);
+    rateLimit.setLimit(1);
+    RateLimiter rateLimiter = new RateLimiter(Collections.singletonList(rateLimit));
+    batch = new OrderBatch(fakeClient(rateLimiter), rateLimiter, 2);
+    CompletableFuture<List<BatchResult<NewOrderResponse>>> results = batch.newOrders(Arrays.asList(order("a"), order("b")));
+    assertEquals(Collections.singletonList("a"), sent);
+
+    batch.close();
+    List<BatchResult<NewOrderResponse>> all = results.get(1, TimeUnit.SECONDS);
+    assertEquals(Arrays.asList("a", "b"), sent);
+    assertTrue(all.get(0).isSuccess());
+    assertEquals("Rate limit would be exceeded", all.get(1).getFailure().getMessage());
+  }
+
+  private static NewOrder order(String clientOrderId) {
+    return NewOrder.marketBuy("LTCBTC", "1").newClientOrderId(clientOrderId);
+  }
+
+  private void respond(String clientOrderId) {
+    NewOrderResponse response = new NewOrderResponse();
+    response.setClientOrderId(clientOrderId);
+    inFlight.remove(clientOrderId).onResponse(response);
+  }
+
+  /**
+   * @param rateLimiter the limiter the client enforces, answering right away, or null to answer on demand
+   */
+  @SuppressWarnings("unchecked")
+  private BinanceApiAsyncRestClient fakeClient(RateLimiter rateLimiter) {
+    return (BinanceApiAsyncRestClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{BinanceApiAsyncRestClient.class}, (proxy, method, args) -> {
+          String key;
+          if (method.getName().equals("newOrder")) {
+            key = ((NewOrder) args[0]).getNewClientOrderId();
+          } else if (method.getName().equals("cancelOpenOrders")) {
+            key = ((OrderRequest) args[0]).getSymbol();
+          } else {
+            throw new UnsupportedOperationException(method.getName());
+          }
+          sent.add(key);
+          BinanceApiCallback<Object> callback = (BinanceApiCallback<Object>) args[1];
+          if (rateLimiter == null) {
+            inFlight.put(key, callback);
+          } else if (rateLimiter.tryAcquire(1, 1)) {
+            callback.onResponse(new NewOrderResponse());
+          } else {
+            callback.onFailure(new BinanceApiException("Rate limit would be exceeded"));
+          }
+          return null;
+        });
+  }
+}
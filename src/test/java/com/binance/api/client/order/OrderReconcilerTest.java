@@ -0,0 +1,132 @@
+package com.binance.api.client.order;
+
+import com.binance.api.client.BinanceApiAsyncRestClient;
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiError;
+import com.binance.api.client.domain.account.NewOrder;
+import com.binance.api.client.domain.account.Order;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.exception.UnknownExecutionStatusException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see OrderReconciler
+ */
+public class OrderReconcilerTest {
+
+  private final Deque<Object> outcomes = new ArrayDeque<>();
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  private final OrderReconciler reconciler = new OrderReconciler(fakeClient(), 3, 10L);
+
+  @After
+  public void close() {
+    reconciler.close();
+  }
+
+  @Test
+  public void shouldRetryUntilOrderIsVisible() throws Exception {
+    Order order = new Order();
+    order.setClientOrderId("my-order");
+    outcomes.addAll(Arrays.asList(noSuchOrder(), timeout(), order));
+
+    assertSame(order, reconciler.reconcile("BTCUSDT", "my-order").get(1, TimeUnit.SECONDS));
+    assertEquals(3, lookups.get());
+  }
+
+  @Test
+  public void shouldStayUnknownWhenOrderNeverVisible() throws Exception {
+    outcomes.addAll(Arrays.asList(noSuchOrder(), noSuchOrder(), noSuchOrder()));
+
+    UnknownExecutionStatusException unknownStatus = failure(reconciler.reconcile("BTCUSDT", "my-order"));
+    assertEquals(-2013, ((BinanceApiException) unknownStatus.getCause()).getError().getCode());
+  }
+
+  @Test
+  public void shouldFailReconciliationsWhenClosed() throws Exception {
+    OrderReconciler slowReconciler = new OrderReconciler(fakeClient(), 3, 60_000L);
+    outcomes.addAll(Arrays.asList(noSuchOrder(), noSuchOrder()));
+    CompletableFuture<Order> waiting = slowReconciler.reconcile("BTCUSDT", "my-order");
+    slowReconciler.close();
+
+    failure(waiting);
+    failure(slowReconciler.reconcile("BTCUSDT", "my-order"));
+    assertEquals(2, lookups.get());
+  }
+
+  @Test
+  public void shouldStayUnknownWhenNoLookupSucceeds() throws Exception {
+    outcomes.addAll(Arrays.asList(timeout(), timeout(), timeout()));
+
+    failure(reconciler.reconcile("BTCUSDT", "my-order"));
+    assertEquals(3, lookups.get());
+  }
+
+  @Test
+  public void shouldGiveOrdersClientOrderId() {
+    NewOrder order = OrderReconciler.withClientOrderId(NewOrder.marketBuy("BTCUSDT", "1"));
+
+    assertNotNull(order.getNewClientOrderId());
+    assertSame(order.getNewClientOrderId(), OrderReconciler.withClientOrderId(order).getNewClientOrderId());
+  }
+
+  private static UnknownExecutionStatusException failure(CompletableFuture<Order> future) throws Exception {
+    try {
+      future.get(1, TimeUnit.SECONDS);
+      fail("The reconciliation should have failed");
+      return null;
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof UnknownExecutionStatusException);
+      return (UnknownExecutionStatusException) e.getCause();
+    }
+  }
+
+  private static BinanceApiException noSuchOrder() {
+    BinanceApiError error = new BinanceApiError();
+    error.setCode(-2013);
+    error.setMsg("Order does not exist.");
+    return new BinanceApiException(error, 400, Collections.emptyMap());
+  }
+
+  private static BinanceApiException timeout() {
+    return new UnknownExecutionStatusException(null, 504, Collections.emptyMap());
+  }
+
+  @SuppressWarnings("unchecked")
+  private BinanceApiAsyncRestClient fakeClient() {
+    return (BinanceApiAsyncRestClient) Proxy.newProxyInstance(getClass().getClassLoader(),
+        new Class<?>[]{BinanceApiAsyncRestClient.class}, (proxy, method, args) -> {
+          if (!method.getName().equals("getOrderStatus") || !(args[0] instanceof OrderStatusRequest)) {
+            throw new UnsupportedOperationException(method.getName());
+          }
+          lookups.incrementAndGet();
+          Object outcome = outcomes.poll();
+          BinanceApiCallback<Order> callback = (BinanceApiCallback<Order>) args[1];
+          if (outcome instanceof Throwable) {
+            callback.onFailure((Throwable) outcome);
+          } else {
+            callback.onResponse((Order) outcome);
+          }
+          return null;
+        });
+  }
+}
@@ -0,0 +1,156 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.market.FixedDecimal;
+import com.binance.api.client.domain.market.OrderBook;
+import com.binance.api.client.domain.market.OrderBookEntry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @see LocalOrderBook
+ */
+public class LocalOrderBookTest {
+
+  private Deque<OrderBook> snapshots;
+  private int snapshotRequests;
+  private LocalOrderBook orderBook;
+
+  @Before
+  public void setUp() {
+    snapshots = new ArrayDeque<>();
+    snapshotRequests = 0;
+    OrderBookSnapshotSource source = symbol -> {
+      snapshotRequests++;
+      return snapshots.poll();
+    };
+    orderBook = new LocalOrderBook("ethbtc", 2, 3, source, Runnable::run, 100, 0L);
+  }
+
+  @Test
+  public void shouldReplayBufferedEventsOnTopOfSnapshot() {
+    snapshots.add(orderBook(100, levels("10.00", "1.000", "9.50", "2.000"), levels("10.50", "1.500")));
+
+    orderBook.onResponse(depthEvent(95, 101, levels("10.00", "0"), levels("10.25", "0.500")));
+
+    assertEquals(OrderBookState.SYNCED, orderBook.getState());
+    assertEquals(1, snapshotRequests);
+    assertEquals(101L, orderBook.getLastUpdateId());
+    assertEquals(FixedDecimal.parse("9.50"), orderBook.getBestBid().getPriceValue());
+    assertEquals(FixedDecimal.parse("10.25"), orderBook.getBestAsk().getPriceValue());
+    assertEquals(FixedDecimal.parse("0.5"), orderBook.getBestAsk().getQtyValue());
+  }
+
+  @Test
+  public void shouldIgnoreEventsAlreadyInSnapshot() {
+    snapshots.add(orderBook(100, levels("10.00", "1.000"), levels("10.50", "1.500")));
+
+    orderBook.onResponse(depthEvent(90, 95, levels("10.00", "7.000"), levels()));
+    orderBook.onResponse(depthEvent(96, 102, levels("10.10", "1.000"), levels()));
+
+    assertEquals(OrderBookState.SYNCED, orderBook.getState());
+    assertEquals(FixedDecimal.parse("10.10"), orderBook.getBestBid().getPriceValue());
+    assertEquals(2, orderBook.snapshot(10).getBidCount());
+    assertEquals(FixedDecimal.parse("1.000"), orderBook.snapshot(10).getBidQuantity(1));
+  }
+
+  @Test
+  public void shouldResnapshotOnGap() {
+    snapshots.add(orderBook(100, levels("10.00", "1.000"), levels("10.50", "1.500")));
+    orderBook.onResponse(depthEvent(101, 101, levels(), levels()));
+    assertEquals(OrderBookState.SYNCED, orderBook.getState());
+
+    snapshots.add(orderBook(110, levels("9.00", "1.000"), levels("9.50", "1.500")));
+    orderBook.onResponse(depthEvent(105, 111, levels("9.10", "3.000"), levels()));
+
+    assertEquals(OrderBookState.SYNCED, orderBook.getState());
+    assertEquals(2, snapshotRequests);
+    assertEquals(1L, orderBook.getResyncCount());
+    assertEquals(111L, orderBook.getLastUpdateId());
+    assertEquals(FixedDecimal.parse("9.10"), orderBook.getBestBid().getPriceValue());
+  }
+
+  @Test
+  public void shouldStaySyncingOnStaleSnapshot() {
+    snapshots.add(orderBook(90, levels("10.00", "1.000"), levels()));
+
+    orderBook.onResponse(depthEvent(95, 101, levels(), levels()));
+
+    assertEquals(OrderBookState.SYNCING, orderBook.getState());
+    assertNull(orderBook.getBestBid());
+  }
+
+  @Test
+  public void shouldSnapshotBestLevelsFirst() {
+    snapshots.add(orderBook(1, levels("1.00", "1", "3.00", "1", "2.00", "1"), levels("6.00", "1", "4.00", "1", "5.00", "1")));
+    orderBook.onResponse(depthEvent(2, 2, levels(), levels()));
+
+    OrderBookSnapshot snapshot = orderBook.snapshot(2);
+    assertEquals(2, snapshot.getBidCount());
+    assertEquals("3.00", snapshot.getBidPrice(0).toString());
+    assertEquals("2.00", snapshot.getBidPrice(1).toString());
+    assertEquals("4.00", snapshot.getAskPrice(0).toString());
+    assertEquals("5.00", snapshot.getAskPrice(1).toString());
+    assertEquals("1.000", snapshot.getAskQuantity(1).toString());
+  }
+
+  @Test
+  public void shouldResyncOnLevelsOffTheBookScales() {
+    snapshots.add(orderBook(100, levels("10.00", "1.000"), levels("10.50", "1.500")));
+    orderBook.onResponse(depthEvent(101, 101, levels(), levels()));
+
+    snapshots.add(orderBook(102, levels("10.005", "1.000"), levels()));
+    orderBook.onResponse(depthEvent(102, 102, levels("10.10", "1.000", "10.005", "1.000"), levels()));
+    assertEquals(OrderBookState.SYNCING, orderBook.getState());
+    assertEquals(1L, orderBook.getResyncCount());
+    assertNotNull(orderBook.getLastUpdateError());
+    assertNull(orderBook.getBestBid());
+
+    snapshots.add(orderBook(110, levels("9.00", "1.000"), levels("9.50", "1.500")));
+    orderBook.onResponse(depthEvent(111, 111, levels(), levels()));
+    assertEquals(OrderBookState.SYNCED, orderBook.getState());
+    assertEquals(3, snapshotRequests);
+    assertEquals(FixedDecimal.parse("9.00"), orderBook.getBestBid().getPriceValue());
+  }
+
+  private static OrderBook orderBook(long lastUpdateId, List<OrderBookEntry> bids, List<OrderBookEntry> asks) {
+    OrderBook orderBook = new OrderBook();
+    orderBook.setLastUpdateId(lastUpdateId);
+    orderBook.setBids(bids);
+    orderBook.setAsks(asks);
+    return orderBook;
+  }
+
+  private static DepthEvent depthEvent(long firstUpdateId, long finalUpdateId, List<OrderBookEntry> bids, List<OrderBookEntry> asks) {
+    DepthEvent depthEvent = new DepthEvent();
+    depthEvent.setSymbol("ETHBTC");
+    depthEvent.setFirstUpdateId(firstUpdateId);
+    depthEvent.setFinalUpdateId(finalUpdateId);
+    depthEvent.setBids(bids);
+    depthEvent.setAsks(asks);
+    return depthEvent;
+  }
+
+  private static List<OrderBookEntry> levels(String... priceQuantities) {
+    if (priceQuantities.length == 0) {
+      return Collections.emptyList();
+    }
+    OrderBookEntry[] entries = new OrderBookEntry[priceQuantities.length / 2];
+    for (int i = 0; i < entries.length; i++) {
+      entries[i] = new OrderBookEntry();
+      entries[i].setPrice(priceQuantities[2 * i]);
+      entries[i].setQty(priceQuantities[2 * i + 1]);
+    }
+    return Arrays.asList(entries);
+  }
+}
@@ -0,0 +1,86 @@
+package com.binance.api.client.orderbook;
+
+import com.binance.api.client.BinanceApiCallback;
+import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.general.SymbolInfo;
+import com.binance.api.client.domain.market.OrderBook;
+import org.junit.Test;
+
+import java.io.Closeable;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see OrderBookManager
+ */
+public class OrderBookManagerTest {
+
+  @Test
+  public void shouldGroupSymbolsIntoConnections() throws Exception {
+    Map<String, BinanceApiCallback<DepthEvent>> streams = new LinkedHashMap<>();
+    OrderBookManager manager = new OrderBookManager(webSocketClient(streams), symbol -> emptyOrderBook(10L), 1, 60_000,
+        Arrays.asList(symbolInfo("ETHBTC"), symbolInfo("BNBBTC"), symbolInfo("LTCBTC")), 2, 2);
+    try {
+      manager.start();
+      assertEquals(Arrays.asList("ethbtc,bnbbtc", "ltcbtc"), Arrays.asList(streams.keySet().toArray()));
+
+      streams.get("ltcbtc").onResponse(depthEvent("LTCBTC", 9, 11));
+      awaitState(manager.getOrderBook("ltcbtc"), OrderBookState.SYNCED);
+      assertEquals(11L, manager.getOrderBook("LTCBTC").getLastUpdateId());
+      assertEquals(Arrays.asList("ETHBTC", "BNBBTC"), manager.getSyncingSymbols());
+    } finally {
+      manager.close();
+    }
+  }
+
+  private static void awaitState(LocalOrderBook orderBook, OrderBookState state) throws InterruptedException {
+    for (int i = 0; i < 500 && orderBook.getState() != state; i++) {
+      Thread.sleep(10);
+    }
+    assertEquals(state, orderBook.getState());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static BinanceApiWebSocketClient webSocketClient(Map<String, BinanceApiCallback<DepthEvent>> streams) {
+    return (BinanceApiWebSocketClient) Proxy.newProxyInstance(BinanceApiWebSocketClient.class.getClassLoader(),
+        new Class<?>[]{BinanceApiWebSocketClient.class}, (proxy, method, args) -> {
+          if (method.getName().equals("onDepthEvent")) {
+            streams.put((String) args[0], (BinanceApiCallback<DepthEvent>) args[1]);
+            return (Closeable) () -> { };
+          }
+          throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  private static SymbolInfo symbolInfo(String symbol) {
+    SymbolInfo symbolInfo = new SymbolInfo();
+    symbolInfo.setSymbol(symbol);
+    symbolInfo.setBaseAssetPrecision(8);
+    symbolInfo.setQuotePrecision(8);
+    return symbolInfo;
+  }
+
+  private static OrderBook emptyOrderBook(long lastUpdateId) {
+    OrderBook orderBook = new OrderBook();
+    orderBook.setLastUpdateId(lastUpdateId);
+    orderBook.setBids(Collections.emptyList());
+    orderBook.setAsks(Collections.emptyList());
+    return orderBook;
+  }
+
+  private static DepthEvent depthEvent(String symbol, long firstUpdateId, long finalUpdateId) {
+    DepthEvent depthEvent = new DepthEvent();
+    depthEvent.setSymbol(symbol);
+    depthEvent.setFirstUpdateId(firstUpdateId);
+    depthEvent.setFinalUpdateId(finalUpdateId);
+    depthEvent.setBids(Collections.emptyList());
+    depthEvent.setAsks(Collections.emptyList());
+    return depthEvent;
+  }
+}
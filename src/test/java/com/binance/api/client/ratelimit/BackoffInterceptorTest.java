@@ -0,0 +1,116 @@
+package com.binance.api.client.ratelimit;
+
+import com.binance.api.client.exception.BinanceApiException;
+import com.binance.api.client.impl.BinanceApiService;
+import com.binance.api.client.impl.BinanceApiServiceGenerator;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @see BackoffInterceptor
+ */
+public class BackoffInterceptorTest {
+
+  private final AtomicInteger rejections = new AtomicInteger();
+
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  private HttpServer server;
+
+  private String baseUrl;
+
+  private BackoffInterceptor backoff;
+
+  private OkHttpClient client;
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      requestCount.incrementAndGet();
+      int status = 200;
+      byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+      if (rejections.getAndDecrement() > 0) {
+        status = 429;
+        body = "{\"code\":-1003,\"msg\":\"Too many requests.\"}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Retry-After", "1");
+      }
+      exchange.sendResponseHeaders(status, body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    backoff = new BackoffInterceptor(2, 5_000L);
+    client = new OkHttpClient.Builder().addInterceptor(backoff).build();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldRetryGetAfterAdvertisedPause() throws IOException {
+    rejections.set(1);
+    long start = System.currentTimeMillis();
+
+    try (Response response = client.newCall(new Request.Builder().url(baseUrl + "/api/v3/ping").build()).execute()) {
+      assertEquals(200, response.code());
+    }
+    assertEquals(2, requestCount.get());
+    assertTrue(System.currentTimeMillis() - start >= 1_000L);
+  }
+
+  @Test
+  public void shouldNeverRetryNorSendOrdersWhilePaused() throws IOException {
+    rejections.set(1);
+    Request order = new Request.Builder().url(baseUrl + "/api/v3/order")
+        .post(RequestBody.create(MediaType.parse("application/json"), "")).build();
+
+    try (Response response = client.newCall(order).execute()) {
+      assertEquals(429, response.code());
+    }
+    assertTrue(backoff.isPaused());
+    try (Response response = client.newCall(order).execute()) {
+      assertEquals(429, response.code());
+      assertEquals("1", response.header("Retry-After"));
+    }
+    assertEquals(1, requestCount.get());
+  }
+
+  @Test
+  public void shouldExposeStatusAndHeadersOnException() {
+    rejections.set(10);
+    BinanceApiService service = BinanceApiServiceGenerator.createService(BinanceApiService.class, null, null,
+        new OkHttpClient.Builder().addInterceptor(new BackoffInterceptor(0, 0L)).build(), baseUrl);
+    try {
+      BinanceApiServiceGenerator.executeSync(service.ping());
+      fail();
+    } catch (BinanceApiException e) {
+      assertTrue(e.isRateLimited());
+      assertFalse(e.isBanned());
+      assertEquals(1_000L, e.getRetryAfterMillis());
+      assertEquals(-1003, e.getError().getCode());
+    }
+  }
+}
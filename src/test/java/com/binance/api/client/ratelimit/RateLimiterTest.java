@@ -0,0 +1,98 @@
+package com.binance.api.client.ratelimit;
+
+import com.binance.api.client.domain.general.RateLimit;
+import com.binance.api.client.domain.general.RateLimitInterval;
+import com.binance.api.client.domain.general.RateLimitType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see RateLimiter
+ */
+public class RateLimiterTest {
+
+  private final AtomicLong now = new AtomicLong(1_600_000_000_000L);
+
+  private final RateLimiter rateLimiter = new RateLimiter(Arrays.asList(
+      rateLimit(RateLimitType.REQUEST_WEIGHT, RateLimitInterval.MINUTE, 1, 10),
+      rateLimit(RateLimitType.ORDERS, RateLimitInterval.SECOND, 10, 2),
+      rateLimit(RateLimitType.ORDERS, RateLimitInterval.DAY, 1, 1000)), now::get);
+
+  @Test
+  public void shouldRefuseWeightBeyondLimitUntilNextWindow() {
+    assertTrue(rateLimiter.tryAcquire(4, 0));
+    assertTrue(rateLimiter.tryAcquire(4, 0));
+    assertFalse(rateLimiter.tryAcquire(4, 0));
+    assertEquals(2, rateLimiter.getRemainingWeight());
+
+    now.addAndGet(60_000L);
+    assertTrue(rateLimiter.tryAcquire(4, 0));
+    assertEquals(6, rateLimiter.getRemainingWeight());
+  }
+
+  @Test
+  public void shouldTellWaitUntilRoomWithoutTakingAllowance() {
+    assertEquals(0L, rateLimiter.millisUntilAvailable(1, 2));
+    assertEquals(0L, rateLimiter.millisUntilAvailable(1, 2));
+    assertTrue(rateLimiter.tryAcquire(1, 2));
+
+    assertEquals(10_000L, rateLimiter.millisUntilAvailable(1, 1));
+    assertEquals(0L, rateLimiter.millisUntilAvailable(1, 0));
+    now.addAndGet(4_000L);
+    assertEquals(6_000L, rateLimiter.millisUntilAvailable(1, 1));
+  }
+
+  @Test
+  public void shouldWeighSnapshotsByDepth() {
+    assertEquals(5, DepthWeights.getSnapshotWeight(100));
+    assertEquals(25, DepthWeights.getSnapshotWeight(500));
+    assertEquals(50, DepthWeights.getSnapshotWeight(1000));
+    assertEquals(250, DepthWeights.getSnapshotWeight(5000));
+  }
+
+  @Test
+  public void shouldGiveBackWeightWhenOrdersAreRefused() {
+    assertTrue(rateLimiter.tryAcquire(1, 2));
+    assertFalse(rateLimiter.tryAcquire(1, 1));
+
+    assertEquals(9, rateLimiter.getRemainingWeight());
+    assertEquals(0, rateLimiter.getRemainingOrders());
+  }
+
+  @Test
+  public void shouldAlignOnUsedWeightAndOrderCountHeaders() {
+    assertTrue(rateLimiter.tryAcquire(1, 0));
+    rateLimiter.reconcile("x-mbx-used-weight-1m", "7");
+    rateLimiter.reconcile("X-MBX-ORDER-COUNT-10S", "1");
+    rateLimiter.reconcile("X-MBX-ORDER-COUNT-1D", "not a count");
+
+    assertEquals(3, rateLimiter.getRemainingWeight());
+    assertEquals(1, rateLimiter.getRemainingOrders());
+
+    // an older response reporting less does not lower the count
+    rateLimiter.reconcile("X-MBX-USED-WEIGHT-1M", "2");
+    assertEquals(3, rateLimiter.getRemainingWeight());
+  }
+
+  @Test
+  public void shouldGiveUpWhenLimitDoesNotLeaveRoomInTime() throws InterruptedException {
+    assertTrue(rateLimiter.acquire(10, 0, 0L));
+
+    assertFalse(rateLimiter.acquire(1, 0, 1_000L));
+  }
+
+  private static RateLimit rateLimit(RateLimitType type, RateLimitInterval interval, int intervalNum, int limit) {
+    RateLimit rateLimit = new RateLimit();
+    rateLimit.setRateLimitType(type);
+    rateLimit.setInterval(interval);
+    rateLimit.setIntervalNum(intervalNum);
+    rateLimit.setLimit(limit);
+    return rateLimit;
+  }
+}
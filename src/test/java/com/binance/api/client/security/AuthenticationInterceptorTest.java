@@ -0,0 +1,88 @@
+package com.binance.api.client.security;
+
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @see AuthenticationInterceptor
+ */
+public class AuthenticationInterceptorTest {
+
+  private HttpServer server;
+
+  private final List<String> queries = new ArrayList<>();
+
+  private final List<String> payloads = new ArrayList<>();
+
+  private String baseUrl;
+
+  private OkHttpClient client;
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      queries.add(exchange.getRequestURI().getRawQuery());
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+    });
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    client = new OkHttpClient.Builder()
+        .addInterceptor(new AuthenticationInterceptor("key", payload -> {
+          payloads.add(payload);
+          return "sig";
+        }))
+        .build();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldStampUnstampedSignedRequestsWhenSent() throws IOException {
+    long before = System.currentTimeMillis();
+    send(baseUrl + "/api/v3/order?symbol=LTCBTC&recvWindow=60000");
+    long after = System.currentTimeMillis();
+
+    String payload = payloads.get(0);
+    assertTrue(payload.startsWith("symbol=LTCBTC&recvWindow=60000&timestamp="));
+    long timestamp = Long.parseLong(payload.substring(payload.indexOf("timestamp=") + "timestamp=".length()));
+    assertTrue(timestamp >= before && timestamp <= after);
+    assertEquals(payload + "&signature=sig", queries.get(0));
+  }
+
+  @Test
+  public void shouldKeepTimestampsSetOnRequests() throws IOException {
+    send(baseUrl + "/api/v3/order?symbol=LTCBTC&timestamp=1499827319559");
+
+    assertEquals("symbol=LTCBTC&timestamp=1499827319559", payloads.get(0));
+    assertEquals("symbol=LTCBTC&timestamp=1499827319559&signature=sig", queries.get(0));
+  }
+
+  private void send(String url) throws IOException {
+    Request request = new Request.Builder()
+        .url(url)
+        .header(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED, "#")
+        .build();
+    try (Response response = client.newCall(request).execute()) {
+      assertEquals(200, response.code());
+    }
+  }
+}
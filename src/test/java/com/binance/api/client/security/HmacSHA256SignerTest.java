@@ -0,0 +1,64 @@
+package com.binance.api.client.security;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see HmacSHA256Signer
+ */
+public class HmacSHA256SignerTest {
+
+  // example of the API documentation
+  private static final String SECRET = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+  private static final String QUERY = "symbol=LTCBTC&side=BUY&type=LIMIT&timeInForce=GTC&quantity=1&price=0.1"
+      + "&recvWindow=5000&timestamp=1499827319559";
+
+  private static final String SIGNATURE = "c8db56825ae71d6d79447849e617115f4a920fa2acdcab2b053c4b2838bd6b71";
+
+  @Test
+  public void shouldSignAsDocumented() {
+    HmacSHA256Signer signer = new HmacSHA256Signer(SECRET);
+
+    assertEquals(SIGNATURE, signer.sign(QUERY));
+    assertEquals(SIGNATURE, signer.sign(QUERY));
+    assertEquals(SIGNATURE, HmacSHA256Signer.sign(QUERY, SECRET));
+  }
+
+  @Test
+  public void shouldSignLongAndNonAsciiMessages() {
+    StringBuilder longQuery = new StringBuilder(QUERY);
+    while (longQuery.length() < 2048) {
+      longQuery.append("&newClientOrderId=").append(longQuery.length());
+    }
+    HmacSHA256Signer signer = new HmacSHA256Signer(SECRET);
+
+    assertEquals(HmacSHA256Signer.sign(longQuery.toString(), SECRET), signer.sign(longQuery.toString()));
+    assertEquals(64, signer.sign("memo=\u00e9t\u00e9").length());
+    assertEquals(SIGNATURE, signer.sign(QUERY));
+  }
+
+  @Test
+  public void shouldSignConcurrently() throws Exception {
+    HmacSHA256Signer signer = new HmacSHA256Signer(SECRET);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String>> signatures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        signatures.add(executor.submit(() -> signer.sign(QUERY)));
+      }
+      for (Future<String> signature : signatures) {
+        assertEquals(SIGNATURE, signature.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.binance.api.client.security;
+
+import com.binance.api.client.constant.BinanceApiConstants;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @see TimestampInterceptor
+ */
+public class TimestampInterceptorTest {
+
+  private HttpServer server;
+
+  private final List<String> queries = new ArrayList<>();
+
+  private String baseUrl;
+
+  @Before
+  public void startServer() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", exchange -> {
+      queries.add(exchange.getRequestURI().getRawQuery());
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+    });
+    server.start();
+    baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @After
+  public void stopServer() {
+    server.stop(0);
+  }
+
+  @Test
+  public void shouldStampSignedRequestsWhenSent() throws IOException {
+    OkHttpClient client = new OkHttpClient.Builder()
+        .addInterceptor(new TimestampInterceptor(() -> 1499827319559L, 250L))
+        .build();
+
+    send(client, new Request.Builder()
+        .url(baseUrl + "/api/v3/order?symbol=LTCBTC&recvWindow=60000&timestamp=1")
+        .header(BinanceApiConstants.ENDPOINT_SECURITY_TYPE_SIGNED, "#"));
+    send(client, new Request.Builder().url(baseUrl + "/api/v3/time"));
+
+    assertEquals("symbol=LTCBTC&recvWindow=250&timestamp=1499827319559", queries.get(0));
+    assertEquals(null, queries.get(1));
+  }
+
+  private static void send(OkHttpClient client, Request.Builder request) throws IOException {
+    try (Response response = client.newCall(request.build()).execute()) {
+      assertEquals(200, response.code());
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.binance.api.domain.event;
+
+import com.binance.api.client.domain.event.DepthEvent;
+import com.binance.api.client.domain.market.OrderBookEntry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests that JSON responses from a depth event are converted to the appropriate <code>DepthEvent</code> object.
+ */
+public class DepthEventDeserializerTest {
+
+  @Test
+  public void testDepthEventDeserializer() {
+    final String depthEventJson = "{\"e\":\"depthUpdate\",\"E\":123456789,\"s\":\"BNBBTC\",\"U\":157,\"u\":160," +
+        "\"b\":[[\"0.0024\",\"10\"],[\"0.0023\",\"0\",[]]],\"a\":[[\"0.0026\",\"100\"]]}";
+    ObjectMapper mapper = new ObjectMapper();
+    try {
+      DepthEvent depthEvent = mapper.readValue(depthEventJson, DepthEvent.class);
+      assertEquals(depthEvent.getEventType(), "depthUpdate");
+      assertEquals(depthEvent.getEventTime(), 123456789L);
+      assertEquals(depthEvent.getSymbol(), "BNBBTC");
+      assertEquals(depthEvent.getFirstUpdateId(), 157L);
+      assertEquals(depthEvent.getFinalUpdateId(), 160L);
+
+      assertEquals(depthEvent.getBids().size(), 2);
+      OrderBookEntry bid = depthEvent.getBids().get(1);
+      assertEquals(bid.getPrice(), "0.0023");
+      assertEquals(bid.getQty(), "0");
+
+      assertEquals(depthEvent.getAsks().size(), 1);
+      OrderBookEntry ask = depthEvent.getAsks().get(0);
+      assertEquals(ask.getPrice(), "0.0026");
+      assertEquals(ask.getQty(), "100");
+    } catch (IOException e) {
+      fail(e.getMessage());
+    }
+  }
+}
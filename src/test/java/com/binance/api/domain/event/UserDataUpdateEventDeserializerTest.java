@@ -4,6 +4,7 @@ package com.binance.api.domain.event;
 import com.binance.api.client.domain.*;
 import com.binance.api.client.domain.account.AssetBalance;
 import com.binance.api.client.domain.event.AccountUpdateEvent;
+import com.binance.api.client.domain.event.BalanceUpdateEvent;
 import com.binance.api.client.domain.event.OrderTradeUpdateEvent;
 import com.binance.api.client.domain.event.UserDataUpdateEvent;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -85,6 +86,42 @@ public class UserDataUpdateEventDeserializerTest {
     }
   }
 
-}
+  @Test
+  public void testBalanceUpdateEventDeserializer() {
+    final String balanceUpdateJson = "{\"e\":\"balanceUpdate\",\"E\":1573200697110,\"a\":\"BTC\",\"d\":\"100.00000000\",\"T\":1573200697068}";
+    ObjectMapper mapper = new ObjectMapper();
+    try {
+      UserDataUpdateEvent userDataUpdateEvent = mapper.readValue(balanceUpdateJson, UserDataUpdateEvent.class);
+      assertEquals(userDataUpdateEvent.getEventType().getEventTypeId(), "balanceUpdate");
+      assertEquals(userDataUpdateEvent.getEventTime(), 1573200697110L);
+
+      BalanceUpdateEvent balanceUpdateEvent = userDataUpdateEvent.getBalanceUpdateEvent();
+      assertEquals(balanceUpdateEvent.getEventTime(), 1573200697110L);
+      assertEquals(balanceUpdateEvent.getAsset(), "BTC");
+      assertEquals(balanceUpdateEvent.getBalanceDelta(), "100.00000000");
+      assertEquals(balanceUpdateEvent.getClearTime(), Long.valueOf(1573200697068L));
+    } catch (IOException e) {
+      fail();
+    }
+  }
 
+  @Test
+  public void testEventTypeAfterPayloadDeserializer() {
+    final String orderUpdateEventJson = "{\"s\":\"NEOETH\",\"i\":123456,\"E\":1,\"S\":\"SELL\",\"e\":\"executionReport\",\"c\":\"XXX\",\"X\":\"NEW\"}";
+    ObjectMapper mapper = new ObjectMapper();
+    try {
+      UserDataUpdateEvent userDataUpdateEvent = mapper.readValue(orderUpdateEventJson, UserDataUpdateEvent.class);
+      assertEquals(userDataUpdateEvent.getEventType().getEventTypeId(), "executionReport");
+      assertEquals(userDataUpdateEvent.getEventTime(), 1L);
 
+      OrderTradeUpdateEvent orderTradeUpdateEvent = userDataUpdateEvent.getOrderTradeUpdateEvent();
+      assertEquals(orderTradeUpdateEvent.getSymbol(), "NEOETH");
+      assertEquals(orderTradeUpdateEvent.getOrderId(), Long.valueOf(123456));
+      assertEquals(orderTradeUpdateEvent.getSide(), OrderSide.SELL);
+      assertEquals(orderTradeUpdateEvent.getNewClientOrderId(), "XXX");
+      assertEquals(orderTradeUpdateEvent.getOrderStatus(), OrderStatus.NEW);
+    } catch (IOException e) {
+      fail();
+    }
+  }
+}
@@ -117,6 +117,8 @@ public class ExchangeInfoDeserializerTest {
       assertEquals((int)symbolInfo.getQuotePrecision(), 8);
       assertEquals(symbolInfo.getOrderTypes(), Arrays.asList(OrderType.LIMIT, OrderType.MARKET));
       assertFalse(symbolInfo.isIcebergAllowed());
+      assertEquals(symbolInfo.getPriceScale(), 6);
+      assertEquals(symbolInfo.getQuantityScale(), 3);
 
       List<SymbolFilter> symbolFilters = symbolInfo.getFilters();
       assertEquals(5, symbolFilters.size());
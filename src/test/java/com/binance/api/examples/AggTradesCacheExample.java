@@ -54,8 +54,8 @@ public class AggTradesCacheExample {
         updateAggTrade = new AggTrade();
       }
       updateAggTrade.setAggregatedTradeId(aggregatedTradeId);
-      updateAggTrade.setPrice(response.getPrice());
-      updateAggTrade.setQuantity(response.getQuantity());
+      updateAggTrade.setPriceValue(response.getPriceValue());
+      updateAggTrade.setQuantityValue(response.getQuantityValue());
       updateAggTrade.setFirstBreakdownTradeId(response.getFirstBreakdownTradeId());
       updateAggTrade.setLastBreakdownTradeId(response.getLastBreakdownTradeId());
       updateAggTrade.setBuyerMaker(response.isBuyerMaker());
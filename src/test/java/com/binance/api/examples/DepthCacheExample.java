@@ -98,13 +98,13 @@ public class DepthCacheExample {
 
     NavigableMap<BigDecimal, BigDecimal> asks = new TreeMap<>(Comparator.reverseOrder());
     for (OrderBookEntry ask : orderBook.getAsks()) {
-      asks.put(new BigDecimal(ask.getPrice()), new BigDecimal(ask.getQty()));
+      asks.put(ask.getPriceValue().toBigDecimal(), ask.getQtyValue().toBigDecimal());
     }
     depthCache.put(ASKS, asks);
 
     NavigableMap<BigDecimal, BigDecimal> bids = new TreeMap<>(Comparator.reverseOrder());
     for (OrderBookEntry bid : orderBook.getBids()) {
-      bids.put(new BigDecimal(bid.getPrice()), new BigDecimal(bid.getQty()));
+      bids.put(bid.getPriceValue().toBigDecimal(), bid.getQtyValue().toBigDecimal());
     }
     depthCache.put(BIDS, bids);
   }
@@ -148,13 +148,12 @@ public class DepthCacheExample {
   private void updateOrderBook(NavigableMap<BigDecimal, BigDecimal> lastOrderBookEntries,
                                List<OrderBookEntry> orderBookDeltas) {
     for (OrderBookEntry orderBookDelta : orderBookDeltas) {
-      BigDecimal price = new BigDecimal(orderBookDelta.getPrice());
-      BigDecimal qty = new BigDecimal(orderBookDelta.getQty());
-      if (qty.compareTo(BigDecimal.ZERO) == 0) {
+      BigDecimal price = orderBookDelta.getPriceValue().toBigDecimal();
+      if (orderBookDelta.getQtyValue().isZero()) {
         // qty=0 means remove this level
         lastOrderBookEntries.remove(price);
       } else {
-        lastOrderBookEntries.put(price, qty);
+        lastOrderBookEntries.put(price, orderBookDelta.getQtyValue().toBigDecimal());
       }
     }
   }
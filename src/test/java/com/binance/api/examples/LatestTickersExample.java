@@ -0,0 +1,24 @@
+package com.binance.api.examples;
+
+import com.binance.api.client.BinanceApiClientFactory;
+import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.dispatch.EventDispatcher;
+import com.binance.api.client.domain.event.TickerEvent;
+
+/**
+ * Latest tickers example.
+ *
+ * It illustrates how a slow consumer of all market tickers can skip stale updates, only receiving the latest ticker of
+ * every symbol updated since it last caught up.
+ */
+public class LatestTickersExample {
+
+  public static void main(String[] args) {
+    BinanceApiWebSocketClient client = BinanceApiClientFactory.newInstance().newWebSocketClient();
+
+    EventDispatcher<TickerEvent> latestTickers = EventDispatcher.latestTickers(tickerEvent -> {
+      System.out.println(tickerEvent);
+    }, null);
+    client.onAllMarketTickersEvent(latestTickers.forLists());
+  }
+}
@@ -0,0 +1,35 @@
+package com.binance.api.examples;
+
+import com.binance.api.client.BinanceApiClientFactory;
+import com.binance.api.client.BinanceApiRestClient;
+import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.domain.general.SymbolInfo;
+import com.binance.api.client.orderbook.LocalOrderBook;
+import com.binance.api.client.orderbook.OrderBookSnapshotSource;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Illustrates how to maintain a local order book with {@link LocalOrderBook}, which takes care of snapshots, sequence
+ * validation and resynchronization, and can be read from any thread.
+ */
+public class LocalOrderBookExample {
+
+  public static void main(String[] args) throws InterruptedException {
+    BinanceApiClientFactory factory = BinanceApiClientFactory.newInstance();
+    BinanceApiRestClient restClient = factory.newRestClient();
+    BinanceApiWebSocketClient wsClient = factory.newWebSocketClient();
+    ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor();
+
+    SymbolInfo symbolInfo = restClient.getExchangeInfo().getSymbolInfo("ETHBTC");
+    LocalOrderBook orderBook = new LocalOrderBook(symbolInfo, OrderBookSnapshotSource.fromRestClient(restClient, 1000), snapshotExecutor);
+    wsClient.onDepthEvent("ethbtc", orderBook);
+
+    while (true) {
+      Thread.sleep(1000);
+      System.out.println(orderBook.getState() + " " + orderBook.getBestBid() + " " + orderBook.getBestAsk());
+      System.out.println(orderBook.snapshot(5));
+    }
+  }
+}
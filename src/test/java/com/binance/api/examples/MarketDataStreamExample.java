@@ -2,6 +2,7 @@ package com.binance.api.examples;
 
 import com.binance.api.client.BinanceApiClientFactory;
 import com.binance.api.client.BinanceApiWebSocketClient;
+import com.binance.api.client.CombinedStream;
 import com.binance.api.client.domain.market.CandlestickInterval;
 
 import java.io.IOException;
@@ -24,5 +25,10 @@ public class MarketDataStreamExample {
 
     // Obtain 1m candlesticks in real-time for ETH/BTC
     client.onCandlestickEvent("ethbtc", CandlestickInterval.ONE_MINUTE, response -> System.out.println(response));
+
+    // Receive depth events of several symbols and their book tickers over a single connection
+    client.onCombinedStream(new CombinedStream()
+        .onDepthEvent("ethbtc,bnbbtc", response -> System.out.println(response))
+        .onBookTickerEvent("ethbtc,bnbbtc", response -> System.out.println(response)));
   }
 }
@@ -0,0 +1,39 @@
+package com.binance.api.examples;
+
+import com.binance.api.client.BinanceApiClientFactory;
+import com.binance.api.client.BinanceApiCompletableRestClient;
+import com.binance.api.client.domain.account.request.CancelOrderRequest;
+import com.binance.api.client.domain.account.request.OrderStatusRequest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.binance.api.client.domain.account.NewOrder.limitBuy;
+import static com.binance.api.client.domain.TimeInForce.GTC;
+
+/**
+ * Examples on how to place, query and cancel an order by composing futures.
+ */
+public class OrdersExampleCompletable {
+
+  public static void main(String[] args) {
+    BinanceApiClientFactory factory = BinanceApiClientFactory.newInstance("YOUR_API_KEY", "YOUR_SECRET");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    BinanceApiCompletableRestClient client = factory.newCompletableRestClient(executor);
+
+    // Place an order, check its status, then cancel it
+    client.newOrder(limitBuy("LINKETH", GTC, "1000", "0.0001"))
+        .thenCompose(response -> client.getOrderStatus(new OrderStatusRequest("LINKETH", response.getOrderId())))
+        .thenCompose(order -> client.cancelOrder(new CancelOrderRequest("LINKETH", order.getOrderId())))
+        .whenComplete((response, cause) -> System.out.println(cause != null ? cause : response))
+        .join();
+
+    // Fan out requests and combine their responses
+    client.getPrice("ETHBTC")
+        .thenCombine(client.getPrice("LINKETH"), (ethBtc, linkEth) -> ethBtc + " " + linkEth)
+        .thenAccept(System.out::println)
+        .join();
+
+    executor.shutdown();
+  }
+}